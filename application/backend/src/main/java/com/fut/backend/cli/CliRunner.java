@@ -1,43 +1,156 @@
 package com.fut.backend.cli;
 
 import com.fut.backend.core.TestManager;
+import com.fut.backend.core.cds.ApplicationArchive;
+import com.fut.backend.core.discovery.TestDiscovery;
+import com.fut.backend.core.discovery.TestSelection;
+import com.fut.backend.core.history.RunHistory;
+import com.fut.backend.core.history.TestTrend;
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.core.report.ReportMerger;
+import com.fut.backend.core.shard.Shard;
+import com.fut.backend.core.shard.ShardPlanner;
+import com.fut.backend.core.validator.ValidationResultCache;
+import com.fut.backend.core.watch.TestWatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
-import java.io.File;
-import java.util.Arrays;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class CliRunner implements CommandLineRunner {
 
   private static final Logger logger = LoggerFactory.getLogger(CliRunner.class);
+  private static final int DEFAULT_HISTORY_RUNS = 50;
   private final TestManager testManager;
-
-  public CliRunner(TestManager testManager) {
+  private final ValidationResultCache resultCache;
+  private final TestWatcher testWatcher;
+  private final ShardPlanner shardPlanner;
+  private final ReportMerger reportMerger;
+  private final ApplicationArchive applicationArchive;
+  private final TestDiscovery testDiscovery;
+  private final RunHistory runHistory;
+
+  public CliRunner(TestManager testManager, ValidationResultCache resultCache, TestWatcher testWatcher,
+      ShardPlanner shardPlanner, ReportMerger reportMerger, ApplicationArchive applicationArchive,
+      TestDiscovery testDiscovery, RunHistory runHistory) {
     this.testManager = testManager;
+    this.resultCache = resultCache;
+    this.testWatcher = testWatcher;
+    this.shardPlanner = shardPlanner;
+    this.reportMerger = reportMerger;
+    this.applicationArchive = applicationArchive;
+    this.testDiscovery = testDiscovery;
+    this.runHistory = runHistory;
   }
 
   @Override
   public void run(String... args) {
+    applicationArchive.recordStartup();
     try {
       if (args.length == 0) {
         showUsage();
         return;
       }
 
-      List<String> testFiles = resolveTestFiles(args);
-      if (testFiles.isEmpty()) {
+      List<String> options = new ArrayList<>();
+      List<String> positional = new ArrayList<>();
+      String shardSpec = null;
+      Set<String> ids = new LinkedHashSet<>();
+      Set<String> tags = new LinkedHashSet<>();
+      int lastRuns = DEFAULT_HISTORY_RUNS;
+      for (int i = 0; i < args.length; i++) {
+        if (args[i].equals("--shard") && i + 1 < args.length) {
+          shardSpec = args[++i];
+        } else if (args[i].startsWith("--shard=")) {
+          shardSpec = args[i].substring("--shard=".length());
+        } else if (args[i].equals("--id") && i + 1 < args.length) {
+          addValues(ids, args[++i]);
+        } else if (args[i].startsWith("--id=")) {
+          addValues(ids, args[i].substring("--id=".length()));
+        } else if (args[i].equals("--tag") && i + 1 < args.length) {
+          addValues(tags, args[++i]);
+        } else if (args[i].startsWith("--tag=")) {
+          addValues(tags, args[i].substring("--tag=".length()));
+        } else if (args[i].equals("--last") && i + 1 < args.length) {
+          lastRuns = Integer.parseInt(args[++i]);
+        } else if (args[i].startsWith("--last=")) {
+          lastRuns = Integer.parseInt(args[i].substring("--last=".length()));
+        } else if (args[i].startsWith("--")) {
+          options.add(args[i]);
+        } else {
+          positional.add(args[i]);
+        }
+      }
+      String command = !positional.isEmpty() && List.of("prepare", "merge", "history").contains(positional.get(0))
+          ? positional.remove(0)
+          : "run";
+      applyOptions(options);
+
+      if (command.equals("merge")) {
+        if (positional.isEmpty()) {
+          logger.error("Informe os relatórios parciais a combinar");
+          showUsage();
+          return;
+        }
+        reportMerger.merge(positional);
+        return;
+      }
+
+      if (command.equals("history")) {
+        showHistory(lastRuns, ids);
+        return;
+      }
+
+      List<String> discovered = testDiscovery.discover(positional);
+      if (discovered.isEmpty()) {
         logger.error("Nenhum arquivo de teste válido encontrado");
         showUsage();
         return;
       }
+      TestSelection selection = new TestSelection(ids, tags);
+      List<String> testFiles = testDiscovery.select(discovered, selection);
+      if (testFiles.isEmpty()) {
+        logger.error("Nenhum teste corresponde aos filtros --id/--tag informados");
+        return;
+      }
+
+      if (command.equals("prepare")) {
+        testManager.prepareTests(testFiles);
+        return;
+      }
+
+      if (options.contains("--watch")) {
+        if (testFiles.stream().anyMatch(SuiteArchives::isEntry)) {
+          logger.warn("Alterações dentro de arquivos compactados não são monitoradas no modo watch");
+        }
+        testWatcher.watch(testFiles, selection);
+        return;
+      }
+
+      if (shardSpec != null) {
+        Shard shard = Shard.parse(shardSpec);
+        logger.info("Iniciando execução do shard {}/{} em {} arquivo(s) de teste", shard.index(), shard.count(),
+            testFiles.size());
+        testManager.executeTests(testFiles, shardPlanner.plan(testFiles, shard, selection));
+        logger.info("Execução concluída com sucesso");
+        return;
+      }
 
       logger.info("Iniciando execução de {} teste(s)", testFiles.size());
-      testManager.executeTests(testFiles);
+      if (selection.isEmpty()) {
+        testManager.executeTests(testFiles);
+      } else {
+        testManager.executeTests(testFiles, selection, null);
+      }
       logger.info("Execução concluída com sucesso");
 
     } catch (Exception e) {
@@ -46,44 +159,40 @@ public class CliRunner implements CommandLineRunner {
     }
   }
 
-  private List<String> resolveTestFiles(String[] args) {
-    File projectRoot = new File(System.getProperty("user.dir")).getParentFile().getParentFile();
-    File testDir = new File(projectRoot, "tests");
-
-    return Arrays.stream(args)
-        .flatMap(arg -> {
-          String normalizedArg = arg.replace("\\", "/");
-          File file = new File(arg);
-
-          if (file.isAbsolute() && file.exists()) {
-            return Arrays.stream(new String[] { file.getAbsolutePath() });
-          }
-
-          if (arg.contains("*")) {
-            String pattern = arg.replace("*", ".*");
-            File dir = testDir.exists() ? testDir : new File(".");
-            return Arrays.stream(dir.listFiles((d, name) -> name.matches(pattern)))
-                .map(File::getAbsolutePath);
-          }
-
-          File testFile = new File(testDir, arg);
-          return Arrays.stream(new String[] { testFile.getAbsolutePath() });
-        })
-        .map(File::new)
-        .filter(file -> {
-          if (!file.exists()) {
-            logger.warn("Arquivo não encontrado: {}", file.getAbsolutePath());
-            return false;
-          }
-          if (!file.getName().toLowerCase().endsWith(".yml") &&
-              !file.getName().toLowerCase().endsWith(".yaml")) {
-            logger.warn("Arquivo não é YAML: {}", file.getAbsolutePath());
-            return false;
-          }
-          return true;
-        })
-        .map(File::getAbsolutePath)
-        .collect(Collectors.toList());
+  private void applyOptions(List<String> options) {
+    if (options.contains("--no-cache")) {
+      resultCache.setMode(ValidationResultCache.Mode.DISABLED);
+    } else if (options.contains("--refresh-cache")) {
+      resultCache.setMode(ValidationResultCache.Mode.REFRESH);
+    }
+  }
+
+  private void showHistory(int lastRuns, Set<String> ids) throws IOException {
+    long startTime = System.nanoTime();
+    List<TestTrend> trends = runHistory.query(lastRuns, ids);
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    if (trends.isEmpty()) {
+      logger.info("Nenhuma execução registrada no histórico");
+      return;
+    }
+
+    StringBuilder table = new StringBuilder(String.format("%-40s %6s %9s %6s %8s %8s %10s%n", "test_id", "runs",
+        "pass_rate", "flips", "p50_ms", "p95_ms", "p50_trend"));
+    for (TestTrend trend : trends) {
+      table.append(String.format(Locale.ROOT, "%-40s %6d %8.1f%% %6d %8d %8d %+10d%n", trend.testId(), trend.runs(),
+          trend.passRate() * 100, trend.flips(), trend.p50Ms(), trend.p95Ms(), trend.p50TrendMs()));
+    }
+    long totalRuns = runHistory.countRuns();
+    logger.info("Histórico das últimas {} de {} execução(ões): {} teste(s), consulta em {} ms\n{}",
+        Math.min(lastRuns, totalRuns), totalRuns, trends.size(), elapsedMs, table);
+  }
+
+  private static void addValues(Set<String> target, String values) {
+    for (String value : values.split(",")) {
+      if (!value.isBlank()) {
+        target.add(value.trim());
+      }
+    }
   }
 
   private void showUsage() {
@@ -91,11 +200,26 @@ public class CliRunner implements CommandLineRunner {
         Uso:
           java -jar fut.jar <arquivo-testes.yml>  # Executa um arquivo específico
           java -jar fut.jar test-*.yml            # Executa múltiplos testes
+          java -jar fut.jar tests/                # Executa todos os testes do diretório e subdiretórios
+          java -jar fut.jar 'tests/**/*.yml'      # Executa os testes que casam com o padrão recursivo
+          java -jar fut.jar prepare test-*.yml    # Prepara IGs e arquivos CDS usados pelos testes
+          java -jar fut.jar merge reports/test-report-shard-*.json  # Combina relatórios parciais
+          java -jar fut.jar history --last 100    # Taxa de sucesso, alternâncias e durações por teste
           java -jar fut.jar                       # Mostra esta ajuda
 
+        Opções:
+          --no-cache         Ignora o cache de resultados do validador
+          --refresh-cache    Revalida tudo e regrava o cache de resultados
+          --watch            Mantém o FUT em execução e reexecuta os testes afetados a cada alteração
+          --shard i/n        Executa apenas a parte i de n dos testes e grava um relatório parcial
+          --id a,b           Executa apenas os testes com os ids informados
+          --tag x,y          Executa apenas os testes com alguma das tags informadas
+          --last n           No comando history, considera apenas as últimas n execuções (padrão: 50)
+
         Exemplos:
           java -jar fut.jar tests/patient-001.yml
           java -jar fut.jar tests/*.yml
+          java -jar fut.jar tests/ --tag smoke
         """);
   }
 }
@@ -1,21 +1,34 @@
 package com.fut.backend.core;
 
+import com.fut.backend.core.cds.ApplicationArchive;
+import com.fut.backend.core.comparator.InvariantEvaluator;
 import com.fut.backend.core.comparator.ResultComparator;
+import com.fut.backend.core.reader.SuiteArchives;
 import com.fut.backend.core.reader.TestCaseReader;
 import com.fut.backend.core.report.ReportGenerator;
+import com.fut.backend.core.report.ReportSink;
+import com.fut.backend.core.report.TestDurationHistory;
+import com.fut.backend.core.fhirpath.FhirPathEngine;
+import com.fut.backend.core.metrics.PipelineMetrics;
+import com.fut.backend.core.prevalidation.PreValidator;
+import com.fut.backend.core.shard.ShardSelection;
 import com.fut.backend.core.validator.ValidatorExecutor;
 import com.fut.backend.domain.TestCase;
+import com.fut.backend.domain.TestResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @Component
 public class TestManager {
@@ -23,62 +36,136 @@ public class TestManager {
   private static final Logger logger = LoggerFactory.getLogger(TestManager.class);
 
   private final TestCaseReader testCaseReader;
+  private final SuiteArchives suiteArchives;
   private final ValidatorExecutor validatorExecutor;
+  private final PreValidator preValidator;
   private final ResultComparator resultComparator;
+  private final InvariantEvaluator invariantEvaluator;
+  private final FhirPathEngine fhirPathEngine;
   private final ReportGenerator reportGenerator;
+  private final TestDurationHistory durationHistory;
+  private final PipelineMetrics metrics;
+  private final ApplicationArchive applicationArchive;
+  private final TestPipeline.Settings pipelineSettings;
 
   public TestManager(TestCaseReader testCaseReader,
+      SuiteArchives suiteArchives,
       ValidatorExecutor validatorExecutor,
+      PreValidator preValidator,
       ResultComparator resultComparator,
-      ReportGenerator reportGenerator) {
+      InvariantEvaluator invariantEvaluator,
+      FhirPathEngine fhirPathEngine,
+      ReportGenerator reportGenerator,
+      TestDurationHistory durationHistory,
+      PipelineMetrics metrics,
+      ApplicationArchive applicationArchive,
+      @Value("${fut.pipeline.load-parallelism:0}") int loadParallelism,
+      @Value("${fut.pipeline.validate-parallelism:0}") int validateParallelism,
+      @Value("${fut.pipeline.compare-parallelism:0}") int compareParallelism,
+      @Value("${fut.pipeline.queue-capacity:1000}") int queueCapacity,
+      @Value("${fut.pipeline.test-timeout-ms:60000}") long testTimeoutMs,
+      @Value("${fut.validator.batch.size:1}") int batchSize,
+      @Value("${fut.validator.batch.max-wait-ms:500}") long batchMaxWaitMs,
+      @Value("${fut.scheduling.longest-first:true}") boolean longestFirst,
+      @Value("${fut.logging.test-buffer-lines:200}") int testLogLines) {
     this.testCaseReader = testCaseReader;
+    this.suiteArchives = suiteArchives;
     this.validatorExecutor = validatorExecutor;
+    this.preValidator = preValidator;
     this.resultComparator = resultComparator;
+    this.invariantEvaluator = invariantEvaluator;
+    this.fhirPathEngine = fhirPathEngine;
     this.reportGenerator = reportGenerator;
+    this.durationHistory = durationHistory;
+    this.metrics = metrics;
+    this.applicationArchive = applicationArchive;
+    this.pipelineSettings = new TestPipeline.Settings(orCoreCount(loadParallelism),
+        orCoreCount(validateParallelism), orCoreCount(compareParallelism), queueCapacity, testTimeoutMs,
+        batchSize, batchMaxWaitMs, longestFirst, testLogLines);
   }
 
   public void executeTests(List<String> testFiles) {
-    ExecutorService executor = Executors.newFixedThreadPool(4);
-    List<TestCase> allTestCases = new ArrayList<>();
-    Map<String, List<String>> discrepanciesByTestId = new HashMap<>();
+    executeTests(testFiles, testCase -> true, null);
+  }
+
+  public void executeTests(List<String> testFiles, ShardSelection selection) {
+    execute(testFiles, selection.filter(), null, reportGenerator.startReport(selection.shard().reportName()),
+        Map.of("shard", selection.section()));
+  }
+
+  public void executeTests(List<String> testFiles, Predicate<TestCase> filter, Map<String, TestResult> latestResults) {
+    execute(testFiles, filter, latestResults, reportGenerator.startReport(), Map.of());
+  }
+
+  private void execute(List<String> testFiles, Predicate<TestCase> filter, Map<String, TestResult> latestResults,
+      ReportSink reportSink, Map<String, Object> extraSections) {
+    Set<String> executedIds = new HashSet<>();
+    Consumer<TestResult> resultSink = latestResults == null ? reportSink::accept : result -> {
+      reportSink.accept(result);
+      latestResults.put(result.getTestId(), result);
+      executedIds.add(result.getTestId());
+    };
+    TestPipeline pipeline = new TestPipeline(testCaseReader, validatorExecutor, preValidator, resultComparator,
+        invariantEvaluator, filter, resultSink, durationHistory, metrics, pipelineSettings);
+
+    try {
+      pipeline.run(testFiles);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.error("Interrupção na execução dos testes: {}", e.getMessage());
+    }
+
+    if (latestResults != null) {
+      latestResults.values().stream()
+          .filter(result -> !executedIds.contains(result.getTestId()))
+          .forEach(reportSink::acceptPrevious);
+    }
+
+    Map<String, Object> sections = new LinkedHashMap<>(extraSections);
+    sections.put("startup", applicationArchive.getStatistics());
+    sections.put("pre_validation", preValidator.getStatistics());
+    sections.put("validator", validatorExecutor.getStatistics());
+    sections.put("invariants", Map.of("compiled_expressions", fhirPathEngine.getCompiledCount()));
+    sections.put("packages", validatorExecutor.getPreparationStatistics());
+    sections.put("scheduling", pipeline.getSchedulingStatistics());
+    sections.put("archives", suiteArchives.getStatistics());
+    sections.put("model", testCaseReader.getStatistics());
+    sections.put("metrics", metrics.snapshot());
+    reportSink.close(sections);
+    metrics.writePrometheus();
+  }
 
+  public void prepareTests(List<String> testFiles) {
+    Set<String> igs = new LinkedHashSet<>();
+    List<TestCase> firstTestCase = new ArrayList<>(1);
     for (String testFile : testFiles) {
-      try {
-        List<TestCase> testCases = testCaseReader.loadTestCases(testFile);
-        allTestCases.addAll(testCases);
-
-        for (TestCase testCase : testCases) {
-          executor.submit(() -> {
-            try {
-              List<String> validatorOutput = validatorExecutor.validate(testCase);
-              List<String> discrepancies = resultComparator.compare(validatorOutput, testCase.getExpectedResult());
-              synchronized (discrepanciesByTestId) {
-                discrepanciesByTestId.put(testCase.getId(), discrepancies);
-              }
-            } catch (Exception e) {
-              logger.error("Erro ao executar teste {}: {}", testCase.getId(), e.getMessage());
-              synchronized (discrepanciesByTestId) {
-                discrepanciesByTestId.put(testCase.getId(), List.of("Erro: " + e.getMessage()));
-              }
-            }
-          });
+      testCaseReader.readTestCases(testFile, testCase -> {
+        if (firstTestCase.isEmpty()) {
+          firstTestCase.add(testCase);
         }
-      } catch (Exception e) {
-        logger.error("Erro ao carregar arquivo {}: {}", testFile, e.getMessage());
-      }
+        if (testCase.getContext() != null && testCase.getContext().getIgs() != null) {
+          igs.addAll(testCase.getContext().getIgs());
+        }
+      });
     }
 
-    executor.shutdown();
-    try {
-      if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
-        executor.shutdownNow();
-        logger.warn("Timeout na execução dos testes");
+    validatorExecutor.prepareCore();
+    logger.info("Preparando {} IG(s) referenciado(s) pelos testes", igs.size());
+    for (String ig : igs) {
+      validatorExecutor.prepare(ig);
+    }
+    if (!firstTestCase.isEmpty()) {
+      try {
+        validatorExecutor.trainClassDataSharing(firstTestCase.get(0));
+      } catch (RuntimeException e) {
+        logger.warn("Falha ao gerar arquivo CDS do validador: {}", e.getMessage());
       }
-    } catch (InterruptedException e) {
-      executor.shutdownNow();
-      logger.error("Interrupção na execução dos testes: {}", e.getMessage());
     }
+    applicationArchive.prepare();
+    logger.info("Preparação concluída: {}", validatorExecutor.getPreparationStatistics());
+  }
 
-    reportGenerator.generateReport(allTestCases, discrepanciesByTestId);
+  private static int orCoreCount(int parallelism) {
+    return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
   }
-}
\ No newline at end of file
+}
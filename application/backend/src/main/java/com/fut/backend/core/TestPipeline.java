@@ -0,0 +1,378 @@
+package com.fut.backend.core;
+
+import com.fut.backend.core.comparator.InvariantEvaluator;
+import com.fut.backend.core.comparator.ResultComparator;
+import com.fut.backend.core.logging.TestLogs;
+import com.fut.backend.core.metrics.PipelineMetrics;
+import com.fut.backend.core.prevalidation.PreValidator;
+import com.fut.backend.core.reader.TestCaseReader;
+import com.fut.backend.core.report.TestDurationHistory;
+import com.fut.backend.core.validator.ValidationBatcher;
+import com.fut.backend.core.validator.ValidationOutcome;
+import com.fut.backend.core.validator.ValidatorExecutor;
+import com.fut.backend.domain.TestCase;
+import com.fut.backend.domain.TestResult;
+import com.fut.backend.domain.ValidationIssue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+class TestPipeline {
+
+  private static final Logger logger = LoggerFactory.getLogger(TestPipeline.class);
+  private static final QueuedTest END_OF_STREAM = new QueuedTest(new TestCase(), 0, 0, Long.MAX_VALUE);
+
+  record Settings(int loadParallelism, int validateParallelism, int compareParallelism, int queueCapacity,
+      long testTimeoutMs, int batchSize, long batchMaxWaitMs, boolean longestFirst, int testLogLines) {
+  }
+
+  private record QueuedTest(TestCase testCase, long enqueuedAt, long estimateMs, long sequence) {
+  }
+
+  private static final class MakespanSimulation {
+
+    private final PriorityQueue<Long> workers = new PriorityQueue<>();
+    private long makespan;
+    private long scheduled;
+
+    private MakespanSimulation(int parallelism) {
+      for (int i = 0; i < parallelism; i++) {
+        workers.add(0L);
+      }
+    }
+
+    private void schedule(long estimateMs) {
+      long finishedAt = workers.poll() + estimateMs;
+      workers.add(finishedAt);
+      makespan = Math.max(makespan, finishedAt);
+      scheduled++;
+    }
+  }
+
+  private final TestCaseReader testCaseReader;
+  private final ValidatorExecutor validatorExecutor;
+  private final PreValidator preValidator;
+  private final ResultComparator resultComparator;
+  private final InvariantEvaluator invariantEvaluator;
+  private final Predicate<TestCase> filter;
+  private final Consumer<TestResult> resultSink;
+  private final TestDurationHistory durationHistory;
+  private final PipelineMetrics metrics;
+  private final Settings settings;
+
+  private final BlockingQueue<QueuedTest> validateQueue;
+  private final Semaphore validateQueueSlots;
+  private final BlockingQueue<TestResult> resultQueue;
+  private final Semaphore inFlightValidations;
+  private final AtomicLong submittedTests = new AtomicLong();
+  private final AtomicLong knownTests = new AtomicLong();
+  private final MakespanSimulation fileOrder;
+  private final MakespanSimulation dispatchOrder;
+  private volatile long expectedResults = -1;
+  private volatile long firstDispatchAt;
+  private volatile long lastResultAt;
+  private volatile Throwable dispatchFailure;
+
+  TestPipeline(TestCaseReader testCaseReader, ValidatorExecutor validatorExecutor, PreValidator preValidator,
+      ResultComparator resultComparator, InvariantEvaluator invariantEvaluator, Predicate<TestCase> filter,
+      Consumer<TestResult> resultSink, TestDurationHistory durationHistory, PipelineMetrics metrics,
+      Settings settings) {
+    this.testCaseReader = testCaseReader;
+    this.validatorExecutor = validatorExecutor;
+    this.preValidator = preValidator;
+    this.resultComparator = resultComparator;
+    this.invariantEvaluator = invariantEvaluator;
+    this.filter = filter;
+    this.resultSink = resultSink;
+    this.durationHistory = durationHistory;
+    this.metrics = metrics;
+    this.settings = settings;
+    this.validateQueue = new PriorityBlockingQueue<>(settings.queueCapacity(), dispatchOrdering(settings));
+    this.validateQueueSlots = new Semaphore(settings.queueCapacity());
+    this.resultQueue = new ArrayBlockingQueue<>(settings.queueCapacity());
+    this.inFlightValidations = new Semaphore(settings.validateParallelism() * Math.max(1, settings.batchSize()));
+    this.fileOrder = new MakespanSimulation(settings.validateParallelism());
+    this.dispatchOrder = new MakespanSimulation(settings.validateParallelism());
+  }
+
+  void run(List<String> testFiles) throws InterruptedException {
+    ExecutorService loaders = Executors.newFixedThreadPool(settings.loadParallelism());
+    ExecutorService validators = Executors.newVirtualThreadPerTaskExecutor();
+    ThreadPoolExecutor comparators = new ThreadPoolExecutor(settings.compareParallelism(),
+        settings.compareParallelism(), 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(settings.queueCapacity()), new ThreadPoolExecutor.CallerRunsPolicy());
+    ValidationBatcher batcher = new ValidationBatcher(validatorExecutor, validators, settings.batchSize(),
+        settings.batchMaxWaitMs());
+    metrics.bindQueues(validateQueue::size, resultQueue::size);
+
+    Thread dispatcher = Thread.ofVirtual().name("fut-dispatch")
+        .start(() -> dispatch(batcher, validators, comparators));
+    Thread sink = Thread.ofPlatform().name("fut-report").start(this::drainResults);
+
+    try {
+      for (String testFile : testFiles) {
+        loaders.execute(() -> load(testFile));
+      }
+      loaders.shutdown();
+      loaders.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+      validateQueue.put(END_OF_STREAM);
+      dispatcher.join();
+      batcher.close();
+      if (dispatchFailure != null) {
+        failUndispatched();
+      }
+
+      expectedResults = submittedTests.get();
+      sink.join();
+    } finally {
+      loaders.shutdownNow();
+      comparators.shutdownNow();
+      validators.shutdownNow();
+    }
+  }
+
+  private void load(String testFile) {
+    if (dispatchFailure != null) {
+      return;
+    }
+    long startTime = System.nanoTime();
+    long[] handoffNanos = new long[1];
+    try {
+      testCaseReader.readTestCases(testFile, testCase -> {
+        if (!filter.test(testCase)) {
+          return;
+        }
+        long handoffStartTime = System.nanoTime();
+        try {
+          long estimateMs = durationHistory.estimate(testCase.getId());
+          QueuedTest queued = new QueuedTest(testCase, System.nanoTime(), estimateMs, nextSequence(estimateMs));
+          validateQueueSlots.acquire();
+          if (dispatchFailure != null) {
+            throw new IllegalStateException("Despacho de testes encerrado", dispatchFailure);
+          }
+          validateQueue.put(queued);
+          if (durationHistory.isKnown(testCase.getId())) {
+            knownTests.incrementAndGet();
+          }
+          submittedTests.incrementAndGet();
+          metrics.sampleQueueDepth();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Carregamento interrompido: " + testFile, e);
+        } finally {
+          handoffNanos[0] += System.nanoTime() - handoffStartTime;
+        }
+      });
+    } catch (Exception e) {
+      logger.error("Erro ao carregar arquivo {}: {}", testFile, e.getMessage());
+    } finally {
+      metrics.recordNanos(PipelineMetrics.Phase.YAML_LOAD, System.nanoTime() - startTime - handoffNanos[0]);
+    }
+  }
+
+  private void dispatch(ValidationBatcher batcher, ExecutorService validators, ExecutorService comparators) {
+    QueuedTest queued = null;
+    try {
+      while (true) {
+        inFlightValidations.acquire();
+        queued = validateQueue.take();
+        if (queued == END_OF_STREAM) {
+          inFlightValidations.release();
+          break;
+        }
+        validateQueueSlots.release();
+        if (dispatchOrder.scheduled == 0) {
+          firstDispatchAt = System.nanoTime();
+        }
+        dispatchOrder.schedule(queued.estimateMs());
+        metrics.record(PipelineMetrics.Phase.QUEUE_WAIT, queued.enqueuedAt());
+        TestCase current = queued.testCase();
+        TestLogs.open(current.getId(), settings.testLogLines());
+        long dispatchedAt = System.nanoTime();
+        long deadlineNanos = dispatchedAt + TimeUnit.MILLISECONDS.toNanos(settings.testTimeoutMs());
+        validate(batcher, validators, current, deadlineNanos)
+            .whenCompleteAsync((outcome, error) -> {
+              inFlightValidations.release();
+              if (error != null) {
+                complete(current, failure(current, error, dispatchedAt, deadlineNanos));
+              } else {
+                comparators.execute(() -> compare(current, outcome));
+              }
+            }, validators);
+        queued = null;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      abort(queued, new IllegalStateException("Despacho de testes interrompido", e));
+    } catch (Throwable e) {
+      logger.error("Falha no despacho de testes: {}", e.getMessage(), e);
+      abort(queued, e);
+    }
+  }
+
+  private void abort(QueuedTest taken, Throwable error) {
+    dispatchFailure = error;
+    validateQueueSlots.release(settings.loadParallelism());
+    if (taken != null && taken != END_OF_STREAM) {
+      complete(taken.testCase(), failure(taken.testCase(), error));
+    }
+  }
+
+  private void failUndispatched() {
+    List<QueuedTest> pending = new ArrayList<>();
+    validateQueue.drainTo(pending);
+    for (QueuedTest queued : pending) {
+      if (queued != END_OF_STREAM) {
+        complete(queued.testCase(), failure(queued.testCase(), dispatchFailure));
+      }
+    }
+  }
+
+  private CompletableFuture<ValidationOutcome> validate(ValidationBatcher batcher, ExecutorService validators,
+      TestCase testCase, long deadlineNanos) {
+    if (!preValidator.appliesTo(testCase)) {
+      return batcher.submit(testCase, deadlineNanos);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      long startTime = System.nanoTime();
+      try (var scope = TestLogs.scope(testCase.getId())) {
+        List<ValidationIssue> issues = preValidator.check(testCase);
+        return new ValidationOutcome(issues, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), 0);
+      }
+    }, validators).thenCompose(outcome -> outcome.issues().isEmpty()
+        ? batcher.submit(testCase, deadlineNanos)
+        : CompletableFuture.completedFuture(outcome));
+  }
+
+  private void compare(TestCase testCase, ValidationOutcome outcome) {
+    long startTime = System.nanoTime();
+    TestResult result = new TestResult();
+    result.setTestId(testCase.getId());
+    try (var scope = TestLogs.scope(testCase.getId())) {
+      List<String> discrepancies = new ArrayList<>(resultComparator.compare(outcome.issues(),
+          testCase.getExpectedResult()));
+      discrepancies.addAll(invariantEvaluator.evaluate(testCase));
+      result.setDiscrepancies(discrepancies);
+    } catch (Exception e) {
+      result = failure(testCase, e);
+    }
+    result.setValidationTimeMs(outcome.durationMs());
+    result.setComparisonTimeMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    result.setValidatorPeakRssKb(outcome.peakRssKb());
+    metrics.record(PipelineMetrics.Phase.COMPARISON, startTime);
+    complete(testCase, result);
+  }
+
+  private TestResult failure(TestCase testCase, Throwable error) {
+    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    String message = cause instanceof TimeoutException
+        ? "Timeout na validação do teste: " + testCase.getId()
+        : cause.getMessage();
+    try (var scope = TestLogs.scope(testCase.getId())) {
+      logger.error("Erro ao executar teste {}: {}", testCase.getId(), message);
+    }
+
+    TestResult result = new TestResult();
+    result.setTestId(testCase.getId());
+    result.setDiscrepancies(List.of("Erro: " + message));
+    return result;
+  }
+
+  private TestResult failure(TestCase testCase, Throwable error, long dispatchedAt, long deadlineNanos) {
+    TestResult result = failure(testCase, error);
+    long elapsedNanos = Math.min(System.nanoTime(), deadlineNanos) - dispatchedAt;
+    result.setValidationTimeMs(TimeUnit.NANOSECONDS.toMillis(Math.max(0, elapsedNanos)));
+    return result;
+  }
+
+  private void complete(TestCase testCase, TestResult result) {
+    boolean failed = result.getDiscrepancies() != null && !result.getDiscrepancies().isEmpty();
+    List<String> logs = TestLogs.close(testCase.getId(), failed);
+    if (!logs.isEmpty()) {
+      result.setLogs(logs);
+      logger.info("Log do teste {} ({} linha(s)):\n{}", testCase.getId(), logs.size(), String.join("\n", logs));
+    }
+    testCase.release();
+    try {
+      resultQueue.put(result);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.error("Interrupção ao registrar resultado do teste {}", testCase.getId());
+    }
+  }
+
+  private long nextSequence(long estimateMs) {
+    synchronized (fileOrder) {
+      fileOrder.schedule(estimateMs);
+      return fileOrder.scheduled;
+    }
+  }
+
+  Map<String, Object> getSchedulingStatistics() {
+    long predictedFileOrderMakespan;
+    synchronized (fileOrder) {
+      predictedFileOrderMakespan = fileOrder.makespan;
+    }
+
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("strategy", settings.longestFirst() ? "longest_expected_first" : "file_order");
+    statistics.put("workers", settings.validateParallelism());
+    statistics.put("known_tests", knownTests.get());
+    statistics.put("unknown_tests", submittedTests.get() - knownTests.get());
+    statistics.put("default_estimate_ms", durationHistory.getDefaultEstimateMs());
+    statistics.put("ordering_window", settings.queueCapacity());
+    statistics.put("ordering_window_exceeded", submittedTests.get() > settings.queueCapacity());
+    statistics.put("predicted_makespan_ms", dispatchOrder.makespan);
+    statistics.put("predicted_file_order_makespan_ms", predictedFileOrderMakespan);
+    statistics.put("actual_makespan_ms",
+        dispatchOrder.scheduled == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(lastResultAt - firstDispatchAt));
+    return statistics;
+  }
+
+  private static Comparator<QueuedTest> dispatchOrdering(Settings settings) {
+    Comparator<QueuedTest> ordering = Comparator.comparing(queued -> queued == END_OF_STREAM);
+    if (settings.longestFirst()) {
+      ordering = ordering.thenComparing(Comparator.comparingLong(QueuedTest::estimateMs).reversed());
+    }
+    return ordering.thenComparingLong(QueuedTest::sequence);
+  }
+
+  private void drainResults() {
+    long completed = 0;
+    try {
+      while (expectedResults < 0 || completed < expectedResults) {
+        TestResult result = resultQueue.poll(100, TimeUnit.MILLISECONDS);
+        if (result != null) {
+          long startTime = System.nanoTime();
+          resultSink.accept(result);
+          metrics.record(PipelineMetrics.Phase.REPORT_WRITE, startTime);
+          lastResultAt = System.nanoTime();
+          completed++;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
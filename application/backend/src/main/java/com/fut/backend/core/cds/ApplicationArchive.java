@@ -0,0 +1,123 @@
+package com.fut.backend.core.cds;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ApplicationArchive {
+
+  private static final Logger logger = LoggerFactory.getLogger(ApplicationArchive.class);
+  private static final String ARCHIVE_NAME = "fut.jsa";
+  private static final String KEY_NAME = "fut.key";
+
+  private final boolean enabled;
+  private final Path directory;
+  private volatile long startupMs = -1;
+
+  public ApplicationArchive(@Value("${fut.cds.enabled:true}") boolean enabled,
+      @Value("${fut.cds.directory:.fut-cds}") String directory) {
+    this.enabled = enabled;
+    this.directory = Paths.get(directory).toAbsolutePath().normalize().resolve("app");
+  }
+
+  public void recordStartup() {
+    startupMs = ManagementFactory.getRuntimeMXBean().getUptime();
+  }
+
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("fut_startup_ms", startupMs);
+    statistics.put("fut_class_data_sharing", ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+        .anyMatch(argument -> argument.startsWith("-XX:SharedArchiveFile")));
+    return statistics;
+  }
+
+  public void prepare() {
+    Path jar = ownJar();
+    if (!enabled || jar == null) {
+      logger.info("Arquivo CDS do FUT não gerado: {}", enabled ? "FUT não foi iniciado com java -jar" : "desativado");
+      return;
+    }
+
+    try {
+      String java = ProcessHandle.current().info().command().orElse("java");
+      String key = ArchiveKeys.fileHash(jar) + "-" + ArchiveKeys.textHash(System.getProperty("java.vm.version"));
+      Path archive = directory.resolve(ARCHIVE_NAME);
+      Path extractedJar = directory.resolve(jar.getFileName());
+      Path keyFile = directory.resolve(KEY_NAME);
+      if (Files.exists(archive) && Files.exists(keyFile) && Files.readString(keyFile).equals(key)) {
+        logger.info("Arquivo CDS do FUT atualizado: {}", archive);
+        printUsage(archive, extractedJar);
+        return;
+      }
+
+      logger.info("Gerando arquivo CDS do FUT em {}", directory);
+      Files.deleteIfExists(archive);
+      Files.deleteIfExists(keyFile);
+      run(List.of(java, "-Djarmode=tools", "-jar", jar.toString(), "extract", "--destination",
+          directory.toString(), "--force"));
+      long coldMs = run(List.of(java, "-XX:ArchiveClassesAtExit=" + archive, "-Dspring.context.exit=onRefresh",
+          "-jar", extractedJar.toString()));
+      if (!Files.exists(archive)) {
+        logger.warn("A execução de treino não gerou o arquivo CDS do FUT");
+        return;
+      }
+      long warmMs = run(List.of(java, "-XX:SharedArchiveFile=" + archive, "-Dspring.context.exit=onRefresh",
+          "-jar", extractedJar.toString()));
+      Files.writeString(keyFile, key, StandardCharsets.UTF_8);
+
+      logger.info("Inicialização do FUT: {} ms sem CDS (treino), {} ms com CDS", coldMs, warmMs);
+      printUsage(archive, extractedJar);
+    } catch (IOException | IllegalStateException e) {
+      logger.warn("Falha ao gerar arquivo CDS do FUT: {}", e.getMessage());
+    }
+  }
+
+  private void printUsage(Path archive, Path extractedJar) {
+    logger.info("Para iniciar o FUT com CDS: java -XX:SharedArchiveFile={} -jar {} <arquivos>", archive,
+        extractedJar);
+  }
+
+  private static Path ownJar() {
+    String classPath = System.getProperty("java.class.path", "");
+    if (classPath.contains(File.pathSeparator) || !classPath.endsWith(".jar")) {
+      return null;
+    }
+    Path jar = Paths.get(classPath).toAbsolutePath().normalize();
+    return Files.isRegularFile(jar) ? jar : null;
+  }
+
+  private static long run(List<String> command) throws IOException {
+    long startTime = System.nanoTime();
+    Process process = new ProcessBuilder(command).redirectErrorStream(true)
+        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+        .start();
+    try {
+      if (!process.waitFor(5, TimeUnit.MINUTES)) {
+        process.destroyForcibly();
+        throw new IllegalStateException("Tempo esgotado executando: " + String.join(" ", command));
+      }
+      if (process.exitValue() != 0) {
+        throw new IllegalStateException("Comando retornou " + process.exitValue() + ": " + String.join(" ", command));
+      }
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrompido executando: " + String.join(" ", command), e);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.fut.backend.core.cds;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+final class ArchiveKeys {
+
+  private ArchiveKeys() {
+  }
+
+  static String fileHash(Path file) throws IOException {
+    MessageDigest digest = newDigest();
+    try (InputStream input = Files.newInputStream(file)) {
+      byte[] buffer = new byte[65536];
+      int read;
+      while ((read = input.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+  }
+
+  static String javaVersion(String javaCommand) throws IOException {
+    Process process = new ProcessBuilder(List.of(javaCommand, "-version")).redirectErrorStream(true).start();
+    try {
+      byte[] output = process.getInputStream().readAllBytes();
+      if (!process.waitFor(30, TimeUnit.SECONDS) || process.exitValue() != 0) {
+        throw new IOException("'" + javaCommand + " -version' falhou");
+      }
+      return HexFormat.of().formatHex(newDigest().digest(output)).substring(0, 8);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrompido ao consultar a versão do Java", e);
+    } finally {
+      process.destroy();
+    }
+  }
+
+  static String textHash(String text) {
+    return HexFormat.of().formatHex(newDigest().digest(text.getBytes(StandardCharsets.UTF_8))).substring(0, 8);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
+}
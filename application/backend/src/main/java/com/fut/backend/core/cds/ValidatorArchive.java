@@ -0,0 +1,179 @@
+package com.fut.backend.core.cds;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ValidatorArchive {
+
+  private static final Logger logger = LoggerFactory.getLogger(ValidatorArchive.class);
+
+  public enum Mode {
+    COLD, WARM, TRAINING
+  }
+
+  public record Launch(Mode mode, List<String> options, Path trainingFile) {
+  }
+
+  private static final Launch COLD = new Launch(Mode.COLD, List.of(), null);
+
+  private final boolean enabled;
+  private final Path directory;
+  private final Path validatorJar;
+  private final AtomicBoolean training = new AtomicBoolean();
+  private final AtomicLong coldRuns = new AtomicLong();
+  private final AtomicLong coldNanos = new AtomicLong();
+  private final AtomicLong warmRuns = new AtomicLong();
+  private final AtomicLong warmNanos = new AtomicLong();
+  private final AtomicLong trainingNanos = new AtomicLong();
+  private volatile Path archive;
+  private volatile boolean resolved;
+  private volatile boolean created;
+  private volatile int invalidated;
+
+  public ValidatorArchive(@Value("${fut.cds.enabled:true}") boolean enabled,
+      @Value("${fut.cds.directory:.fut-cds}") String directory,
+      @Value("${fut.validator.jar:validator/validator_cli.jar}") String validatorJar) {
+    this.enabled = enabled;
+    this.directory = Paths.get(directory).toAbsolutePath().normalize();
+    this.validatorJar = Paths.get(validatorJar);
+  }
+
+  public boolean isReady(List<String> jvmOptions) {
+    Path target = resolve(jvmOptions);
+    return target != null && Files.exists(target);
+  }
+
+  public Launch launch(List<String> jvmOptions) {
+    Path target = resolve(jvmOptions);
+    if (target == null) {
+      return COLD;
+    }
+    if (Files.exists(target)) {
+      return new Launch(Mode.WARM, List.of("-XX:SharedArchiveFile=" + target, "-Xshare:auto"), null);
+    }
+    if (!training.compareAndSet(false, true)) {
+      return COLD;
+    }
+    try {
+      Files.createDirectories(directory);
+      Path trainingFile = Files.createTempFile(directory, "validator-", ".jsa.tmp");
+      Files.delete(trainingFile);
+      logger.info("Gerando arquivo CDS do validador durante esta execução: {}", target.getFileName());
+      return new Launch(Mode.TRAINING, List.of("-XX:ArchiveClassesAtExit=" + trainingFile), trainingFile);
+    } catch (IOException e) {
+      logger.warn("Não foi possível preparar o arquivo CDS do validador: {}", e.getMessage());
+      return COLD;
+    }
+  }
+
+  public void finished(Launch launch, long startNanos, boolean success) {
+    long elapsed = System.nanoTime() - startNanos;
+    switch (launch.mode()) {
+      case WARM -> {
+        warmRuns.incrementAndGet();
+        warmNanos.addAndGet(elapsed);
+      }
+      case COLD -> {
+        coldRuns.incrementAndGet();
+        coldNanos.addAndGet(elapsed);
+      }
+      case TRAINING -> {
+        trainingNanos.addAndGet(elapsed);
+        install(launch.trainingFile(), success);
+      }
+    }
+  }
+
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("enabled", enabled);
+    statistics.put("archive", archive != null && Files.exists(archive) ? archive.getFileName().toString() : null);
+    statistics.put("archive_created", created);
+    statistics.put("invalidated_archives", invalidated);
+    statistics.put("training_time_ms", TimeUnit.NANOSECONDS.toMillis(trainingNanos.get()));
+    statistics.put("cold_runs", coldRuns.get());
+    statistics.put("cold_mean_ms", meanMs(coldNanos.get(), coldRuns.get()));
+    statistics.put("warm_runs", warmRuns.get());
+    statistics.put("warm_mean_ms", meanMs(warmNanos.get(), warmRuns.get()));
+    return statistics;
+  }
+
+  private void install(Path trainingFile, boolean success) {
+    try {
+      if (success && Files.size(trainingFile) > 0) {
+        try {
+          Files.move(trainingFile, archive, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(trainingFile, archive, StandardCopyOption.REPLACE_EXISTING);
+        }
+        created = true;
+        logger.info("Arquivo CDS do validador criado: {}", archive);
+        removeStaleArchives();
+      } else {
+        logger.warn("Execução de treino não gerou o arquivo CDS do validador; "
+            + "uma nova tentativa será feita na próxima execução");
+      }
+    } catch (IOException e) {
+      logger.warn("Arquivo CDS do validador não foi gerado: {}", e.getMessage());
+    } finally {
+      try {
+        Files.deleteIfExists(trainingFile);
+      } catch (IOException e) {
+        logger.debug("Falha ao remover arquivo CDS temporário {}: {}", trainingFile, e.getMessage());
+      }
+    }
+  }
+
+  private void removeStaleArchives() throws IOException {
+    try (DirectoryStream<Path> archives = Files.newDirectoryStream(directory, "validator-*.jsa")) {
+      for (Path stale : archives) {
+        if (!stale.equals(archive)) {
+          Files.deleteIfExists(stale);
+          invalidated++;
+          logger.info("Arquivo CDS do validador invalidado: {}", stale.getFileName());
+        }
+      }
+    }
+  }
+
+  private Path resolve(List<String> jvmOptions) {
+    return resolved ? archive : resolveKey(jvmOptions);
+  }
+
+  private synchronized Path resolveKey(List<String> jvmOptions) {
+    if (!resolved) {
+      if (enabled && Files.isRegularFile(validatorJar)) {
+        try {
+          String key = ArchiveKeys.fileHash(validatorJar) + "-" + ArchiveKeys.javaVersion("java") + "-"
+              + ArchiveKeys.textHash(String.join(" ", jvmOptions));
+          archive = directory.resolve("validator-" + key + ".jsa");
+        } catch (IOException e) {
+          logger.warn("Arquivo CDS do validador desativado: {}", e.getMessage());
+        }
+      }
+      resolved = true;
+    }
+    return archive;
+  }
+
+  private static long meanMs(long totalNanos, long runs) {
+    return runs == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / runs);
+  }
+}
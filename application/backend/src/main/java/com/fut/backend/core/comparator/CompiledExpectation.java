@@ -0,0 +1,30 @@
+package com.fut.backend.core.comparator;
+
+import com.fut.backend.domain.ExpectedResult;
+import com.fut.backend.domain.ValidationIssue.Severity;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+class CompiledExpectation {
+
+  private final Map<Severity, List<MessageMatcher>> matchers = new EnumMap<>(Severity.class);
+
+  CompiledExpectation(ExpectedResult expectedResult) {
+    matchers.put(Severity.ERROR, compile(expectedResult.getErrors()));
+    matchers.put(Severity.WARNING, compile(expectedResult.getWarnings()));
+    matchers.put(Severity.INFORMATION, compile(expectedResult.getInformations()));
+  }
+
+  List<MessageMatcher> matchers(Severity severity) {
+    return matchers.get(severity);
+  }
+
+  private static List<MessageMatcher> compile(List<String> expectations) {
+    if (expectations == null || expectations.isEmpty()) {
+      return List.of();
+    }
+    return expectations.stream().map(MessageMatcher::compile).toList();
+  }
+}
@@ -0,0 +1,103 @@
+package com.fut.backend.core.comparator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fut.backend.core.fhirpath.FhirPathEngine;
+import com.fut.backend.core.fhirpath.FhirPathExpression;
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.domain.ExpectedResult;
+import com.fut.backend.domain.Invariant;
+import com.fut.backend.domain.TestCase;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class InvariantEvaluator {
+
+  private static final int MAX_CACHED_INSTANCES = 64;
+
+  private record InstanceKey(String location, long modifiedMillis, long size) {
+  }
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Map<InstanceKey, JsonNode> parsedInstances = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<InstanceKey, JsonNode> eldest) {
+      return size() > MAX_CACHED_INSTANCES;
+    }
+  };
+  private final FhirPathEngine fhirPathEngine;
+  private final SuiteArchives suiteArchives;
+
+  public InvariantEvaluator(FhirPathEngine fhirPathEngine, SuiteArchives suiteArchives) {
+    this.fhirPathEngine = fhirPathEngine;
+    this.suiteArchives = suiteArchives;
+  }
+
+  public List<String> evaluate(TestCase testCase) {
+    ExpectedResult expectedResult = testCase.getExpectedResult();
+    List<Invariant> invariants = expectedResult != null ? expectedResult.getInvariants() : null;
+    if (invariants == null || invariants.isEmpty()) {
+      return List.of();
+    }
+
+    JsonNode resource;
+    try {
+      resource = readInstance(testCase.getInstancePath());
+    } catch (IOException e) {
+      return List.of(String.format("Invariant error: não foi possível ler a instância: %s", e.getMessage()));
+    }
+
+    List<String> discrepancies = new ArrayList<>();
+    for (Invariant invariant : invariants) {
+      boolean expected = invariant.getExpected() == null || invariant.getExpected();
+      try {
+        FhirPathExpression expression = fhirPathEngine.compile(invariant.getExpression());
+        boolean actual = expression.evaluateBoolean(resource);
+        if (actual != expected) {
+          discrepancies.add(String.format("Invariant mismatch: %s expected %s, got %s",
+              invariant.getExpression(), expected, actual));
+        }
+      } catch (RuntimeException e) {
+        discrepancies.add(String.format("Invariant error: %s: %s", invariant.getExpression(), e.getMessage()));
+      }
+    }
+    return discrepancies;
+  }
+
+  private JsonNode readInstance(String location) throws IOException {
+    InstanceKey key = instanceKey(location);
+    synchronized (parsedInstances) {
+      JsonNode cached = parsedInstances.get(key);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    JsonNode resource;
+    try (InputStream input = suiteArchives.open(location)) {
+      resource = objectMapper.readTree(input);
+    }
+    synchronized (parsedInstances) {
+      parsedInstances.put(key, resource);
+    }
+    return resource;
+  }
+
+  private static InstanceKey instanceKey(String location) throws IOException {
+    if (SuiteArchives.isEntry(location)) {
+      return new InstanceKey(location, -1, -1);
+    }
+    Path path = Paths.get(location);
+    return new InstanceKey(location, Files.getLastModifiedTime(path).toMillis(), Files.size(path));
+  }
+}
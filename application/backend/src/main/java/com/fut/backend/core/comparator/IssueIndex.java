@@ -0,0 +1,73 @@
+package com.fut.backend.core.comparator;
+
+import com.fut.backend.domain.ValidationIssue;
+import com.fut.backend.domain.ValidationIssue.Severity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class IssueIndex {
+
+  private final List<ValidationIssue> issues;
+  private final boolean[] consumed;
+  private final Map<Severity, Map<String, Deque<Integer>>> byText = new EnumMap<>(Severity.class);
+  private final Map<Severity, List<Integer>> bySeverity = new EnumMap<>(Severity.class);
+
+  IssueIndex(List<ValidationIssue> issues) {
+    this.issues = issues;
+    this.consumed = new boolean[issues.size()];
+    for (Severity severity : Severity.values()) {
+      byText.put(severity, new HashMap<>());
+      bySeverity.put(severity, new ArrayList<>());
+    }
+
+    for (int i = 0; i < issues.size(); i++) {
+      ValidationIssue issue = issues.get(i);
+      bySeverity.get(issue.getSeverity()).add(i);
+      Map<String, Deque<Integer>> texts = byText.get(issue.getSeverity());
+      if (issue.getMessage() != null) {
+        texts.computeIfAbsent(issue.getMessage(), k -> new ArrayDeque<>()).add(i);
+      }
+      if (issue.getRawText() != null && !issue.getRawText().equals(issue.getMessage())) {
+        texts.computeIfAbsent(issue.getRawText(), k -> new ArrayDeque<>()).add(i);
+      }
+    }
+  }
+
+  boolean consume(Severity severity, MessageMatcher matcher) {
+    if (matcher.isExact()) {
+      Deque<Integer> candidates = byText.get(severity).get(matcher.getExactText());
+      while (candidates != null && !candidates.isEmpty()) {
+        int index = candidates.poll();
+        if (!consumed[index]) {
+          consumed[index] = true;
+          return true;
+        }
+      }
+      return false;
+    }
+
+    for (int index : bySeverity.get(severity)) {
+      if (!consumed[index] && matcher.matches(issues.get(index))) {
+        consumed[index] = true;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  List<ValidationIssue> unconsumed() {
+    List<ValidationIssue> remaining = new ArrayList<>();
+    for (int i = 0; i < issues.size(); i++) {
+      if (!consumed[i]) {
+        remaining.add(issues.get(i));
+      }
+    }
+    return remaining;
+  }
+}
@@ -0,0 +1,83 @@
+package com.fut.backend.core.comparator;
+
+import com.fut.backend.domain.ValidationIssue;
+
+import java.util.regex.Pattern;
+
+class MessageMatcher {
+
+  private static final String REGEX_PREFIX = "regex:";
+  private static final String GLOB_PREFIX = "glob:";
+  private static final String ID_PREFIX = "id:";
+
+  private final String expectation;
+  private final String exactText;
+  private final String messageId;
+  private final Pattern pattern;
+
+  private MessageMatcher(String expectation, String exactText, String messageId, Pattern pattern) {
+    this.expectation = expectation;
+    this.exactText = exactText;
+    this.messageId = messageId;
+    this.pattern = pattern;
+  }
+
+  static MessageMatcher compile(String expectation) {
+    if (expectation.startsWith(REGEX_PREFIX)) {
+      return new MessageMatcher(expectation, null, null,
+          Pattern.compile(".*(?:" + expectation.substring(REGEX_PREFIX.length()) + ").*", Pattern.DOTALL));
+    }
+    if (expectation.startsWith(GLOB_PREFIX)) {
+      return new MessageMatcher(expectation, null, null, globToPattern(expectation.substring(GLOB_PREFIX.length())));
+    }
+    if (expectation.startsWith(ID_PREFIX)) {
+      return new MessageMatcher(expectation, null, expectation.substring(ID_PREFIX.length()).trim(), null);
+    }
+    return new MessageMatcher(expectation, expectation.trim(), null, null);
+  }
+
+  String getExpectation() {
+    return expectation;
+  }
+
+  boolean isExact() {
+    return exactText != null;
+  }
+
+  String getExactText() {
+    return exactText;
+  }
+
+  boolean matches(ValidationIssue issue) {
+    if (exactText != null) {
+      return exactText.equals(issue.getMessage()) || exactText.equals(issue.getRawText());
+    }
+    if (messageId != null) {
+      return messageId.equals(issue.getMessageId());
+    }
+    return find(issue.getMessage()) || find(issue.getRawText());
+  }
+
+  private boolean find(String text) {
+    return text != null && pattern.matcher(text).matches();
+  }
+
+  private static Pattern globToPattern(String glob) {
+    StringBuilder regex = new StringBuilder();
+    int literalStart = 0;
+    for (int i = 0; i < glob.length(); i++) {
+      char c = glob.charAt(i);
+      if (c == '*' || c == '?') {
+        if (i > literalStart) {
+          regex.append(Pattern.quote(glob.substring(literalStart, i)));
+        }
+        regex.append(c == '*' ? ".*" : ".");
+        literalStart = i + 1;
+      }
+    }
+    if (literalStart < glob.length()) {
+      regex.append(Pattern.quote(glob.substring(literalStart)));
+    }
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
+}
@@ -1,52 +1,116 @@
 package com.fut.backend.core.comparator;
 
 import com.fut.backend.domain.ExpectedResult;
+import com.fut.backend.domain.ValidationIssue;
+import com.fut.backend.domain.ValidationIssue.Severity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class ResultComparator {
 
-  public List<String> compare(List<String> validatorOutput, ExpectedResult expectedResult) {
+  private static final int MAX_COMPILED_EXPECTATIONS = 100_000;
+  private static final String ALL_OK = "All OK";
+
+  private record ExpectationKey(List<String> errors, List<String> warnings, List<String> informations) {
+  }
+
+  private final Set<Severity> unexpectedSeverities = EnumSet.noneOf(Severity.class);
+  private final Map<ExpectationKey, CompiledExpectation> compiledExpectations = new ConcurrentHashMap<>();
+
+  public ResultComparator(@Value("${fut.comparator.unexpected-severities:error}") String unexpectedSeverities) {
+    Arrays.stream(unexpectedSeverities.split(","))
+        .map(String::trim)
+        .filter(severity -> !severity.isEmpty())
+        .forEach(severity -> this.unexpectedSeverities.add(parseSeverity(severity)));
+  }
+
+  public List<String> compare(List<ValidationIssue> issues, ExpectedResult expectedResult) {
     List<String> discrepancies = new ArrayList<>();
 
-    String status = validatorOutput.isEmpty() ? "success" : "failure";
+    boolean hasErrors = issues.stream().anyMatch(issue -> issue.getSeverity() == Severity.ERROR);
+    String status = hasErrors ? "failure" : "success";
     if (!status.equals(expectedResult.getStatus())) {
       discrepancies.add(String.format("Status mismatch: expected %s, got %s", expectedResult.getStatus(), status));
     }
 
-    List<String> expectedErrors = expectedResult.getErrors() != null ? expectedResult.getErrors() : List.of();
-    List<String> expectedWarnings = expectedResult.getWarnings() != null ? expectedResult.getWarnings() : List.of();
-    List<String> expectedInformations = expectedResult.getInformations() != null ? expectedResult.getInformations()
-        : List.of();
+    CompiledExpectation expectation = compile(expectedResult);
+    IssueIndex index = new IssueIndex(issues);
 
-    for (String error : expectedErrors) {
-      if (!validatorOutput.contains(error)) {
-        discrepancies.add(String.format("Missing error: %s", error));
+    checkExpected(index, expectation, Severity.ERROR, "Missing error: %s", discrepancies);
+    checkExpected(index, expectation, Severity.WARNING, "Missing warning: %s", discrepancies);
+    checkExpected(index, expectation, Severity.INFORMATION, "Missing information: %s", discrepancies);
+
+    for (ValidationIssue issue : index.unconsumed()) {
+      if (!unexpectedSeverities.contains(issue.getSeverity()) || isAllOk(issue)) {
+        continue;
       }
+      discrepancies.add(String.format("Unexpected %s: %s", issue.getSeverity().name().toLowerCase(Locale.ROOT),
+          describe(issue)));
     }
 
-    for (String warning : expectedWarnings) {
-      if (!validatorOutput.contains(warning)) {
-        discrepancies.add(String.format("Missing warning: %s", warning));
-      }
+    return discrepancies;
+  }
+
+  private CompiledExpectation compile(ExpectedResult expectedResult) {
+    ExpectationKey key = new ExpectationKey(copy(expectedResult.getErrors()), copy(expectedResult.getWarnings()),
+        copy(expectedResult.getInformations()));
+    CompiledExpectation expectation = compiledExpectations.get(key);
+    if (expectation != null) {
+      return expectation;
+    }
+    expectation = new CompiledExpectation(expectedResult);
+    if (compiledExpectations.size() < MAX_COMPILED_EXPECTATIONS) {
+      compiledExpectations.putIfAbsent(key, expectation);
     }
+    return expectation;
+  }
 
-    for (String info : expectedInformations) {
-      if (!validatorOutput.contains(info)) {
-        discrepancies.add(String.format("Missing information: %s", info));
-      }
+  private static List<String> copy(List<String> expectations) {
+    return expectations == null ? List.of() : List.copyOf(expectations);
+  }
+
+  private static boolean isAllOk(ValidationIssue issue) {
+    return issue.getSeverity() == Severity.INFORMATION && ALL_OK.equals(issue.getMessage());
+  }
+
+  private static Severity parseSeverity(String severity) {
+    try {
+      return Severity.valueOf(severity.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Severidade inválida em 'fut.comparator.unexpected-severities': "
+          + severity + " (use error, warning ou information)");
     }
+  }
 
-    for (String output : validatorOutput) {
-      if (!expectedErrors.contains(output) && !expectedWarnings.contains(output)
-          && !expectedInformations.contains(output)) {
-        discrepancies.add(String.format("Unexpected output: %s", output));
+  private void checkExpected(IssueIndex index, CompiledExpectation expectation, Severity severity, String format,
+      List<String> discrepancies) {
+    List<MessageMatcher> matchers = expectation.matchers(severity);
+    List<MessageMatcher> patterns = new ArrayList<>();
+    for (MessageMatcher matcher : matchers) {
+      if (!matcher.isExact()) {
+        patterns.add(matcher);
+      } else if (!index.consume(severity, matcher)) {
+        discrepancies.add(String.format(format, matcher.getExpectation()));
+      }
+    }
+    for (MessageMatcher matcher : patterns) {
+      if (!index.consume(severity, matcher)) {
+        discrepancies.add(String.format(format, matcher.getExpectation()));
       }
     }
+  }
 
-    return discrepancies;
+  private String describe(ValidationIssue issue) {
+    return issue.getLocation() != null ? issue.getLocation() + ": " + issue.getMessage() : issue.getMessage();
   }
-}
\ No newline at end of file
+}
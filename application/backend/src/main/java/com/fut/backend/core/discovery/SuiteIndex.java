@@ -0,0 +1,131 @@
+package com.fut.backend.core.discovery;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fut.backend.core.reader.TestCaseReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+class SuiteIndex {
+
+  private static final Logger logger = LoggerFactory.getLogger(SuiteIndex.class);
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  record Entry(long modified, long size, String hash, Map<String, List<String>> tests) {
+  }
+
+  private final Path file;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicLong reindexed = new AtomicLong();
+  private final AtomicLong rehashed = new AtomicLong();
+
+  private SuiteIndex(Path file) {
+    this.file = file;
+  }
+
+  static SuiteIndex load(Path file) {
+    SuiteIndex index = new SuiteIndex(file);
+    if (Files.exists(file)) {
+      try {
+        index.entries.putAll(OBJECT_MAPPER.readValue(file.toFile(), new TypeReference<Map<String, Entry>>() {
+        }));
+      } catch (IOException e) {
+        logger.warn("Índice de suítes ignorado ({}): {}", file, e.getMessage());
+      }
+    }
+    return index;
+  }
+
+  Entry refresh(Path testFile, TestCaseReader testCaseReader) throws IOException {
+    String key = testFile.toString();
+    BasicFileAttributes attributes = Files.readAttributes(testFile, BasicFileAttributes.class);
+    long modified = attributes.lastModifiedTime().toMillis();
+    Entry entry = entries.get(key);
+    if (entry != null && entry.modified() == modified && entry.size() == attributes.size()) {
+      return entry;
+    }
+
+    String hash = hash(testFile);
+    Map<String, List<String>> tests;
+    if (entry != null && entry.hash().equals(hash)) {
+      tests = entry.tests();
+      rehashed.incrementAndGet();
+    } else {
+      tests = new LinkedHashMap<>();
+      testCaseReader.readTestCases(key, testCase -> tests.put(testCase.getId(),
+          testCase.getTags() != null ? testCase.getTags() : List.of()));
+      reindexed.incrementAndGet();
+    }
+    entry = new Entry(modified, attributes.size(), hash, tests);
+    entries.put(key, entry);
+    return entry;
+  }
+
+  void retain(Collection<Path> current) {
+    Set<String> keep = new HashSet<>();
+    current.forEach(path -> keep.add(path.toString()));
+    entries.keySet().removeIf(key -> !keep.contains(key) && !Files.exists(Path.of(key)));
+  }
+
+  long getReindexed() {
+    return reindexed.get();
+  }
+
+  long getRehashed() {
+    return rehashed.get();
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  void save() {
+    try {
+      Path parent = file.getParent();
+      Files.createDirectories(parent);
+      Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+      OBJECT_MAPPER.writeValue(temp.toFile(), new TreeMap<>(entries));
+      try {
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      logger.warn("Falha ao gravar índice de suítes {}: {}", file, e.getMessage());
+    }
+  }
+
+  private static String hash(Path testFile) throws IOException {
+    try (InputStream input = Files.newInputStream(testFile)) {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = input.read(buffer)) > 0) {
+        digest.update(buffer, 0, read);
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package com.fut.backend.core.discovery;
+
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.core.reader.TestCaseReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class TestDiscovery {
+
+  private static final Logger logger = LoggerFactory.getLogger(TestDiscovery.class);
+  private static final String YAML_GLOB = "**/*.{yml,yaml}";
+
+  private final TestCaseReader testCaseReader;
+  private final SuiteArchives suiteArchives;
+  private final Path indexFile;
+
+  public TestDiscovery(TestCaseReader testCaseReader, SuiteArchives suiteArchives,
+      @Value("${fut.discovery.index-file:.fut-index.json}") String indexFile) {
+    this.testCaseReader = testCaseReader;
+    this.suiteArchives = suiteArchives;
+    this.indexFile = Paths.get(indexFile).toAbsolutePath().normalize();
+  }
+
+  private record FilePattern(Path base, PathMatcher matcher, int maxDepth) {
+
+    boolean matches(Path file) {
+      return matcher.matches(base.relativize(file));
+    }
+  }
+
+  public List<String> discover(List<String> args) {
+    long startTime = System.nanoTime();
+    Path cwd = Paths.get("").toAbsolutePath();
+    Path testDir = cwd.getParent() != null && cwd.getParent().getParent() != null
+        ? cwd.getParent().getParent().resolve("tests")
+        : cwd.resolve("tests");
+
+    Set<Path> files = new LinkedHashSet<>();
+    for (String arg : args) {
+      String normalizedArg = arg.replace("\\", "/");
+      Path path = Paths.get(arg);
+      if (isGlob(normalizedArg)) {
+        files.addAll(walk(pattern(normalizedArg, cwd, testDir)));
+      } else if (Files.isDirectory(resolve(path, cwd, testDir))) {
+        Path directory = resolve(path, cwd, testDir);
+        files.addAll(walk(new FilePattern(directory, matcher(YAML_GLOB), Integer.MAX_VALUE)));
+      } else {
+        files.add(resolve(path, cwd, testDir));
+      }
+    }
+
+    Set<String> testFiles = new LinkedHashSet<>();
+    for (Path file : files) {
+      if (!Files.exists(file)) {
+        logger.warn("Arquivo não encontrado: {}", file);
+      } else if (SuiteArchives.isArchive(file)) {
+        testFiles.addAll(suiteArchives.testFiles(file));
+      } else if (!isYaml(file)) {
+        logger.warn("Arquivo não é YAML: {}", file);
+      } else {
+        testFiles.add(file.toString());
+      }
+    }
+    logger.info("{} arquivo(s) de teste encontrado(s) em {} ms", testFiles.size(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    return new ArrayList<>(testFiles);
+  }
+
+  public List<String> select(List<String> testFiles, TestSelection selection) {
+    if (selection.isEmpty()) {
+      return testFiles;
+    }
+
+    long startTime = System.nanoTime();
+    SuiteIndex index = SuiteIndex.load(indexFile);
+    List<Path> paths = testFiles.stream().filter(file -> !SuiteArchives.isEntry(file)).map(Paths::get).toList();
+    Set<String> selected = ConcurrentHashMap.newKeySet();
+    testFiles.parallelStream().filter(SuiteArchives::isEntry).forEach(entry -> {
+      try {
+        testCaseReader.readTestCases(entry, testCase -> {
+          if (selection.test(testCase)) {
+            selected.add(entry);
+          }
+        });
+      } catch (RuntimeException e) {
+        logger.warn("Arquivo {} não indexado, será carregado por completo: {}", entry, e.getMessage());
+        selected.add(entry);
+      }
+    });
+    paths.parallelStream().forEach(path -> {
+      try {
+        if (index.refresh(path, testCaseReader).tests().entrySet().stream()
+            .anyMatch(test -> selection.matches(test.getKey(), test.getValue()))) {
+          selected.add(path.toString());
+        }
+      } catch (IOException | RuntimeException e) {
+        logger.warn("Arquivo {} não indexado, será carregado por completo: {}", path, e.getMessage());
+        selected.add(path.toString());
+      }
+    });
+    index.retain(paths);
+    index.save();
+
+    logger.info("Índice de suítes: {} de {} arquivo(s) com testes selecionados ({} reindexado(s), "
+        + "{} com data alterada sem mudança de conteúdo) em {} ms", selected.size(), testFiles.size(),
+        index.getReindexed(), index.getRehashed(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    return testFiles.stream().filter(selected::contains).toList();
+  }
+
+  private FilePattern pattern(String glob, Path cwd, Path testDir) {
+    String[] segments = glob.split("/");
+    int firstGlob = 0;
+    while (!isGlob(segments[firstGlob])) {
+      firstGlob++;
+    }
+
+    String prefix = String.join("/", List.of(segments).subList(0, firstGlob));
+    String remainder = String.join("/", List.of(segments).subList(firstGlob, segments.length));
+    Path base;
+    if (!prefix.isEmpty()) {
+      base = resolve(Paths.get(prefix), cwd, testDir);
+    } else if (glob.startsWith("/")) {
+      base = Paths.get("/");
+    } else {
+      base = Files.isDirectory(testDir) ? testDir : cwd;
+    }
+    int maxDepth = remainder.contains("**") ? Integer.MAX_VALUE : segments.length - firstGlob;
+    return new FilePattern(base, matcher(remainder), maxDepth);
+  }
+
+  private static PathMatcher matcher(String glob) {
+    PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+    if (!glob.startsWith("**/")) {
+      return matcher;
+    }
+    PathMatcher topLevel = FileSystems.getDefault().getPathMatcher("glob:" + glob.substring("**/".length()));
+    return path -> matcher.matches(path) || topLevel.matches(path);
+  }
+
+  private static List<Path> walk(FilePattern pattern) {
+    if (!Files.isDirectory(pattern.base())) {
+      logger.warn("Diretório não encontrado: {}", pattern.base());
+      return List.of();
+    }
+    List<Path> files = ForkJoinPool.commonPool().invoke(new DirectoryWalk(pattern, pattern.base(), 1));
+    files.sort(null);
+    return files;
+  }
+
+  private static final class DirectoryWalk extends RecursiveTask<List<Path>> {
+
+    private final FilePattern pattern;
+    private final Path directory;
+    private final int depth;
+
+    private DirectoryWalk(FilePattern pattern, Path directory, int depth) {
+      this.pattern = pattern;
+      this.directory = directory;
+      this.depth = depth;
+    }
+
+    @Override
+    protected List<Path> compute() {
+      List<Path> files = new ArrayList<>();
+      List<DirectoryWalk> subdirectories = new ArrayList<>();
+      try {
+        Files.walkFileTree(directory, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+            if (attributes.isDirectory()) {
+              if (depth < pattern.maxDepth() && !file.getFileName().toString().startsWith(".")) {
+                subdirectories.add(new DirectoryWalk(pattern, file, depth + 1));
+              }
+            } else if (pattern.matches(file)) {
+              files.add(file);
+            }
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFileFailed(Path file, IOException e) {
+            logger.warn("Não foi possível ler {}: {}", file, e.getMessage());
+            return FileVisitResult.CONTINUE;
+          }
+        });
+      } catch (IOException e) {
+        logger.warn("Não foi possível percorrer {}: {}", directory, e.getMessage());
+      }
+
+      invokeAll(subdirectories);
+      for (DirectoryWalk subdirectory : subdirectories) {
+        files.addAll(subdirectory.join());
+      }
+      return files;
+    }
+  }
+
+  private static Path resolve(Path path, Path cwd, Path testDir) {
+    if (path.isAbsolute()) {
+      return path.normalize();
+    }
+    Path relative = cwd.resolve(path).normalize();
+    return Files.exists(relative) ? relative : testDir.resolve(path).normalize();
+  }
+
+  private static boolean isGlob(String text) {
+    return text.contains("*") || text.contains("?") || text.contains("[") || text.contains("{");
+  }
+
+  private static boolean isYaml(Path file) {
+    String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+    return name.endsWith(".yml") || name.endsWith(".yaml");
+  }
+}
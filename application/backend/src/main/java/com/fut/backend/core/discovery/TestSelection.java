@@ -0,0 +1,26 @@
+package com.fut.backend.core.discovery;
+
+import com.fut.backend.domain.TestCase;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public record TestSelection(Set<String> ids, Set<String> tags) implements Predicate<TestCase> {
+
+  public static final TestSelection ALL = new TestSelection(Set.of(), Set.of());
+
+  public boolean isEmpty() {
+    return ids.isEmpty() && tags.isEmpty();
+  }
+
+  @Override
+  public boolean test(TestCase testCase) {
+    return matches(testCase.getId(), testCase.getTags());
+  }
+
+  boolean matches(String id, Collection<String> testTags) {
+    return (ids.isEmpty() || ids.contains(id))
+        && (tags.isEmpty() || testTags != null && testTags.stream().anyMatch(tags::contains));
+  }
+}
@@ -0,0 +1,10 @@
+package com.fut.backend.core.fhirpath;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+record FhirPathContext(JsonNode resource, JsonNode thisItem) {
+
+  FhirPathContext withThis(JsonNode item) {
+    return new FhirPathContext(resource, item);
+  }
+}
@@ -0,0 +1,25 @@
+package com.fut.backend.core.fhirpath;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class FhirPathEngine {
+
+  private final Map<String, FhirPathExpression> compiledExpressions = new ConcurrentHashMap<>();
+
+  public FhirPathExpression compile(String expression) {
+    FhirPathExpression compiled = compiledExpressions.get(expression);
+    if (compiled == null) {
+      compiled = new FhirPathExpression(expression, FhirPathParser.parse(expression));
+      compiledExpressions.putIfAbsent(expression, compiled);
+    }
+    return compiled;
+  }
+
+  public int getCompiledCount() {
+    return compiledExpressions.size();
+  }
+}
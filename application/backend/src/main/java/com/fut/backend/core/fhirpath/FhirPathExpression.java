@@ -0,0 +1,37 @@
+package com.fut.backend.core.fhirpath;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+public final class FhirPathExpression {
+
+  private final String source;
+  private final FhirPathNode root;
+
+  FhirPathExpression(String source, FhirPathNode root) {
+    this.source = source;
+    this.root = root;
+  }
+
+  public String getSource() {
+    return source;
+  }
+
+  public List<JsonNode> evaluate(JsonNode resource) {
+    return root.evaluate(List.of(resource), new FhirPathContext(resource, resource));
+  }
+
+  public boolean evaluateBoolean(JsonNode resource) {
+    List<JsonNode> result = evaluate(resource);
+    if (result.isEmpty()) {
+      return false;
+    }
+    if (result.size() > 1) {
+      throw new IllegalStateException("Expressão FHIRPath retornou " + result.size()
+          + " itens onde era esperado um booleano: " + source);
+    }
+    JsonNode value = result.get(0);
+    return !value.isBoolean() || value.booleanValue();
+  }
+}
@@ -0,0 +1,237 @@
+package com.fut.backend.core.fhirpath;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+class FhirPathFunctions {
+
+  private static final Map<String, Integer> REQUIRED_ARGUMENTS = Map.ofEntries(
+      Map.entry("where", 1), Map.entry("select", 1), Map.entry("all", 1), Map.entry("skip", 1),
+      Map.entry("take", 1), Map.entry("matches", 1), Map.entry("startsWith", 1), Map.entry("endsWith", 1),
+      Map.entry("contains", 1), Map.entry("iif", 2));
+
+  static FhirPathNode member(String name, boolean root) {
+    boolean typeName = root && Character.isUpperCase(name.charAt(0));
+    return (focus, context) -> {
+      List<JsonNode> result = new ArrayList<>();
+      for (JsonNode item : focus) {
+        if (!item.isObject()) {
+          continue;
+        }
+        if (typeName) {
+          if (name.equals(item.path("resourceType").asText(null))) {
+            result.add(item);
+          }
+          continue;
+        }
+
+        JsonNode child = item.get(name);
+        if (child == null) {
+          child = choiceElement(item, name);
+        }
+        if (child == null || child.isNull()) {
+          continue;
+        }
+        if (child.isArray()) {
+          child.forEach(result::add);
+        } else {
+          result.add(child);
+        }
+      }
+      return result;
+    };
+  }
+
+  static FhirPathNode indexer(FhirPathNode collection, FhirPathNode index) {
+    return (focus, context) -> {
+      List<JsonNode> values = collection.evaluate(focus, context);
+      List<JsonNode> position = index.evaluate(focus, context);
+      if (position.isEmpty()) {
+        return List.of();
+      }
+      int i = FhirPathValues.decimal(position.get(0)).intValue();
+      return i >= 0 && i < values.size() ? List.of(values.get(i)) : List.of();
+    };
+  }
+
+  static FhirPathNode function(String name, List<FhirPathNode> arguments, List<String> typeArguments,
+      String source) {
+    int arity = arguments.size();
+    checkArity(name, arity, source);
+    return switch (name) {
+      case "exists" -> arity == 0
+          ? (focus, context) -> bool(!focus.isEmpty())
+          : (focus, context) -> bool(!filter(focus, context, arguments.get(0)).isEmpty());
+      case "empty" -> (focus, context) -> bool(focus.isEmpty());
+      case "not" -> (focus, context) -> {
+        Boolean value = FhirPathValues.singletonBoolean(focus);
+        return value == null ? List.of() : bool(!value);
+      };
+      case "count" -> (focus, context) -> List.of(IntNode.valueOf(focus.size()));
+      case "first" -> (focus, context) -> focus.isEmpty() ? List.of() : List.of(focus.get(0));
+      case "last" -> (focus, context) -> focus.isEmpty() ? List.of() : List.of(focus.get(focus.size() - 1));
+      case "tail" -> (focus, context) -> focus.size() <= 1 ? List.of() : focus.subList(1, focus.size());
+      case "single" -> (focus, context) -> {
+        if (focus.size() > 1) {
+          throw new IllegalStateException("single() aplicado a " + focus.size() + " itens");
+        }
+        return focus;
+      };
+      case "skip" -> (focus, context) -> {
+        int count = integerArgument(arguments.get(0), focus, context);
+        return count >= focus.size() ? List.of() : focus.subList(Math.max(0, count), focus.size());
+      };
+      case "take" -> (focus, context) -> {
+        int count = integerArgument(arguments.get(0), focus, context);
+        return count <= 0 ? List.of() : focus.subList(0, Math.min(count, focus.size()));
+      };
+      case "where" -> (focus, context) -> filter(focus, context, arguments.get(0));
+      case "select" -> (focus, context) -> {
+        List<JsonNode> result = new ArrayList<>();
+        for (JsonNode item : focus) {
+          result.addAll(arguments.get(0).evaluate(List.of(item), context.withThis(item)));
+        }
+        return result;
+      };
+      case "all" -> (focus, context) -> bool(filter(focus, context, arguments.get(0)).size() == focus.size());
+      case "allTrue" -> (focus, context) -> bool(focus.stream().allMatch(v -> v.isBoolean() && v.booleanValue()));
+      case "anyTrue" -> (focus, context) -> bool(focus.stream().anyMatch(v -> v.isBoolean() && v.booleanValue()));
+      case "allFalse" -> (focus, context) -> bool(focus.stream().allMatch(v -> v.isBoolean() && !v.booleanValue()));
+      case "anyFalse" -> (focus, context) -> bool(focus.stream().anyMatch(v -> v.isBoolean() && !v.booleanValue()));
+      case "hasValue" -> (focus, context) -> bool(focus.size() == 1 && focus.get(0).isValueNode());
+      case "distinct" -> (focus, context) -> FhirPathValues.distinct(focus);
+      case "isDistinct" -> (focus, context) -> bool(FhirPathValues.distinct(focus).size() == focus.size());
+      case "ofType" -> {
+        String type = typeArgument(name, typeArguments, source);
+        yield (focus, context) -> focus.stream().filter(value -> FhirPathValues.isType(value, type)).toList();
+      }
+      case "is" -> {
+        String type = typeArgument(name, typeArguments, source);
+        yield (focus, context) -> focus.isEmpty() ? List.of()
+            : bool(focus.size() == 1 && FhirPathValues.isType(focus.get(0), type));
+      }
+      case "as" -> {
+        String type = typeArgument(name, typeArguments, source);
+        yield (focus, context) -> focus.stream().filter(value -> FhirPathValues.isType(value, type)).toList();
+      }
+      case "iif" -> (focus, context) -> {
+        Boolean criterion = FhirPathValues.singletonBoolean(arguments.get(0).evaluate(focus, context));
+        if (Boolean.TRUE.equals(criterion)) {
+          return arguments.get(1).evaluate(focus, context);
+        }
+        return arity > 2 ? arguments.get(2).evaluate(focus, context) : List.of();
+      };
+      case "matches" -> {
+        Pattern pattern = constantPattern(arguments.get(0));
+        yield (focus, context) -> stringFunction(focus, text -> {
+          Pattern regex = pattern != null ? pattern
+              : Pattern.compile(textArgument(arguments.get(0), focus, context), Pattern.DOTALL);
+          return BooleanNode.valueOf(regex.matcher(text).matches());
+        });
+      }
+      case "startsWith" -> (focus, context) -> stringFunction(focus,
+          text -> BooleanNode.valueOf(text.startsWith(textArgument(arguments.get(0), focus, context))));
+      case "endsWith" -> (focus, context) -> stringFunction(focus,
+          text -> BooleanNode.valueOf(text.endsWith(textArgument(arguments.get(0), focus, context))));
+      case "contains" -> (focus, context) -> stringFunction(focus,
+          text -> BooleanNode.valueOf(text.contains(textArgument(arguments.get(0), focus, context))));
+      case "length" -> (focus, context) -> stringFunction(focus, text -> IntNode.valueOf(text.length()));
+      case "upper" -> (focus, context) -> stringFunction(focus,
+          text -> TextNode.valueOf(text.toUpperCase(Locale.ROOT)));
+      case "lower" -> (focus, context) -> stringFunction(focus,
+          text -> TextNode.valueOf(text.toLowerCase(Locale.ROOT)));
+      case "toString" -> (focus, context) -> stringFunction(focus, TextNode::valueOf);
+      case "toInteger" -> (focus, context) -> stringFunction(focus, text -> {
+        try {
+          return IntNode.valueOf(Integer.parseInt(text));
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      });
+      case "trace" -> (focus, context) -> focus;
+      default -> throw new IllegalArgumentException("Função FHIRPath não suportada '" + name + "' em '"
+          + source + "'");
+    };
+  }
+
+  private static void checkArity(String name, int arity, String source) {
+    int required = REQUIRED_ARGUMENTS.getOrDefault(name, 0);
+    if (arity < required) {
+      throw new IllegalArgumentException("Função FHIRPath '" + name + "' exige " + required
+          + " argumento(s) em '" + source + "'");
+    }
+  }
+
+  private static String textArgument(FhirPathNode argument, List<JsonNode> focus, FhirPathContext context) {
+    return FhirPathValues.text(argument.evaluate(focus, context));
+  }
+
+  private static List<JsonNode> filter(List<JsonNode> focus, FhirPathContext context, FhirPathNode criteria) {
+    List<JsonNode> result = new ArrayList<>();
+    for (JsonNode item : focus) {
+      Boolean matches = FhirPathValues.singletonBoolean(criteria.evaluate(List.of(item), context.withThis(item)));
+      if (Boolean.TRUE.equals(matches)) {
+        result.add(item);
+      }
+    }
+    return result;
+  }
+
+  private static List<JsonNode> stringFunction(List<JsonNode> focus, Function<String, JsonNode> f) {
+    String text = FhirPathValues.singletonText(focus);
+    if (text == null) {
+      return List.of();
+    }
+    JsonNode result = f.apply(text);
+    return result == null ? List.of() : List.of(result);
+  }
+
+  private static int integerArgument(FhirPathNode argument, List<JsonNode> focus, FhirPathContext context) {
+    List<JsonNode> value = argument.evaluate(focus, context);
+    return value.isEmpty() ? 0 : FhirPathValues.decimal(value.get(0)).intValue();
+  }
+
+  private static Pattern constantPattern(FhirPathNode argument) {
+    try {
+      List<JsonNode> value = argument.evaluate(List.of(), new FhirPathContext(null, null));
+      return value.size() == 1 && value.get(0).isTextual()
+          ? Pattern.compile(value.get(0).asText(), Pattern.DOTALL)
+          : null;
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static String typeArgument(String function, List<String> typeArguments, String source) {
+    if (typeArguments.isEmpty() || typeArguments.get(0) == null) {
+      throw new IllegalArgumentException("Função FHIRPath '" + function + "' exige um nome de tipo em '"
+          + source + "'");
+    }
+    return typeArguments.get(0);
+  }
+
+  private static JsonNode choiceElement(JsonNode item, String name) {
+    for (Iterator<String> fields = item.fieldNames(); fields.hasNext();) {
+      String field = fields.next();
+      if (field.length() > name.length() && field.startsWith(name)
+          && Character.isUpperCase(field.charAt(name.length()))) {
+        return item.get(field);
+      }
+    }
+    return null;
+  }
+
+  private static List<JsonNode> bool(boolean value) {
+    return List.of(BooleanNode.valueOf(value));
+  }
+}
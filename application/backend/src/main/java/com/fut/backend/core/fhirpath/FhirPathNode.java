@@ -0,0 +1,11 @@
+package com.fut.backend.core.fhirpath;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+@FunctionalInterface
+interface FhirPathNode {
+
+  List<JsonNode> evaluate(List<JsonNode> focus, FhirPathContext context);
+}
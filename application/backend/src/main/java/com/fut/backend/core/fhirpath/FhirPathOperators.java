@@ -0,0 +1,181 @@
+package com.fut.backend.core.fhirpath;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+class FhirPathOperators {
+
+  private static final Map<String, Integer> PRECEDENCE = Map.ofEntries(
+      Map.entry("implies", 1),
+      Map.entry("or", 2), Map.entry("xor", 2),
+      Map.entry("and", 3),
+      Map.entry("in", 4), Map.entry("contains", 4),
+      Map.entry("=", 5), Map.entry("!=", 5), Map.entry("~", 5), Map.entry("!~", 5),
+      Map.entry("<", 6), Map.entry(">", 6), Map.entry("<=", 6), Map.entry(">=", 6),
+      Map.entry("|", 7),
+      Map.entry("is", 8), Map.entry("as", 8),
+      Map.entry("+", 9), Map.entry("-", 9), Map.entry("&", 9),
+      Map.entry("*", 10), Map.entry("/", 10), Map.entry("div", 10), Map.entry("mod", 10));
+
+  static int precedence(String operator) {
+    return PRECEDENCE.getOrDefault(operator, -1);
+  }
+
+  static FhirPathNode binary(String operator, FhirPathNode left, FhirPathNode right) {
+    return switch (operator) {
+      case "and", "or", "xor", "implies" -> logical(operator, left, right);
+      case "|" -> (focus, context) -> FhirPathValues.distinct(concat(left.evaluate(focus, context),
+          right.evaluate(focus, context)));
+      case "=", "!=", "~", "!~" -> equality(operator, left, right);
+      case "<", ">", "<=", ">=" -> comparison(operator, left, right);
+      case "in" -> membership(left, right);
+      case "contains" -> membership(right, left);
+      case "&" -> (focus, context) -> List.of(TextNode.valueOf(
+          FhirPathValues.text(left.evaluate(focus, context)) + FhirPathValues.text(right.evaluate(focus, context))));
+      default -> arithmetic(operator, left, right);
+    };
+  }
+
+  static FhirPathNode typeOperator(String operator, FhirPathNode operand, String typeName) {
+    return (focus, context) -> {
+      List<JsonNode> values = operand.evaluate(focus, context);
+      if (operator.equals("as")) {
+        return values.stream().filter(value -> FhirPathValues.isType(value, typeName)).toList();
+      }
+      if (values.isEmpty()) {
+        return List.of();
+      }
+      return List.of(BooleanNode.valueOf(values.size() == 1 && FhirPathValues.isType(values.get(0), typeName)));
+    };
+  }
+
+  static FhirPathNode negate(FhirPathNode operand) {
+    return (focus, context) -> operand.evaluate(focus, context).stream()
+        .map(value -> (JsonNode) DecimalNode.valueOf(FhirPathValues.decimal(value).negate()))
+        .toList();
+  }
+
+  private static FhirPathNode logical(String operator, FhirPathNode left, FhirPathNode right) {
+    return (focus, context) -> {
+      Boolean a = FhirPathValues.singletonBoolean(left.evaluate(focus, context));
+      if (operator.equals("and") && Boolean.FALSE.equals(a)) {
+        return List.of(BooleanNode.FALSE);
+      }
+      if (operator.equals("or") && Boolean.TRUE.equals(a)) {
+        return List.of(BooleanNode.TRUE);
+      }
+      if (operator.equals("implies") && Boolean.FALSE.equals(a)) {
+        return List.of(BooleanNode.TRUE);
+      }
+
+      Boolean b = FhirPathValues.singletonBoolean(right.evaluate(focus, context));
+      Boolean result = switch (operator) {
+        case "and" -> Boolean.FALSE.equals(b) ? Boolean.FALSE : (a == null || b == null ? null : Boolean.TRUE);
+        case "or" -> Boolean.TRUE.equals(b) ? Boolean.TRUE : (a == null || b == null ? null : Boolean.FALSE);
+        case "xor" -> a == null || b == null ? null : a ^ b;
+        default -> Boolean.TRUE.equals(b) ? Boolean.TRUE : (a == null || b == null ? null : Boolean.FALSE);
+      };
+      return result == null ? List.of() : List.of(BooleanNode.valueOf(result));
+    };
+  }
+
+  private static FhirPathNode equality(String operator, FhirPathNode left, FhirPathNode right) {
+    boolean equivalence = operator.contains("~");
+    boolean negated = operator.startsWith("!");
+    return (focus, context) -> {
+      List<JsonNode> a = left.evaluate(focus, context);
+      List<JsonNode> b = right.evaluate(focus, context);
+      if (!equivalence && (a.isEmpty() || b.isEmpty())) {
+        return List.of();
+      }
+
+      boolean equal = a.size() == b.size();
+      for (int i = 0; equal && i < a.size(); i++) {
+        equal = equivalence ? FhirPathValues.equivalent(a.get(i), b.get(i)) : FhirPathValues.equal(a.get(i), b.get(i));
+      }
+      return List.of(BooleanNode.valueOf(equal != negated));
+    };
+  }
+
+  private static FhirPathNode comparison(String operator, FhirPathNode left, FhirPathNode right) {
+    return (focus, context) -> {
+      List<JsonNode> a = left.evaluate(focus, context);
+      List<JsonNode> b = right.evaluate(focus, context);
+      if (a.isEmpty() || b.isEmpty()) {
+        return List.of();
+      }
+      if (a.size() > 1 || b.size() > 1) {
+        throw new IllegalStateException("Comparação FHIRPath exige valores únicos");
+      }
+
+      int result = FhirPathValues.compare(a.get(0), b.get(0));
+      boolean value = switch (operator) {
+        case "<" -> result < 0;
+        case ">" -> result > 0;
+        case "<=" -> result <= 0;
+        default -> result >= 0;
+      };
+      return List.of(BooleanNode.valueOf(value));
+    };
+  }
+
+  private static FhirPathNode membership(FhirPathNode item, FhirPathNode collection) {
+    return (focus, context) -> {
+      List<JsonNode> values = item.evaluate(focus, context);
+      if (values.isEmpty()) {
+        return List.of();
+      }
+      if (values.size() > 1) {
+        throw new IllegalStateException("Operador de pertinência FHIRPath exige valor único");
+      }
+      JsonNode value = values.get(0);
+      boolean found = collection.evaluate(focus, context).stream()
+          .anyMatch(other -> FhirPathValues.equal(value, other));
+      return List.of(BooleanNode.valueOf(found));
+    };
+  }
+
+  private static FhirPathNode arithmetic(String operator, FhirPathNode left, FhirPathNode right) {
+    return (focus, context) -> {
+      List<JsonNode> a = left.evaluate(focus, context);
+      List<JsonNode> b = right.evaluate(focus, context);
+      if (a.isEmpty() || b.isEmpty()) {
+        return List.of();
+      }
+      if (operator.equals("+") && a.get(0).isTextual()) {
+        return List.of(TextNode.valueOf(a.get(0).asText() + b.get(0).asText()));
+      }
+
+      BigDecimal x = FhirPathValues.decimal(a.get(0));
+      BigDecimal y = FhirPathValues.decimal(b.get(0));
+      if ((operator.equals("/") || operator.equals("div") || operator.equals("mod")) && y.signum() == 0) {
+        return List.of();
+      }
+      BigDecimal result = switch (operator.toLowerCase(Locale.ROOT)) {
+        case "+" -> x.add(y);
+        case "-" -> x.subtract(y);
+        case "*" -> x.multiply(y);
+        case "/" -> x.divide(y, 8, RoundingMode.HALF_UP).stripTrailingZeros();
+        case "div" -> x.divideToIntegralValue(y);
+        default -> x.remainder(y);
+      };
+      return List.of(DecimalNode.valueOf(result));
+    };
+  }
+
+  private static List<JsonNode> concat(List<JsonNode> a, List<JsonNode> b) {
+    List<JsonNode> result = new ArrayList<>(a.size() + b.size());
+    result.addAll(a);
+    result.addAll(b);
+    return result;
+  }
+}
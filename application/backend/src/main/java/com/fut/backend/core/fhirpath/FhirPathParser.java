@@ -0,0 +1,306 @@
+package com.fut.backend.core.fhirpath;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+class FhirPathParser {
+
+  private static final Set<String> KEYWORD_OPERATORS = Set.of("and", "or", "xor", "implies", "in", "contains",
+      "div", "mod", "is", "as");
+
+  private enum TokenType {
+    IDENTIFIER, STRING, NUMBER, DATE, VARIABLE, SYMBOL, END
+  }
+
+  private record Token(TokenType type, String text, int position) {
+  }
+
+  private final String source;
+  private final List<Token> tokens;
+  private int index;
+
+  private FhirPathParser(String source) {
+    this.source = source;
+    this.tokens = tokenize(source);
+  }
+
+  static FhirPathNode parse(String source) {
+    FhirPathParser parser = new FhirPathParser(source);
+    FhirPathNode node = parser.parseExpression(0);
+    if (parser.peek().type() != TokenType.END) {
+      throw parser.error("token inesperado '" + parser.peek().text() + "'");
+    }
+    return node;
+  }
+
+  private FhirPathNode parseExpression(int minPrecedence) {
+    FhirPathNode left = parseUnary();
+
+    while (true) {
+      Token token = peek();
+      String operator = operatorOf(token);
+      int precedence = operator != null ? FhirPathOperators.precedence(operator) : -1;
+      if (precedence < 0 || precedence < minPrecedence) {
+        return left;
+      }
+      index++;
+
+      if (operator.equals("is") || operator.equals("as")) {
+        String typeName = expect(TokenType.IDENTIFIER).text();
+        left = FhirPathOperators.typeOperator(operator, left, typeName);
+        continue;
+      }
+
+      FhirPathNode right = parseExpression(precedence + 1);
+      left = FhirPathOperators.binary(operator, left, right);
+    }
+  }
+
+  private FhirPathNode parseUnary() {
+    Token token = peek();
+    if (token.type() == TokenType.SYMBOL && (token.text().equals("-") || token.text().equals("+"))) {
+      index++;
+      FhirPathNode operand = parseUnary();
+      return token.text().equals("-") ? FhirPathOperators.negate(operand) : operand;
+    }
+    return parseInvocationChain(parseTerm());
+  }
+
+  private FhirPathNode parseInvocationChain(FhirPathNode node) {
+    while (true) {
+      Token token = peek();
+      if (isSymbol(token, ".")) {
+        index++;
+        node = chain(node, parseInvocation(false));
+      } else if (isSymbol(token, "[")) {
+        index++;
+        FhirPathNode indexExpression = parseExpression(0);
+        expectSymbol("]");
+        node = FhirPathFunctions.indexer(node, indexExpression);
+      } else {
+        return node;
+      }
+    }
+  }
+
+  private FhirPathNode parseTerm() {
+    Token token = next();
+    switch (token.type()) {
+      case STRING -> {
+        JsonNode value = TextNode.valueOf(token.text());
+        return (focus, context) -> List.of(value);
+      }
+      case NUMBER -> {
+        JsonNode value = token.text().contains(".")
+            ? DecimalNode.valueOf(new BigDecimal(token.text()))
+            : IntNode.valueOf(Integer.parseInt(token.text()));
+        return (focus, context) -> List.of(value);
+      }
+      case DATE -> {
+        JsonNode value = TextNode.valueOf(token.text());
+        return (focus, context) -> List.of(value);
+      }
+      case VARIABLE -> {
+        return variable(token);
+      }
+      case SYMBOL -> {
+        if (token.text().equals("(")) {
+          FhirPathNode inner = parseExpression(0);
+          expectSymbol(")");
+          return inner;
+        }
+        if (token.text().equals("{")) {
+          expectSymbol("}");
+          return (focus, context) -> List.of();
+        }
+        throw error("token inesperado '" + token.text() + "'");
+      }
+      case IDENTIFIER -> {
+        if (token.text().equals("true") || token.text().equals("false")) {
+          JsonNode value = BooleanNode.valueOf(Boolean.parseBoolean(token.text()));
+          return (focus, context) -> List.of(value);
+        }
+        index--;
+        return parseInvocation(true);
+      }
+      default -> throw error("fim inesperado da expressão");
+    }
+  }
+
+  private FhirPathNode parseInvocation(boolean root) {
+    Token name = expect(TokenType.IDENTIFIER);
+    if (!isSymbol(peek(), "(")) {
+      return FhirPathFunctions.member(name.text(), root);
+    }
+
+    index++;
+    List<FhirPathNode> arguments = new ArrayList<>();
+    List<String> typeArguments = new ArrayList<>();
+    if (!isSymbol(peek(), ")")) {
+      do {
+        Token start = peek();
+        arguments.add(parseExpression(0));
+        typeArguments.add(start.type() == TokenType.IDENTIFIER ? start.text() : null);
+      } while (acceptSymbol(","));
+    }
+    expectSymbol(")");
+    return FhirPathFunctions.function(name.text(), arguments, typeArguments, source);
+  }
+
+  private FhirPathNode variable(Token token) {
+    return switch (token.text()) {
+      case "$this" -> (focus, context) -> context.thisItem() != null ? List.of(context.thisItem()) : List.of();
+      case "%resource", "%context", "%rootResource" -> (focus, context) -> List.of(context.resource());
+      case "%ucum" -> (focus, context) -> List.of(TextNode.valueOf("http://unitsofmeasure.org"));
+      case "%sct" -> (focus, context) -> List.of(TextNode.valueOf("http://snomed.info/sct"));
+      case "%loinc" -> (focus, context) -> List.of(TextNode.valueOf("http://loinc.org"));
+      default -> throw error("variável não suportada " + token.text());
+    };
+  }
+
+  private static FhirPathNode chain(FhirPathNode left, FhirPathNode right) {
+    return (focus, context) -> right.evaluate(left.evaluate(focus, context), context);
+  }
+
+  private String operatorOf(Token token) {
+    if (token.type() == TokenType.SYMBOL) {
+      return FhirPathOperators.precedence(token.text()) >= 0 ? token.text() : null;
+    }
+    if (token.type() == TokenType.IDENTIFIER && KEYWORD_OPERATORS.contains(token.text())) {
+      return token.text();
+    }
+    return null;
+  }
+
+  private Token peek() {
+    return tokens.get(index);
+  }
+
+  private Token next() {
+    Token token = peek();
+    if (token.type() != TokenType.END) {
+      index++;
+    }
+    return token;
+  }
+
+  private Token expect(TokenType type) {
+    Token token = next();
+    if (token.type() != type) {
+      throw error("esperado " + type + " mas encontrado '" + token.text() + "'");
+    }
+    return token;
+  }
+
+  private void expectSymbol(String symbol) {
+    if (!acceptSymbol(symbol)) {
+      throw error("esperado '" + symbol + "' mas encontrado '" + peek().text() + "'");
+    }
+  }
+
+  private boolean acceptSymbol(String symbol) {
+    if (isSymbol(peek(), symbol)) {
+      index++;
+      return true;
+    }
+    return false;
+  }
+
+  private static boolean isSymbol(Token token, String symbol) {
+    return token.type() == TokenType.SYMBOL && token.text().equals(symbol);
+  }
+
+  private IllegalArgumentException error(String message) {
+    return new IllegalArgumentException("Expressão FHIRPath inválida (posição " + peek().position() + "): "
+        + message + " em '" + source + "'");
+  }
+
+  private static List<Token> tokenize(String source) {
+    List<Token> tokens = new ArrayList<>();
+    int i = 0;
+    while (i < source.length()) {
+      char c = source.charAt(i);
+      if (Character.isWhitespace(c)) {
+        i++;
+      } else if (c == '/' && i + 1 < source.length() && source.charAt(i + 1) == '/') {
+        while (i < source.length() && source.charAt(i) != '\n') {
+          i++;
+        }
+      } else if (c == '\'' || c == '`') {
+        int start = i;
+        StringBuilder text = new StringBuilder();
+        i++;
+        while (i < source.length() && source.charAt(i) != c) {
+          char current = source.charAt(i);
+          if (current == '\\' && i + 1 < source.length()) {
+            text.append(unescape(source.charAt(++i)));
+          } else {
+            text.append(current);
+          }
+          i++;
+        }
+        if (i >= source.length()) {
+          throw new IllegalArgumentException("Expressão FHIRPath inválida: texto sem fechamento em '" + source + "'");
+        }
+        i++;
+        tokens.add(new Token(c == '\'' ? TokenType.STRING : TokenType.IDENTIFIER, text.toString(), start));
+      } else if (Character.isDigit(c)) {
+        int start = i;
+        while (i < source.length() && Character.isDigit(source.charAt(i))) {
+          i++;
+        }
+        if (i + 1 < source.length() && source.charAt(i) == '.' && Character.isDigit(source.charAt(i + 1))) {
+          i++;
+          while (i < source.length() && Character.isDigit(source.charAt(i))) {
+            i++;
+          }
+        }
+        tokens.add(new Token(TokenType.NUMBER, source.substring(start, i), start));
+      } else if (c == '@') {
+        int start = i++;
+        while (i < source.length() && "0123456789-:T.+Z".indexOf(source.charAt(i)) >= 0) {
+          i++;
+        }
+        tokens.add(new Token(TokenType.DATE, source.substring(start + 1, i), start));
+      } else if (c == '$' || c == '%' || Character.isLetter(c) || c == '_') {
+        int start = i++;
+        while (i < source.length() && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '_')) {
+          i++;
+        }
+        TokenType type = c == '$' || c == '%' ? TokenType.VARIABLE : TokenType.IDENTIFIER;
+        tokens.add(new Token(type, source.substring(start, i), start));
+      } else {
+        String twoChars = i + 1 < source.length() ? source.substring(i, i + 2) : "";
+        if (twoChars.equals("<=") || twoChars.equals(">=") || twoChars.equals("!=") || twoChars.equals("!~")) {
+          tokens.add(new Token(TokenType.SYMBOL, twoChars, i));
+          i += 2;
+        } else if ("()[]{}.,=<>+-*/|&~".indexOf(c) >= 0) {
+          tokens.add(new Token(TokenType.SYMBOL, String.valueOf(c), i));
+          i++;
+        } else {
+          throw new IllegalArgumentException("Expressão FHIRPath inválida: caractere '" + c + "' na posição "
+              + i + " em '" + source + "'");
+        }
+      }
+    }
+    tokens.add(new Token(TokenType.END, "<fim>", source.length()));
+    return tokens;
+  }
+
+  private static char unescape(char c) {
+    return switch (c) {
+      case 'n' -> '\n';
+      case 't' -> '\t';
+      case 'r' -> '\r';
+      default -> c;
+    };
+  }
+}
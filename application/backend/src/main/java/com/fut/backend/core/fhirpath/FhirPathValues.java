@@ -0,0 +1,104 @@
+package com.fut.backend.core.fhirpath;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+class FhirPathValues {
+
+  static Boolean singletonBoolean(List<JsonNode> values) {
+    if (values.isEmpty()) {
+      return null;
+    }
+    if (values.size() > 1) {
+      throw new IllegalStateException("Expressão FHIRPath retornou múltiplos itens onde era esperado um booleano");
+    }
+    JsonNode value = values.get(0);
+    return value.isBoolean() ? value.booleanValue() : Boolean.TRUE;
+  }
+
+  static String singletonText(List<JsonNode> values) {
+    if (values.isEmpty()) {
+      return null;
+    }
+    if (values.size() > 1) {
+      throw new IllegalStateException("Expressão FHIRPath retornou múltiplos itens onde era esperado um texto");
+    }
+    return values.get(0).asText();
+  }
+
+  static String text(List<JsonNode> values) {
+    String text = singletonText(values);
+    return text != null ? text : "";
+  }
+
+  static BigDecimal decimal(JsonNode value) {
+    if (value.isNumber()) {
+      return value.decimalValue();
+    }
+    try {
+      return new BigDecimal(value.asText());
+    } catch (NumberFormatException e) {
+      throw new IllegalStateException("Valor FHIRPath não numérico: " + value.asText());
+    }
+  }
+
+  static boolean equal(JsonNode a, JsonNode b) {
+    if (a.isNumber() && b.isNumber()) {
+      return a.decimalValue().compareTo(b.decimalValue()) == 0;
+    }
+    if (a.isValueNode() && b.isValueNode()) {
+      return a.getNodeType() == b.getNodeType() && a.asText().equals(b.asText());
+    }
+    return a.equals(b);
+  }
+
+  static boolean equivalent(JsonNode a, JsonNode b) {
+    if (a.isTextual() && b.isTextual()) {
+      return normalize(a.asText()).equals(normalize(b.asText()));
+    }
+    return equal(a, b);
+  }
+
+  static int compare(JsonNode a, JsonNode b) {
+    if (a.isNumber() || b.isNumber()) {
+      return decimal(a).compareTo(decimal(b));
+    }
+    return a.asText().compareTo(b.asText());
+  }
+
+  static List<JsonNode> distinct(List<JsonNode> values) {
+    List<JsonNode> result = new ArrayList<>(values.size());
+    for (JsonNode value : values) {
+      if (result.stream().noneMatch(existing -> equal(existing, value))) {
+        result.add(value);
+      }
+    }
+    return result;
+  }
+
+  static boolean isType(JsonNode value, String typeName) {
+    String type = typeName.startsWith("FHIR.") || typeName.startsWith("System.")
+        ? typeName.substring(typeName.indexOf('.') + 1)
+        : typeName;
+    if (value.isObject() && value.has("resourceType")) {
+      return value.get("resourceType").asText().equals(type) || type.equals("Resource")
+          || type.equals("DomainResource");
+    }
+    return switch (type.toLowerCase(Locale.ROOT)) {
+      case "boolean" -> value.isBoolean();
+      case "integer", "positiveint", "unsignedint" -> value.isIntegralNumber();
+      case "decimal" -> value.isNumber();
+      case "string", "code", "uri", "url", "canonical", "id", "markdown", "date", "datetime", "instant", "time",
+          "oid", "uuid", "base64binary" -> value.isTextual();
+      default -> value.isObject();
+    };
+  }
+
+  private static String normalize(String text) {
+    return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,377 @@
+package com.fut.backend.core.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+public class RunHistory {
+
+  private static final Logger logger = LoggerFactory.getLogger(RunHistory.class);
+  private static final int RUN_ENTRY_SIZE = 28;
+  private static final int RECORD_SIZE = 9;
+
+  private record Sample(boolean passed, long durationMs) {
+  }
+
+  private record RunEntry(long timestamp, long offset, int segment, int count, int passed) {
+  }
+
+  private static final class Series {
+    private byte[] statuses = new byte[8];
+    private long[] durations = new long[8];
+    private int size;
+
+    void add(boolean passed, long durationMs) {
+      if (size == statuses.length) {
+        statuses = Arrays.copyOf(statuses, size * 2);
+        durations = Arrays.copyOf(durations, size * 2);
+      }
+      statuses[size] = (byte) (passed ? 1 : 0);
+      durations[size] = durationMs;
+      size++;
+    }
+  }
+
+  private final boolean enabled;
+  private final Path directory;
+  private final Path dictionaryFile;
+  private final Path runIndexFile;
+  private final int segmentRuns;
+  private final List<String> testIds = new ArrayList<>();
+  private final Map<String, Integer> ordinals = new HashMap<>();
+  private long dictionaryBytes;
+
+  public RunHistory(@Value("${fut.history.enabled:true}") boolean enabled,
+      @Value("${fut.history.directory:.fut-history}") String directory,
+      @Value("${fut.history.segment-runs:256}") int segmentRuns) {
+    this.enabled = enabled;
+    this.directory = Paths.get(directory).toAbsolutePath().normalize();
+    this.dictionaryFile = this.directory.resolve("tests.dict");
+    this.runIndexFile = this.directory.resolve("runs.idx");
+    this.segmentRuns = Math.max(1, segmentRuns);
+  }
+
+  public final class Run {
+
+    private final Map<String, Sample> samples = new LinkedHashMap<>();
+
+    private Run() {
+    }
+
+    public synchronized void record(String testId, boolean passed, long durationMs) {
+      if (testId != null) {
+        samples.put(testId.replace('\n', ' '), new Sample(passed, durationMs));
+      }
+    }
+
+    public synchronized void commit() {
+      if (!enabled || samples.isEmpty()) {
+        return;
+      }
+      try {
+        long run = append(samples, System.currentTimeMillis());
+        logger.info("Execução nº {} registrada no histórico ({} teste(s))", run, samples.size());
+      } catch (IOException e) {
+        logger.warn("Falha ao gravar histórico de execuções em {}: {}", directory, e.getMessage());
+      }
+    }
+  }
+
+  public Run startRun() {
+    return new Run();
+  }
+
+  public List<TestTrend> query(int lastRuns, Collection<String> ids) throws IOException {
+    if (!Files.exists(runIndexFile)) {
+      return List.of();
+    }
+    synchronized (this) {
+      loadDictionary();
+    }
+
+    int[] wanted = null;
+    if (ids != null && !ids.isEmpty()) {
+      wanted = ids.stream().map(this::ordinal).filter(Objects::nonNull).mapToInt(Integer::intValue).sorted()
+          .toArray();
+    }
+
+    Map<Integer, Series> seriesByTest = new HashMap<>();
+    Map<Integer, FileChannel> segments = new HashMap<>();
+    try (FileChannel runIndex = FileChannel.open(runIndexFile, StandardOpenOption.READ)) {
+      long runs = runIndex.size() / RUN_ENTRY_SIZE;
+      long first = Math.max(0, runs - Math.max(1, lastRuns));
+      ByteBuffer entries = ByteBuffer.allocate((int) ((runs - first) * RUN_ENTRY_SIZE));
+      readFully(runIndex, entries, first * RUN_ENTRY_SIZE);
+      entries.flip();
+
+      while (entries.remaining() >= RUN_ENTRY_SIZE) {
+        RunEntry entry = readRunEntry(entries);
+        FileChannel segment = segments.get(entry.segment());
+        if (segment == null) {
+          segment = FileChannel.open(segmentFile(entry.segment()), StandardOpenOption.READ);
+          segments.put(entry.segment(), segment);
+        }
+        if (wanted == null) {
+          readRun(segment, entry, seriesByTest);
+        } else {
+          for (int ordinal : wanted) {
+            findRecord(segment, entry, ordinal, seriesByTest);
+          }
+        }
+      }
+    } finally {
+      for (FileChannel segment : segments.values()) {
+        segment.close();
+      }
+    }
+
+    List<TestTrend> trends = new ArrayList<>();
+    seriesByTest.forEach((ordinal, series) -> trends.add(trend(testId(ordinal), series)));
+    trends.sort(Comparator.comparingInt(TestTrend::flips).reversed()
+        .thenComparingDouble(TestTrend::passRate)
+        .thenComparing(TestTrend::testId));
+    return trends;
+  }
+
+  public long countRuns() {
+    try {
+      return Files.exists(runIndexFile) ? Files.size(runIndexFile) / RUN_ENTRY_SIZE : 0;
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  private synchronized long append(Map<String, Sample> samples, long timestamp) throws IOException {
+    Files.createDirectories(directory);
+    try (FileChannel lockChannel = FileChannel.open(directory.resolve(".lock"), StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE);
+        FileLock lock = lockChannel.lock()) {
+      loadDictionary();
+      StringBuilder added = new StringBuilder();
+      long[] records = new long[samples.size()];
+      int passed = 0;
+      int index = 0;
+      for (Map.Entry<String, Sample> sample : samples.entrySet()) {
+        Integer ordinal = ordinals.get(sample.getKey());
+        if (ordinal == null) {
+          ordinal = testIds.size();
+          testIds.add(sample.getKey());
+          ordinals.put(sample.getKey(), ordinal);
+          added.append(sample.getKey()).append('\n');
+        }
+        records[index] = (long) ordinal << 32 | index;
+        index++;
+        passed += sample.getValue().passed() ? 1 : 0;
+      }
+      if (!added.isEmpty()) {
+        byte[] bytes = added.toString().getBytes(StandardCharsets.UTF_8);
+        try (FileChannel dictionary = FileChannel.open(dictionaryFile, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE)) {
+          dictionary.truncate(dictionaryBytes);
+          writeFully(dictionary, ByteBuffer.wrap(bytes), dictionaryBytes);
+          dictionary.force(false);
+        }
+        dictionaryBytes += bytes.length;
+      }
+
+      List<Sample> values = new ArrayList<>(samples.values());
+      Arrays.sort(records);
+      ByteBuffer block = ByteBuffer.allocate(records.length * RECORD_SIZE);
+      for (long record : records) {
+        Sample sample = values.get((int) record);
+        block.putInt((int) (record >>> 32));
+        block.putInt((int) Math.min(Integer.MAX_VALUE, Math.max(0, sample.durationMs())));
+        block.put((byte) (sample.passed() ? 1 : 0));
+      }
+      block.flip();
+
+      try (FileChannel runIndex = FileChannel.open(runIndexFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE)) {
+        long runs = runIndex.size() / RUN_ENTRY_SIZE;
+        runIndex.truncate(runs * RUN_ENTRY_SIZE);
+        int segment = 0;
+        long offset = 0;
+        if (runs > 0) {
+          long tail = Math.min(runs, segmentRuns);
+          ByteBuffer entries = ByteBuffer.allocate((int) (tail * RUN_ENTRY_SIZE));
+          readFully(runIndex, entries, (runs - tail) * RUN_ENTRY_SIZE);
+          List<RunEntry> recent = new ArrayList<>();
+          entries.flip();
+          while (entries.remaining() >= RUN_ENTRY_SIZE) {
+            recent.add(readRunEntry(entries));
+          }
+          RunEntry previous = recent.get(recent.size() - 1);
+          int segmentSize = 0;
+          for (int i = recent.size() - 1; i >= 0 && recent.get(i).segment() == previous.segment(); i--) {
+            segmentSize++;
+          }
+          segment = previous.segment();
+          offset = previous.offset() + (long) previous.count() * RECORD_SIZE;
+          if (segmentSize >= segmentRuns) {
+            segment++;
+            offset = 0;
+          }
+        }
+
+        try (FileChannel segmentChannel = FileChannel.open(segmentFile(segment), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE)) {
+          if (segmentChannel.size() > offset) {
+            segmentChannel.truncate(offset);
+          }
+          writeFully(segmentChannel, block, offset);
+          segmentChannel.force(false);
+        }
+
+        ByteBuffer entry = ByteBuffer.allocate(RUN_ENTRY_SIZE);
+        entry.putLong(timestamp).putLong(offset).putInt(segment).putInt(records.length).putInt(passed).flip();
+        writeFully(runIndex, entry, runs * RUN_ENTRY_SIZE);
+        runIndex.force(false);
+        return runs + 1;
+      }
+    }
+  }
+
+  private void loadDictionary() throws IOException {
+    if (!Files.exists(dictionaryFile)) {
+      return;
+    }
+    try (FileChannel dictionary = FileChannel.open(dictionaryFile, StandardOpenOption.READ)) {
+      long size = dictionary.size();
+      if (size <= dictionaryBytes) {
+        return;
+      }
+      ByteBuffer buffer = ByteBuffer.allocate((int) (size - dictionaryBytes));
+      readFully(dictionary, buffer, dictionaryBytes);
+      byte[] bytes = buffer.array();
+      int start = 0;
+      for (int i = 0; i < bytes.length; i++) {
+        if (bytes[i] == '\n') {
+          String testId = new String(bytes, start, i - start, StandardCharsets.UTF_8);
+          ordinals.putIfAbsent(testId, testIds.size());
+          testIds.add(testId);
+          start = i + 1;
+        }
+      }
+      dictionaryBytes += start;
+    }
+  }
+
+  private synchronized Integer ordinal(String testId) {
+    return ordinals.get(testId);
+  }
+
+  private synchronized String testId(int ordinal) {
+    return ordinal < testIds.size() ? testIds.get(ordinal) : "#" + ordinal;
+  }
+
+  private static void readRun(FileChannel segment, RunEntry entry, Map<Integer, Series> seriesByTest)
+      throws IOException {
+    ByteBuffer block = ByteBuffer.allocate(entry.count() * RECORD_SIZE);
+    readFully(segment, block, entry.offset());
+    block.flip();
+    while (block.remaining() >= RECORD_SIZE) {
+      int ordinal = block.getInt();
+      int durationMs = block.getInt();
+      boolean passed = block.get() == 1;
+      seriesByTest.computeIfAbsent(ordinal, key -> new Series()).add(passed, durationMs);
+    }
+  }
+
+  private static void findRecord(FileChannel segment, RunEntry entry, int ordinal,
+      Map<Integer, Series> seriesByTest) throws IOException {
+    ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    int low = 0;
+    int high = entry.count() - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      record.clear();
+      readFully(segment, record, entry.offset() + (long) middle * RECORD_SIZE);
+      record.flip();
+      int found = record.getInt();
+      if (found < ordinal) {
+        low = middle + 1;
+      } else if (found > ordinal) {
+        high = middle - 1;
+      } else {
+        int durationMs = record.getInt();
+        seriesByTest.computeIfAbsent(ordinal, key -> new Series()).add(record.get() == 1, durationMs);
+        return;
+      }
+    }
+  }
+
+  private static TestTrend trend(String testId, Series series) {
+    int passed = 0;
+    int flips = 0;
+    for (int i = 0; i < series.size; i++) {
+      passed += series.statuses[i];
+      if (i > 0 && series.statuses[i] != series.statuses[i - 1]) {
+        flips++;
+      }
+    }
+    int half = series.size / 2;
+    return new TestTrend(testId, series.size, passed, flips,
+        percentile(series.durations, 0, series.size, 50),
+        percentile(series.durations, 0, series.size, 95),
+        percentile(series.durations, 0, half, 50),
+        percentile(series.durations, half, series.size, 50));
+  }
+
+  private static long percentile(long[] values, int from, int to, int percentile) {
+    if (to <= from) {
+      return 0;
+    }
+    long[] sorted = Arrays.copyOfRange(values, from, to);
+    Arrays.sort(sorted);
+    int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+    return sorted[Math.max(0, rank - 1)];
+  }
+
+  private static RunEntry readRunEntry(ByteBuffer buffer) {
+    return new RunEntry(buffer.getLong(), buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+  }
+
+  private Path segmentFile(int segment) {
+    return directory.resolve(String.format("segment-%06d.dat", segment));
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    long current = position;
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, current);
+      if (read < 0) {
+        throw new EOFException("Histórico de execuções truncado");
+      }
+      current += read;
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    long current = position;
+    while (buffer.hasRemaining()) {
+      current += channel.write(buffer, current);
+    }
+  }
+}
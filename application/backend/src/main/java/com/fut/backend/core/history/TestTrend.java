@@ -0,0 +1,13 @@
+package com.fut.backend.core.history;
+
+public record TestTrend(String testId, int runs, int passed, int flips, long p50Ms, long p95Ms,
+    long previousP50Ms, long recentP50Ms) {
+
+  public double passRate() {
+    return runs == 0 ? 0 : (double) passed / runs;
+  }
+
+  public long p50TrendMs() {
+    return recentP50Ms - previousP50Ms;
+  }
+}
@@ -0,0 +1,53 @@
+package com.fut.backend.core.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CountingAsyncAppender extends AsyncAppender {
+
+  private static final AtomicLong events = new AtomicLong();
+  private static final AtomicLong droppedEvents = new AtomicLong();
+  private static final AtomicLong appendNanos = new AtomicLong();
+  private static final AtomicInteger peakQueueDepth = new AtomicInteger();
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    long startTime = System.nanoTime();
+    events.incrementAndGet();
+    if (isNeverBlock() && getRemainingCapacity() == 0) {
+      droppedEvents.incrementAndGet();
+    } else {
+      super.append(event);
+      peakQueueDepth.accumulateAndGet(getNumberOfElementsInQueue(), Math::max);
+    }
+    appendNanos.addAndGet(System.nanoTime() - startTime);
+  }
+
+  @Override
+  protected boolean isDiscardable(ILoggingEvent event) {
+    boolean discardable = super.isDiscardable(event);
+    if (discardable) {
+      droppedEvents.incrementAndGet();
+    }
+    return discardable;
+  }
+
+  public static long getDroppedEvents() {
+    return droppedEvents.get();
+  }
+
+  public static Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("events", events.get());
+    statistics.put("dropped_events", droppedEvents.get());
+    statistics.put("append_time_ms", TimeUnit.NANOSECONDS.toMillis(appendNanos.get()));
+    statistics.put("queue_depth_peak", peakQueueDepth.get());
+    return statistics;
+  }
+}
@@ -0,0 +1,61 @@
+package com.fut.backend.core.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.helpers.FormattingTuple;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+public class TestLogCapture extends TurboFilter {
+
+  private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+  private Level level = Level.DEBUG;
+
+  public void setLevel(String level) {
+    this.level = Level.toLevel(level, Level.DEBUG);
+  }
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+      Throwable t) {
+    if (format == null || !level.isGreaterOrEqual(this.level)) {
+      return FilterReply.NEUTRAL;
+    }
+    String testId = MDC.get(TestLogs.MDC_KEY);
+    if (testId == null) {
+      return FilterReply.NEUTRAL;
+    }
+    long startTime = System.nanoTime();
+    long timestamp = System.currentTimeMillis();
+    String name = logger.getName();
+    if (!TestLogs.capture(testId, () -> line(timestamp, name, level, format, params, t), startTime)) {
+      return FilterReply.NEUTRAL;
+    }
+    return level.isGreaterOrEqual(Level.WARN) ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+
+  private static String line(long timestamp, String name, Level level, String format, Object[] params,
+      Throwable t) {
+    FormattingTuple message = MessageFormatter.arrayFormat(format, params);
+    Throwable throwable = t != null ? t : message.getThrowable();
+    StringBuilder line = new StringBuilder(96)
+        .append(LocalTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault()).format(TIME_FORMAT))
+        .append(' ')
+        .append(String.format("%-5s", level)).append(' ')
+        .append(name, name.lastIndexOf('.') + 1, name.length()).append(" - ")
+        .append(message.getMessage());
+    if (throwable != null) {
+      line.append(" | ").append(throwable);
+    }
+    return line.toString();
+  }
+}
@@ -0,0 +1,146 @@
+package com.fut.backend.core.logging;
+
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public final class TestLogs {
+
+  public static final String MDC_KEY = "test_id";
+
+  private static final Map<String, Buffer> buffers = new ConcurrentHashMap<>();
+  private static final Map<String, List<String>> groups = new ConcurrentHashMap<>();
+  private static final AtomicLong capturedLines = new AtomicLong();
+  private static final AtomicLong truncatedLines = new AtomicLong();
+  private static final AtomicLong flushedLines = new AtomicLong();
+  private static final AtomicLong discardedLines = new AtomicLong();
+  private static final AtomicLong captureNanos = new AtomicLong();
+
+  private TestLogs() {
+  }
+
+  public static void open(String testId, int maxLines) {
+    if (testId != null && maxLines > 0) {
+      buffers.putIfAbsent(testId, new Buffer(maxLines));
+    }
+  }
+
+  public static List<String> close(String testId, boolean keep) {
+    Buffer buffer = testId != null ? buffers.remove(testId) : null;
+    if (buffer == null) {
+      return List.of();
+    }
+    if (!keep) {
+      discardedLines.addAndGet(buffer.size());
+      return List.of();
+    }
+    List<String> lines = buffer.lines();
+    flushedLines.addAndGet(lines.size());
+    return lines;
+  }
+
+  public static MDC.MDCCloseable scope(String testId) {
+    return MDC.putCloseable(MDC_KEY, testId);
+  }
+
+  public static Scope scope(List<String> testIds) {
+    if (testIds.size() == 1) {
+      MDC.MDCCloseable single = scope(testIds.get(0));
+      return single::close;
+    }
+    String key = String.join(",", testIds);
+    List<String> members = List.copyOf(testIds);
+    groups.put(key, members);
+    MDC.MDCCloseable group = MDC.putCloseable(MDC_KEY, key);
+    return () -> {
+      group.close();
+      groups.remove(key, members);
+    };
+  }
+
+  static boolean capture(String testId, Supplier<String> line, long startNanos) {
+    Buffer buffer = buffers.get(testId);
+    List<String> members = buffer == null ? groups.get(testId) : null;
+    boolean captured = false;
+    if (buffer != null) {
+      add(buffer, line);
+      captured = true;
+    } else if (members != null) {
+      for (String member : members) {
+        Buffer memberBuffer = buffers.get(member);
+        if (memberBuffer != null) {
+          add(memberBuffer, line);
+          captured = true;
+        }
+      }
+    }
+    if (captured) {
+      captureNanos.addAndGet(System.nanoTime() - startNanos);
+    }
+    return captured;
+  }
+
+  private static void add(Buffer buffer, Supplier<String> line) {
+    if (buffer.add(line)) {
+      capturedLines.incrementAndGet();
+    } else {
+      truncatedLines.incrementAndGet();
+    }
+  }
+
+  public static Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("captured_lines", capturedLines.get());
+    statistics.put("truncated_lines", truncatedLines.get());
+    statistics.put("flushed_lines", flushedLines.get());
+    statistics.put("discarded_lines", discardedLines.get());
+    statistics.put("capture_time_ms", TimeUnit.NANOSECONDS.toMillis(captureNanos.get()));
+    return statistics;
+  }
+
+  public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+
+  private static final class Buffer {
+
+    private final int maxLines;
+    private final List<Supplier<String>> lines = new ArrayList<>();
+    private int truncated;
+
+    private Buffer(int maxLines) {
+      this.maxLines = maxLines;
+    }
+
+    private synchronized boolean add(Supplier<String> line) {
+      if (lines.size() < maxLines) {
+        lines.add(line);
+        return true;
+      }
+      truncated++;
+      return false;
+    }
+
+    private synchronized List<String> lines() {
+      List<String> result = new ArrayList<>(lines.size() + 1);
+      lines.forEach(line -> result.add(line.get()));
+      if (truncated > 0) {
+        result.add("... " + truncated + " linha(s) descartada(s)");
+      }
+      return List.copyOf(result);
+    }
+
+    private synchronized int size() {
+      return lines.size() + (truncated > 0 ? 1 : 0);
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package com.fut.backend.core.metrics;
+
+import com.fut.backend.core.logging.CountingAsyncAppender;
+import com.fut.backend.core.logging.TestLogs;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+@Component
+public class PipelineMetrics {
+
+  private static final Logger logger = LoggerFactory.getLogger(PipelineMetrics.class);
+  private static final Duration STATISTICS_WINDOW = Duration.ofDays(30);
+
+  public enum Phase {
+    YAML_LOAD, QUEUE_WAIT, PRE_VALIDATION, ADMISSION_WAIT, PROCESS_SPAWN, VALIDATOR_RUN, OUTPUT_PARSING, COMPARISON, REPORT_WRITE;
+
+    String tag() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+  private final Map<Phase, Timer> timers = new EnumMap<>(Phase.class);
+  private final AtomicInteger activeProcesses = new AtomicInteger();
+  private final AtomicInteger peakActiveProcesses = new AtomicInteger();
+  private final AtomicInteger peakQueueDepth = new AtomicInteger();
+  private final String prometheusFile;
+  private volatile IntSupplier validateQueueDepth = () -> 0;
+  private volatile IntSupplier resultQueueDepth = () -> 0;
+
+  public PipelineMetrics(@Value("${fut.metrics.prometheus-file:reports/metrics.prom}") String prometheusFile) {
+    this.prometheusFile = prometheusFile;
+
+    for (Phase phase : Phase.values()) {
+      timers.put(phase, Timer.builder("fut.phase.duration")
+          .description("Duração de cada fase da execução dos testes")
+          .tag("phase", phase.tag())
+          .publishPercentiles(0.5, 0.95, 0.99)
+          .publishPercentileHistogram()
+          .distributionStatisticExpiry(STATISTICS_WINDOW)
+          .distributionStatisticBufferLength(1)
+          .register(registry));
+    }
+    Gauge.builder("fut.validator.processes.active", activeProcesses, AtomicInteger::get)
+        .description("Processos do validador em execução")
+        .register(registry);
+    Gauge.builder("fut.pipeline.queue.depth", this, metrics -> metrics.validateQueueDepth.getAsInt())
+        .description("Testes aguardando validação")
+        .tag("queue", "validate")
+        .register(registry);
+    Gauge.builder("fut.pipeline.queue.depth", this, metrics -> metrics.resultQueueDepth.getAsInt())
+        .description("Resultados aguardando gravação no relatório")
+        .tag("queue", "result")
+        .register(registry);
+    FunctionCounter.builder("fut.logging.events.dropped", this, metrics -> CountingAsyncAppender.getDroppedEvents())
+        .description("Eventos de log descartados pelos appenders assíncronos")
+        .register(registry);
+  }
+
+  public MeterRegistry getRegistry() {
+    return registry;
+  }
+
+  public void record(Phase phase, long startNanos) {
+    recordNanos(phase, System.nanoTime() - startNanos);
+  }
+
+  public void recordNanos(Phase phase, long durationNanos) {
+    timers.get(phase).record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void processStarted() {
+    peakActiveProcesses.accumulateAndGet(activeProcesses.incrementAndGet(), Math::max);
+  }
+
+  public void processFinished() {
+    activeProcesses.decrementAndGet();
+  }
+
+  public void bindQueues(IntSupplier validateQueueDepth, IntSupplier resultQueueDepth) {
+    this.validateQueueDepth = validateQueueDepth;
+    this.resultQueueDepth = resultQueueDepth;
+  }
+
+  public void sampleQueueDepth() {
+    peakQueueDepth.accumulateAndGet(validateQueueDepth.getAsInt(), Math::max);
+  }
+
+  public Map<String, Object> snapshot() {
+    Map<String, Object> phases = new LinkedHashMap<>();
+    for (Phase phase : Phase.values()) {
+      Timer timer = timers.get(phase);
+      HistogramSnapshot snapshot = timer.takeSnapshot();
+      Map<String, Object> values = new LinkedHashMap<>();
+      values.put("count", snapshot.count());
+      values.put("total_ms", round(snapshot.total(TimeUnit.MILLISECONDS)));
+      values.put("mean_ms", round(snapshot.mean(TimeUnit.MILLISECONDS)));
+      values.put("max_ms", round(snapshot.max(TimeUnit.MILLISECONDS)));
+      for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+        values.put("p" + Math.round(percentile.percentile() * 100) + "_ms",
+            round(percentile.value(TimeUnit.MILLISECONDS)));
+      }
+      phases.put(phase.tag(), values);
+    }
+
+    Map<String, Object> metrics = new LinkedHashMap<>();
+    metrics.put("phases", phases);
+    metrics.put("validator_processes_peak", peakActiveProcesses.get());
+    metrics.put("validate_queue_depth_peak", peakQueueDepth.get());
+    Map<String, Object> logging = new LinkedHashMap<>(CountingAsyncAppender.getStatistics());
+    logging.put("test_logs", TestLogs.getStatistics());
+    metrics.put("logging", logging);
+    return metrics;
+  }
+
+  public void writePrometheus() {
+    if (prometheusFile == null || prometheusFile.isBlank()) {
+      return;
+    }
+    Path file = Paths.get(prometheusFile);
+    try {
+      if (file.toAbsolutePath().getParent() != null) {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+      }
+      Files.writeString(file, registry.scrape(), StandardCharsets.UTF_8);
+      logger.info("Métricas Prometheus gravadas em: {}", file.toAbsolutePath());
+    } catch (IOException e) {
+      logger.error("Erro ao gravar métricas Prometheus: {}", e.getMessage());
+    }
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 1000) / 1000.0;
+  }
+}
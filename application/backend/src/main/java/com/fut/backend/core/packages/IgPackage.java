@@ -0,0 +1,10 @@
+package com.fut.backend.core.packages;
+
+import java.nio.file.Path;
+
+public record IgPackage(String id, String version, Path directory) {
+
+  public String reference() {
+    return id + "#" + version;
+  }
+}
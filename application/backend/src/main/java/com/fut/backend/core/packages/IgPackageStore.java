@@ -0,0 +1,389 @@
+package com.fut.backend.core.packages;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Component
+public class IgPackageStore {
+
+  private static final Logger logger = LoggerFactory.getLogger(IgPackageStore.class);
+  private static final String INDEX_FILE = "index.json";
+  private static final String SNAPSHOT_MARKER = ".fut-snapshots";
+  private static final Pattern CORE_PACKAGE = Pattern.compile("hl7\\.fhir\\.r\\d+b?\\.core");
+  private static final Map<String, String> CORE_RELEASES = Map.of("3.0", "r3", "4.0", "r4", "4.3", "r4b", "5.0", "r5");
+  private static final Map<String, String> CORE_VERSIONS =
+      Map.of("3.0", "3.0.2", "4.0", "4.0.1", "4.3", "4.3.0", "5.0", "5.0.0");
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Path directory;
+  private final String registry;
+  private final boolean offline;
+  private final Path validatorCache;
+  private final Map<String, List<IgPackage>> resolved = new ConcurrentHashMap<>();
+  private final AtomicLong downloads = new AtomicLong();
+  private Map<String, String> index;
+  private HttpClient httpClient;
+
+  public IgPackageStore(@Value("${fut.packages.directory:.fut-packages}") String directory,
+      @Value("${fut.packages.registry:https://packages.fhir.org}") String registry,
+      @Value("${fut.packages.offline:false}") boolean offline,
+      @Value("${fut.packages.validator-cache:${user.home}/.fhir/packages}") String validatorCache) {
+    this.directory = Paths.get(directory).toAbsolutePath().normalize();
+    this.registry = registry.endsWith("/") ? registry.substring(0, registry.length() - 1) : registry;
+    this.offline = offline;
+    this.validatorCache = Paths.get(validatorCache).toAbsolutePath().normalize();
+  }
+
+  public boolean isOffline() {
+    return offline;
+  }
+
+  public List<IgPackage> resolve(String ig) {
+    List<IgPackage> packages = resolved.get(ig);
+    if (packages != null) {
+      return packages;
+    }
+
+    synchronized (this) {
+      packages = resolved.get(ig);
+      if (packages == null) {
+        packages = install(ig);
+        resolved.put(ig, packages);
+      }
+      return packages;
+    }
+  }
+
+  public IgPackage resolveCore(String fhirVersion) {
+    String reference = corePackage(fhirVersion);
+    List<IgPackage> packages = resolve(reference);
+    IgPackage core = packages.stream()
+        .filter(igPackage -> igPackage.reference().equals(reference))
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("Pacote core FHIR não encontrado: " + reference));
+    seedValidatorCache(core);
+    return core;
+  }
+
+  public List<Path> definitionsWithoutSnapshot(IgPackage igPackage) {
+    if (Files.exists(igPackage.directory().resolve(SNAPSHOT_MARKER))) {
+      return List.of();
+    }
+
+    List<Path> definitions = new ArrayList<>();
+    try (Stream<Path> files = Files.list(igPackage.directory())) {
+      for (Path file : files.filter(path -> path.getFileName().toString().startsWith("StructureDefinition-"))
+          .sorted().toList()) {
+        JsonNode definition = objectMapper.readTree(file.toFile());
+        if (!definition.has("snapshot") && definition.has("differential")) {
+          definitions.add(file);
+        }
+      }
+    } catch (IOException e) {
+      logger.warn("Falha ao inspecionar definições do pacote {}: {}", igPackage.reference(), e.getMessage());
+    }
+    return definitions;
+  }
+
+  public void markSnapshotsGenerated(IgPackage igPackage) {
+    try {
+      Files.writeString(igPackage.directory().resolve(SNAPSHOT_MARKER), "");
+    } catch (IOException e) {
+      logger.debug("Falha ao marcar snapshots do pacote {}: {}", igPackage.reference(), e.getMessage());
+    }
+  }
+
+  public Map<String, Object> getStatistics() {
+    long packages = resolved.values().stream().flatMap(List::stream).distinct().count();
+    return Map.of("prepared_packages", packages, "downloaded_packages", downloads.get());
+  }
+
+  private List<IgPackage> install(String ig) {
+    if (Files.exists(Paths.get(ig))) {
+      return List.of();
+    }
+
+    Map<String, IgPackage> closure = new LinkedHashMap<>();
+    install(ig, closure, new LinkedHashSet<>());
+    return List.copyOf(closure.values());
+  }
+
+  private void install(String reference, Map<String, IgPackage> closure, Set<String> visiting) {
+    String pinned = pin(reference);
+    if (closure.containsKey(pinned) || !visiting.add(pinned)) {
+      return;
+    }
+
+    IgPackage igPackage = fetch(reference, pinned);
+    for (Map.Entry<String, String> dependency : dependencies(igPackage).entrySet()) {
+      if (!CORE_PACKAGE.matcher(dependency.getKey()).matches()) {
+        install(dependency.getKey() + "#" + dependency.getValue(), closure, visiting);
+      }
+    }
+    closure.put(pinned, igPackage);
+  }
+
+  private String pin(String reference) {
+    if (isUrl(reference) || reference.contains("#")) {
+      return reference;
+    }
+
+    String pinned = index().get(reference);
+    if (pinned != null) {
+      return pinned;
+    }
+    requireOnline(reference);
+
+    JsonNode metadata = readJson(URI.create(registry + "/" + reference));
+    String latest = metadata.path("dist-tags").path("latest").asText(null);
+    if (latest == null) {
+      throw new IllegalStateException("Versão do pacote FHIR não encontrada no registro: " + reference);
+    }
+    pinned = reference + "#" + latest;
+    remember(reference, pinned);
+    return pinned;
+  }
+
+  private IgPackage fetch(String reference, String pinned) {
+    String known = isUrl(pinned) ? index().get(pinned) : pinned;
+    if (known != null) {
+      IgPackage installed = installed(known);
+      if (installed != null) {
+        return installed;
+      }
+    }
+    requireOnline(reference);
+
+    URI source = isUrl(pinned)
+        ? URI.create(pinned.endsWith(".tgz") ? pinned : pinned + "/package.tgz")
+        : URI.create(registry + "/" + pinned.replace('#', '/'));
+    logger.info("Baixando pacote FHIR {} de {}", reference, source);
+
+    Path archive = null;
+    Path staging = null;
+    try {
+      Files.createDirectories(directory);
+      archive = Files.createTempFile(directory, "package-", ".tgz");
+      download(source, archive);
+      staging = Files.createTempDirectory(directory, "package-");
+      PackageArchive.extract(archive, staging);
+
+      JsonNode manifest = objectMapper.readTree(staging.resolve("package").resolve("package.json").toFile());
+      String id = manifest.path("name").asText(null);
+      String version = manifest.path("version").asText(null);
+      if (id == null || version == null) {
+        throw new IllegalStateException("package.json sem nome ou versão: " + reference);
+      }
+
+      String packageReference = id + "#" + version;
+      Path target = directory.resolve(packageReference);
+      if (!Files.exists(target)) {
+        move(staging, target);
+        staging = null;
+      }
+      downloads.incrementAndGet();
+      if (isUrl(pinned)) {
+        remember(pinned, packageReference);
+      }
+      return new IgPackage(id, version, target.resolve("package"));
+    } catch (IOException e) {
+      throw new IllegalStateException("Erro ao preparar pacote FHIR " + reference + ": " + e.getMessage(), e);
+    } finally {
+      deleteQuietly(archive);
+      deleteQuietly(staging);
+    }
+  }
+
+  private IgPackage installed(String packageReference) {
+    Path packageDirectory = directory.resolve(packageReference).resolve("package");
+    if (!Files.exists(packageDirectory.resolve("package.json"))) {
+      return null;
+    }
+    int separator = packageReference.indexOf('#');
+    return new IgPackage(packageReference.substring(0, separator), packageReference.substring(separator + 1),
+        packageDirectory);
+  }
+
+  private void seedValidatorCache(IgPackage igPackage) {
+    Path target = validatorCache.resolve(igPackage.reference());
+    if (Files.exists(target.resolve("package").resolve("package.json"))) {
+      return;
+    }
+
+    Path staging = null;
+    try {
+      Files.createDirectories(validatorCache);
+      staging = Files.createTempDirectory(validatorCache, "fut-package-");
+      Path source = igPackage.directory();
+      Path copy = staging.resolve("package");
+      try (Stream<Path> files = Files.walk(source)) {
+        for (Path file : files.toList()) {
+          Files.copy(file, copy.resolve(source.relativize(file).toString()), StandardCopyOption.COPY_ATTRIBUTES);
+        }
+      }
+      move(staging, target);
+      staging = null;
+      logger.info("Pacote {} copiado para o cache de pacotes do validador em {}", igPackage.reference(),
+          validatorCache);
+    } catch (IOException e) {
+      if (Files.exists(target.resolve("package").resolve("package.json"))) {
+        return;
+      }
+      throw new IllegalStateException("Erro ao copiar pacote " + igPackage.reference()
+          + " para o cache de pacotes do validador: " + e.getMessage(), e);
+    } finally {
+      deleteQuietly(staging);
+    }
+  }
+
+  private static String corePackage(String fhirVersion) {
+    String[] parts = fhirVersion.split("\\.");
+    String release = parts.length >= 2 ? CORE_RELEASES.get(parts[0] + "." + parts[1]) : null;
+    if (release == null) {
+      throw new IllegalArgumentException("Versão FHIR sem pacote core conhecido: " + fhirVersion);
+    }
+    String version = parts.length == 2 ? CORE_VERSIONS.get(parts[0] + "." + parts[1]) : fhirVersion;
+    return "hl7.fhir." + release + ".core#" + version;
+  }
+
+  private Map<String, String> dependencies(IgPackage igPackage) {
+    try {
+      JsonNode manifest = objectMapper.readTree(igPackage.directory().resolve("package.json").toFile());
+      Map<String, String> dependencies = new LinkedHashMap<>();
+      manifest.path("dependencies").fields()
+          .forEachRemaining(entry -> dependencies.put(entry.getKey(), entry.getValue().asText()));
+      return dependencies;
+    } catch (IOException e) {
+      throw new IllegalStateException("Erro ao ler package.json de " + igPackage.reference() + ": "
+          + e.getMessage(), e);
+    }
+  }
+
+  private void requireOnline(String reference) {
+    if (offline) {
+      throw new IllegalStateException("Pacote FHIR não preparado: " + reference
+          + ". Execute 'prepare' com acesso à rede antes de validar em modo offline");
+    }
+  }
+
+  private void download(URI source, Path target) throws IOException {
+    HttpRequest request = HttpRequest.newBuilder(source).header("Accept", "application/tar+gzip").GET().build();
+    try {
+      HttpResponse<Path> response = httpClient().send(request, HttpResponse.BodyHandlers.ofFile(target));
+      if (response.statusCode() != 200) {
+        throw new IOException("HTTP " + response.statusCode() + " em " + source);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Download interrompido: " + source, e);
+    }
+  }
+
+  private JsonNode readJson(URI source) {
+    HttpRequest request = HttpRequest.newBuilder(source).header("Accept", "application/json").GET().build();
+    try {
+      HttpResponse<String> response = httpClient().send(request, HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException("Registro de pacotes retornou HTTP " + response.statusCode() + " para "
+            + source);
+      }
+      return objectMapper.readTree(response.body());
+    } catch (IOException e) {
+      throw new IllegalStateException("Erro ao consultar registro de pacotes " + source + ": " + e.getMessage(), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Consulta ao registro de pacotes interrompida: " + source, e);
+    }
+  }
+
+  private synchronized HttpClient httpClient() {
+    if (httpClient == null) {
+      httpClient = HttpClient.newBuilder()
+          .connectTimeout(Duration.ofSeconds(30))
+          .followRedirects(HttpClient.Redirect.NORMAL)
+          .build();
+    }
+    return httpClient;
+  }
+
+  private synchronized Map<String, String> index() {
+    if (index == null) {
+      index = new LinkedHashMap<>();
+      Path indexFile = directory.resolve(INDEX_FILE);
+      if (Files.exists(indexFile)) {
+        try {
+          index.putAll(objectMapper.readValue(indexFile.toFile(), new TypeReference<Map<String, String>>() {
+          }));
+        } catch (IOException e) {
+          logger.warn("Índice de pacotes ilegível {}: {}", indexFile, e.getMessage());
+        }
+      }
+    }
+    return index;
+  }
+
+  private synchronized void remember(String reference, String packageReference) {
+    index().put(reference, packageReference);
+    try {
+      Files.createDirectories(directory);
+      Path temp = Files.createTempFile(directory, "index", ".tmp");
+      objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), index);
+      move(temp, directory.resolve(INDEX_FILE));
+    } catch (IOException e) {
+      logger.warn("Falha ao gravar índice de pacotes: {}", e.getMessage());
+    }
+  }
+
+  private static void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static boolean isUrl(String reference) {
+    return reference.startsWith("http://") || reference.startsWith("https://");
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path == null || !Files.exists(path)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(path)) {
+      for (Path entry : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(entry);
+      }
+    } catch (IOException e) {
+      logger.debug("Falha ao remover arquivo temporário {}: {}", path, e.getMessage());
+    }
+  }
+}
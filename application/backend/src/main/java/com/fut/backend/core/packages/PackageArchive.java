@@ -0,0 +1,204 @@
+package com.fut.backend.core.packages;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+public class PackageArchive {
+
+  private static final int BLOCK_SIZE = 512;
+
+  public interface EntryHandler {
+    void accept(String name, long size, InputStream content) throws IOException;
+  }
+
+  static void extract(Path archive, Path target) throws IOException {
+    read(archive, (name, size, content) -> {
+      Path entry = target.resolve(name).normalize();
+      if (!entry.startsWith(target)) {
+        throw new IOException("Entrada fora do diretório do pacote: " + name);
+      }
+      Files.createDirectories(entry.getParent());
+      try (OutputStream output = Files.newOutputStream(entry)) {
+        copy(content, output, size);
+      }
+    });
+  }
+
+  public static void read(Path archive, EntryHandler handler) throws IOException {
+    try (InputStream input = new GZIPInputStream(Files.newInputStream(archive), 65536)) {
+      byte[] header = new byte[BLOCK_SIZE];
+      String longName = null;
+
+      while (readBlock(input, header)) {
+        if (isEmpty(header)) {
+          return;
+        }
+
+        String name = longName != null ? longName : entryName(header);
+        longName = null;
+        long size = octal(header, 124, 12);
+        char type = (char) header[156];
+
+        if (type == 'L') {
+          longName = new String(readContent(input, size), StandardCharsets.UTF_8).trim();
+          continue;
+        }
+        if (type == 'x') {
+          longName = paxPath(readContent(input, size));
+          continue;
+        }
+
+        if (type == '0' || type == '\0') {
+          EntryStream content = new EntryStream(input, size);
+          handler.accept(name, size, content);
+          skip(input, content.remaining);
+          skipPadding(input, size);
+        } else {
+          skip(input, padded(size));
+        }
+      }
+    }
+  }
+
+  private static final class EntryStream extends FilterInputStream {
+
+    private long remaining;
+
+    private EntryStream(InputStream input, long size) {
+      super(input);
+      this.remaining = size;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int value = in.read();
+      if (value < 0) {
+        throw new EOFException("Pacote truncado");
+      }
+      remaining--;
+      return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int read = in.read(buffer, offset, (int) Math.min(length, remaining));
+      if (read < 0) {
+        throw new EOFException("Pacote truncado");
+      }
+      remaining -= read;
+      return read;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+      long skipped = in.skip(Math.min(count, remaining));
+      remaining -= skipped;
+      return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+      return (int) Math.min(in.available(), remaining);
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
+  private static String entryName(byte[] header) {
+    String name = text(header, 0, 100);
+    String prefix = text(header, 345, 155);
+    return prefix.isEmpty() ? name : prefix + "/" + name;
+  }
+
+  private static String paxPath(byte[] content) {
+    for (String record : new String(content, StandardCharsets.UTF_8).split("\n")) {
+      int separator = record.indexOf(" path=");
+      if (separator >= 0) {
+        return record.substring(separator + 6);
+      }
+    }
+    return null;
+  }
+
+  private static byte[] readContent(InputStream input, long size) throws IOException {
+    byte[] content = input.readNBytes((int) size);
+    if (content.length < size) {
+      throw new EOFException("Pacote truncado");
+    }
+    skipPadding(input, size);
+    return content;
+  }
+
+  private static void copy(InputStream input, OutputStream output, long size) throws IOException {
+    byte[] buffer = new byte[65536];
+    long remaining = size;
+    while (remaining > 0) {
+      int read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+      if (read < 0) {
+        throw new EOFException("Pacote truncado");
+      }
+      output.write(buffer, 0, read);
+      remaining -= read;
+    }
+  }
+
+  private static void skipPadding(InputStream input, long size) throws IOException {
+    skip(input, padded(size) - size);
+  }
+
+  private static void skip(InputStream input, long count) throws IOException {
+    input.skipNBytes(count);
+  }
+
+  private static long padded(long size) {
+    return (size + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+  }
+
+  private static boolean readBlock(InputStream input, byte[] block) throws IOException {
+    int read = input.readNBytes(block, 0, BLOCK_SIZE);
+    if (read == 0) {
+      return false;
+    }
+    if (read < BLOCK_SIZE) {
+      throw new EOFException("Pacote truncado");
+    }
+    return true;
+  }
+
+  private static boolean isEmpty(byte[] block) {
+    for (byte b : block) {
+      if (b != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String text(byte[] header, int offset, int length) {
+    int end = offset;
+    while (end < offset + length && header[end] != 0) {
+      end++;
+    }
+    return new String(header, offset, end - offset, StandardCharsets.UTF_8);
+  }
+
+  private static long octal(byte[] header, int offset, int length) {
+    String value = text(header, offset, length).trim();
+    return value.isEmpty() ? 0 : Long.parseLong(value, 8);
+  }
+}
@@ -0,0 +1,193 @@
+package com.fut.backend.core.prevalidation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fut.backend.core.metrics.PipelineMetrics;
+import com.fut.backend.core.packages.IgPackageStore;
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.domain.TestCase;
+import com.fut.backend.domain.ValidationIssue;
+import com.fut.backend.domain.ValidationIssue.Severity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+@Component
+public class PreValidator {
+
+  private static final Logger logger = LoggerFactory.getLogger(PreValidator.class);
+  private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+      .enable(StreamReadFeature.STRICT_DUPLICATE_DETECTION)
+      .build();
+  private static final Pattern RESOURCE_TYPE = Pattern.compile("[A-Z][A-Za-z]+");
+
+  private static final String JSON_SYNTAX = "FUT_PRE_JSON_SYNTAX";
+  private static final String NOT_AN_OBJECT = "FUT_PRE_NOT_AN_OBJECT";
+  private static final String RESOURCE_TYPE_MISSING = "FUT_PRE_RESOURCE_TYPE_MISSING";
+  private static final String RESOURCE_TYPE_INVALID = "FUT_PRE_RESOURCE_TYPE_INVALID";
+  private static final String PROFILE_TYPE_MISMATCH = "FUT_PRE_PROFILE_TYPE_MISMATCH";
+
+  private final ProfileTypes profileTypes;
+  private final PipelineMetrics metrics;
+  private final SuiteArchives suiteArchives;
+  private final boolean enabled;
+  private final AtomicLong checked = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong checkNanos = new AtomicLong();
+  private final Map<String, AtomicLong> rejectionsByReason = new ConcurrentHashMap<>();
+
+  public PreValidator(IgPackageStore packageStore, PipelineMetrics metrics, SuiteArchives suiteArchives,
+      @Value("${fut.prevalidation.enabled:false}") boolean enabled,
+      @Value("${fut.validator.fhir-version:4.0.1}") String fhirVersion) {
+    this.profileTypes = new ProfileTypes(packageStore, fhirVersion);
+    this.metrics = metrics;
+    this.suiteArchives = suiteArchives;
+    this.enabled = enabled;
+  }
+
+  public boolean appliesTo(TestCase testCase) {
+    return testCase.getPreValidation() != null ? testCase.getPreValidation() : enabled;
+  }
+
+  public List<ValidationIssue> check(TestCase testCase) {
+    String instance = testCase.getInstancePath();
+    if (!suiteArchives.exists(instance)) {
+      return List.of();
+    }
+
+    long startTime = System.nanoTime();
+    List<ValidationIssue> issues = new ArrayList<>();
+    try {
+      String resourceType = readInstance(instance, issues);
+      if (resourceType != null) {
+        checkProfiles(testCase, resourceType, issues);
+      }
+    } catch (IOException e) {
+      logger.debug("Pré-validação não concluída para o teste {}: {}", testCase.getId(), e.getMessage());
+      issues.clear();
+    } finally {
+      checkNanos.addAndGet(System.nanoTime() - startTime);
+      metrics.record(PipelineMetrics.Phase.PRE_VALIDATION, startTime);
+      checked.incrementAndGet();
+    }
+
+    if (!issues.isEmpty()) {
+      rejected.incrementAndGet();
+      issues.stream().map(ValidationIssue::getMessageId).distinct()
+          .forEach(reason -> rejectionsByReason.computeIfAbsent(reason, key -> new AtomicLong()).incrementAndGet());
+      logger.info("Teste {} rejeitado na pré-validação ({} erro(s)); validador não executado", testCase.getId(),
+          issues.size());
+    }
+    return issues;
+  }
+
+  public Map<String, Object> getStatistics() {
+    Map<String, Long> reasons = new TreeMap<>();
+    rejectionsByReason.forEach((reason, count) -> reasons.put(reason, count.get()));
+
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("enabled", enabled);
+    statistics.put("checked", checked.get());
+    statistics.put("rejected", rejected.get());
+    statistics.put("forwarded", checked.get() - rejected.get());
+    statistics.put("check_time_ms", TimeUnit.NANOSECONDS.toMillis(checkNanos.get()));
+    statistics.put("rejections_by_reason", reasons);
+    return statistics;
+  }
+
+  private String readInstance(String instance, List<ValidationIssue> issues) throws IOException {
+    String resourceType = null;
+    boolean hasResourceType = false;
+
+    try (JsonParser parser = JSON_FACTORY.createParser(suiteArchives.open(instance))) {
+      JsonToken root = parser.nextToken();
+      if (root != JsonToken.START_OBJECT) {
+        issues.add(issue(NOT_AN_OBJECT, "(document)", parser.currentLocation(),
+            "The instance must be a JSON object"));
+        return null;
+      }
+
+      JsonToken token = parser.nextToken();
+      while (token == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if (field.equals("resourceType")) {
+          hasResourceType = true;
+          if (value == JsonToken.VALUE_STRING && RESOURCE_TYPE.matcher(parser.getText()).matches()) {
+            resourceType = parser.getText();
+          } else {
+            issues.add(issue(RESOURCE_TYPE_INVALID, "resourceType", parser.currentLocation(),
+                value == JsonToken.VALUE_STRING ? "Invalid resourceType '" + parser.getText() + "'"
+                    : "The resourceType property must be a string"));
+            parser.skipChildren();
+          }
+        } else {
+          parser.skipChildren();
+        }
+        token = parser.nextToken();
+      }
+
+      if (parser.nextToken() != null) {
+        issues.add(issue(JSON_SYNTAX, "(document)", parser.currentLocation(),
+            "Unexpected content after the end of the JSON object"));
+      }
+    } catch (JsonProcessingException e) {
+      issues.clear();
+      String message = e.getOriginalMessage();
+      int detail = message.indexOf(" (for ");
+      issues.add(issue(JSON_SYNTAX, "(document)", e.getLocation(),
+          "Unable to parse JSON: " + (detail > 0 ? message.substring(0, detail) : message)));
+      return null;
+    }
+
+    if (!hasResourceType) {
+      issues.add(issue(RESOURCE_TYPE_MISSING, "(document)", null, "Unable to find resourceType property"));
+    }
+    return resourceType;
+  }
+
+  private void checkProfiles(TestCase testCase, String resourceType, List<ValidationIssue> issues) {
+    List<String> profiles = testCase.getContext() != null ? testCase.getContext().getProfiles() : null;
+    if (profiles == null) {
+      return;
+    }
+    for (String profile : profiles) {
+      String baseType = profileTypes.baseType(profile, testCase.getContext());
+      if (baseType != null && !baseType.equals(resourceType)) {
+        issues.add(issue(PROFILE_TYPE_MISMATCH, resourceType, null,
+            "Specified profile type was '" + baseType + "' in profile '" + profile + "', but found type '"
+                + resourceType + "'"));
+      }
+    }
+  }
+
+  private static ValidationIssue issue(String messageId, String location, JsonLocation position, String message) {
+    ValidationIssue issue = new ValidationIssue();
+    issue.setSeverity(Severity.ERROR);
+    issue.setMessageId(messageId);
+    issue.setLocation(location);
+    issue.setMessage(message);
+    issue.setRawText(location + ": " + message);
+    if (position != null && position.getLineNr() > 0) {
+      issue.setLine(position.getLineNr());
+      issue.setColumn(position.getColumnNr());
+    }
+    return issue;
+  }
+}
@@ -0,0 +1,170 @@
+package com.fut.backend.core.prevalidation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fut.backend.core.packages.IgPackage;
+import com.fut.backend.core.packages.IgPackageStore;
+import com.fut.backend.domain.ValidationContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+class ProfileTypes {
+
+  private static final Logger logger = LoggerFactory.getLogger(ProfileTypes.class);
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final String CORE_PREFIX = "http://hl7.org/fhir/StructureDefinition/";
+  private static final Set<String> R4_RESOURCE_TYPES = Set.of("Account", "ActivityDefinition", "AdverseEvent",
+      "AllergyIntolerance", "Appointment", "AppointmentResponse", "AuditEvent", "Basic", "Binary",
+      "BiologicallyDerivedProduct", "BodyStructure", "Bundle", "CapabilityStatement", "CarePlan", "CareTeam",
+      "CatalogEntry", "ChargeItem", "ChargeItemDefinition", "Claim", "ClaimResponse", "ClinicalImpression",
+      "CodeSystem", "Communication", "CommunicationRequest", "CompartmentDefinition", "Composition", "ConceptMap",
+      "Condition", "Consent", "Contract", "Coverage", "CoverageEligibilityRequest", "CoverageEligibilityResponse",
+      "DetectedIssue", "Device", "DeviceDefinition", "DeviceMetric", "DeviceRequest", "DeviceUseStatement",
+      "DiagnosticReport", "DocumentManifest", "DocumentReference", "EffectEvidenceSynthesis", "Encounter",
+      "Endpoint", "EnrollmentRequest", "EnrollmentResponse", "EpisodeOfCare", "EventDefinition", "Evidence",
+      "EvidenceVariable", "ExampleScenario", "ExplanationOfBenefit", "FamilyMemberHistory", "Flag", "Goal",
+      "GraphDefinition", "Group", "GuidanceResponse", "HealthcareService", "ImagingStudy", "Immunization",
+      "ImmunizationEvaluation", "ImmunizationRecommendation", "ImplementationGuide", "InsurancePlan", "Invoice",
+      "Library", "Linkage", "List", "Location", "Measure", "MeasureReport", "Media", "Medication",
+      "MedicationAdministration", "MedicationDispense", "MedicationKnowledge", "MedicationRequest",
+      "MedicationStatement", "MedicinalProduct", "MedicinalProductAuthorization",
+      "MedicinalProductContraindication", "MedicinalProductIndication", "MedicinalProductIngredient",
+      "MedicinalProductInteraction", "MedicinalProductManufactured", "MedicinalProductPackaged",
+      "MedicinalProductPharmaceutical", "MedicinalProductUndesirableEffect", "MessageDefinition", "MessageHeader",
+      "MolecularSequence", "NamingSystem", "NutritionOrder", "Observation", "ObservationDefinition",
+      "OperationDefinition", "OperationOutcome", "Organization", "OrganizationAffiliation", "Parameters",
+      "Patient", "PaymentNotice", "PaymentReconciliation", "Person", "PlanDefinition", "Practitioner",
+      "PractitionerRole", "Procedure", "Provenance", "Questionnaire", "QuestionnaireResponse", "RelatedPerson",
+      "RequestGroup", "ResearchDefinition", "ResearchElementDefinition", "ResearchStudy", "ResearchSubject",
+      "RiskAssessment", "RiskEvidenceSynthesis", "Schedule", "SearchParameter", "ServiceRequest", "Slot",
+      "Specimen", "SpecimenDefinition", "StructureDefinition", "StructureMap", "Subscription", "Substance",
+      "SubstanceNucleicAcid", "SubstancePolymer", "SubstanceProtein", "SubstanceReferenceInformation",
+      "SubstanceSourceMaterial", "SubstanceSpecification", "SupplyDelivery", "SupplyRequest", "Task",
+      "TerminologyCapabilities", "TestReport", "TestScript", "ValueSet", "VerificationResult",
+      "VisionPrescription");
+
+  private record Definition(String url, String type) {
+  }
+
+  private final IgPackageStore packageStore;
+  private final Set<String> coreResourceTypes;
+  private final Map<Path, Map<String, String>> typesByDirectory = new ConcurrentHashMap<>();
+  private final Map<Path, Optional<Definition>> definitionsByFile = new ConcurrentHashMap<>();
+
+  ProfileTypes(IgPackageStore packageStore, String fhirVersion) {
+    this.packageStore = packageStore;
+    this.coreResourceTypes = fhirVersion.startsWith("4.0.") ? R4_RESOURCE_TYPES : Set.of();
+  }
+
+  String baseType(String profile, ValidationContext context) {
+    Path file = Paths.get(profile);
+    if (!profile.contains("://") && Files.isRegularFile(file)) {
+      return definition(file).map(Definition::type).orElse(null);
+    }
+    String canonical = profile.contains("|") ? profile.substring(0, profile.indexOf('|')) : profile;
+    if (canonical.startsWith(CORE_PREFIX)) {
+      String name = canonical.substring(CORE_PREFIX.length());
+      return coreResourceTypes.contains(name) ? name : null;
+    }
+
+    if (context.getResources() != null) {
+      for (String resource : context.getResources()) {
+        Path resourceFile = Paths.get(resource);
+        if (Files.isRegularFile(resourceFile)) {
+          Optional<Definition> definition = definition(resourceFile);
+          if (definition.isPresent() && canonical.equals(definition.get().url())) {
+            return definition.get().type();
+          }
+        }
+      }
+    }
+    if (context.getIgs() != null) {
+      for (String ig : context.getIgs()) {
+        for (Path directory : directories(ig)) {
+          String type = typesByDirectory.computeIfAbsent(directory, this::scan).get(canonical);
+          if (type != null) {
+            return type;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private List<Path> directories(String ig) {
+    Path local = Paths.get(ig);
+    if (Files.isDirectory(local)) {
+      return List.of(local.toAbsolutePath().normalize());
+    }
+    try {
+      return packageStore.resolve(ig).stream().map(IgPackage::directory).toList();
+    } catch (RuntimeException e) {
+      logger.debug("IG {} indisponível para a pré-validação: {}", ig, e.getMessage());
+      return List.of();
+    }
+  }
+
+  private Map<String, String> scan(Path directory) {
+    Map<String, String> types = new HashMap<>();
+    List<Path> files = new ArrayList<>();
+    try (Stream<Path> entries = Files.list(directory)) {
+      entries.filter(path -> path.getFileName().toString().endsWith(".json")).forEach(files::add);
+    } catch (IOException e) {
+      logger.debug("Falha ao listar definições em {}: {}", directory, e.getMessage());
+    }
+    for (Path file : files) {
+      definition(file).ifPresent(definition -> types.putIfAbsent(definition.url(), definition.type()));
+    }
+    return types;
+  }
+
+  private Optional<Definition> definition(Path file) {
+    return definitionsByFile.computeIfAbsent(file.toAbsolutePath().normalize(), ProfileTypes::readDefinition);
+  }
+
+  private static Optional<Definition> readDefinition(Path file) {
+    String resourceType = null;
+    String url = null;
+    String type = null;
+    try (JsonParser parser = JSON_FACTORY.createParser(file.toFile())) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if (value == JsonToken.VALUE_STRING) {
+          switch (field) {
+            case "resourceType" -> resourceType = parser.getText();
+            case "url" -> url = parser.getText();
+            case "type" -> type = parser.getText();
+            default -> {
+            }
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    } catch (IOException e) {
+      logger.debug("Definição ignorada pela pré-validação ({}): {}", file, e.getMessage());
+      return Optional.empty();
+    }
+    return "StructureDefinition".equals(resourceType) && url != null && type != null
+        ? Optional.of(new Definition(url, type))
+        : Optional.empty();
+  }
+}
@@ -0,0 +1,74 @@
+package com.fut.backend.core.reader;
+
+import com.fut.backend.domain.ExpectedResult;
+import com.fut.backend.domain.Invariant;
+import com.fut.backend.domain.ValidationContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+class ModelInterner {
+
+  private static final int MAX_ENTRIES = 100_000;
+
+  private final Map<String, String> strings = new ConcurrentHashMap<>();
+  private final Map<List<String>, List<String>> lists = new ConcurrentHashMap<>();
+  private final Map<ValidationContext, ValidationContext> contexts = new ConcurrentHashMap<>();
+  private final ExpectedResult emptyExpectedResult = new ExpectedResult("", List.of(), List.of(), List.of(), List.of());
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+
+  String string(String value) {
+    return value == null ? null : intern(strings, value);
+  }
+
+  List<String> list(List<String> values) {
+    if (values.isEmpty()) {
+      return List.of();
+    }
+    return intern(lists, values.stream().map(this::string).toList());
+  }
+
+  ValidationContext context(List<String> igs, List<String> profiles, List<String> resources) {
+    return intern(contexts, new ValidationContext(list(igs), list(profiles), list(resources)));
+  }
+
+  ExpectedResult expectedResult(String status, List<String> errors, List<String> warnings,
+      List<String> informations, List<Invariant> invariants) {
+    if (status.isEmpty() && errors.isEmpty() && warnings.isEmpty() && informations.isEmpty()
+        && invariants.isEmpty()) {
+      lookups.increment();
+      hits.increment();
+      return emptyExpectedResult;
+    }
+    return new ExpectedResult(string(status), list(errors), list(warnings), list(informations),
+        List.copyOf(invariants));
+  }
+
+  Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("interned_strings", strings.size());
+    statistics.put("interned_lists", lists.size());
+    statistics.put("interned_contexts", contexts.size());
+    statistics.put("lookups", lookups.sum());
+    statistics.put("hits", hits.sum());
+    return statistics;
+  }
+
+  private <T> T intern(Map<T, T> table, T value) {
+    lookups.increment();
+    T existing = table.get(value);
+    if (existing != null) {
+      hits.increment();
+      return existing;
+    }
+    if (table.size() >= MAX_ENTRIES) {
+      return value;
+    }
+    existing = table.putIfAbsent(value, value);
+    return existing != null ? existing : value;
+  }
+}
@@ -0,0 +1,356 @@
+package com.fut.backend.core.reader;
+
+import com.fut.backend.core.packages.PackageArchive;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Component
+public class SuiteArchives {
+
+  private static final Logger logger = LoggerFactory.getLogger(SuiteArchives.class);
+  private static final String SEPARATOR = "!/";
+  private static final List<String> ARCHIVE_SUFFIXES = List.of(".zip", ".tar.gz", ".tgz");
+
+  private interface Archive extends AutoCloseable {
+
+    List<String> entries();
+
+    boolean contains(String entry);
+
+    InputStream open(String entry) throws IOException;
+
+    @Override
+    void close() throws IOException;
+  }
+
+  private final Map<Path, Archive> archives = new ConcurrentHashMap<>();
+  private final Map<String, Path> localFiles = new ConcurrentHashMap<>();
+  private final AtomicLong entriesRead = new AtomicLong();
+  private Path tempDirectory;
+
+  public static boolean isArchive(Path file) {
+    String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+    return ARCHIVE_SUFFIXES.stream().anyMatch(name::endsWith);
+  }
+
+  public static boolean isEntry(String location) {
+    return separatorIndex(location) >= 0;
+  }
+
+  public List<String> testFiles(Path archivePath) {
+    Path archive = archivePath.toAbsolutePath().normalize();
+    return archive(archive).entries().stream()
+        .filter(entry -> {
+          String name = entry.toLowerCase(Locale.ROOT);
+          return name.endsWith(".yml") || name.endsWith(".yaml");
+        })
+        .sorted()
+        .map(entry -> archive + SEPARATOR + entry)
+        .toList();
+  }
+
+  public String resolve(String baseLocation, String relativePath) {
+    int separator = separatorIndex(baseLocation);
+    String archive = baseLocation.substring(0, separator);
+    Path base = Paths.get(baseLocation.substring(separator + SEPARATOR.length())).getParent();
+    Path entry = (base != null ? base.resolve(relativePath) : Paths.get(relativePath)).normalize();
+    if (entry.startsWith("..")) {
+      throw new IllegalArgumentException("Caminho fora do arquivo compactado " + archive + ": " + relativePath);
+    }
+    return archive + SEPARATOR + entry.toString().replace('\\', '/');
+  }
+
+  public boolean exists(String location) {
+    int separator = separatorIndex(location);
+    if (separator < 0) {
+      return Files.isRegularFile(Paths.get(location)) && Files.isReadable(Paths.get(location));
+    }
+    return archive(Paths.get(location.substring(0, separator)))
+        .contains(location.substring(separator + SEPARATOR.length()));
+  }
+
+  public InputStream open(String location) throws IOException {
+    int separator = separatorIndex(location);
+    if (separator < 0) {
+      return Files.newInputStream(Paths.get(location));
+    }
+    entriesRead.incrementAndGet();
+    return archive(Paths.get(location.substring(0, separator)))
+        .open(location.substring(separator + SEPARATOR.length()));
+  }
+
+  public byte[] readAllBytes(String location) throws IOException {
+    try (InputStream input = open(location)) {
+      return input.readAllBytes();
+    }
+  }
+
+  public Path localFile(String location) {
+    if (!isEntry(location)) {
+      return Paths.get(location);
+    }
+    return localFiles.computeIfAbsent(location, key -> {
+      try {
+        int separator = separatorIndex(key);
+        Path archive = Paths.get(key.substring(0, separator));
+        Path target = tempDirectory().resolve(Integer.toHexString(archive.hashCode()))
+            .resolve(key.substring(separator + SEPARATOR.length())).normalize();
+        Files.createDirectories(target.getParent());
+        try (InputStream input = open(key)) {
+          Files.copy(input, target);
+        }
+        return target;
+      } catch (IOException e) {
+        throw new UncheckedIOException("Erro ao extrair instância do arquivo compactado: " + key, e);
+      }
+    });
+  }
+
+  public Path archiveOf(String location) {
+    int separator = separatorIndex(location);
+    return separator < 0 ? null : Paths.get(location.substring(0, separator));
+  }
+
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("opened", archives.size());
+    statistics.put("entries_read", entriesRead.get());
+    statistics.put("materialized_files", localFiles.size());
+    return statistics;
+  }
+
+  @PreDestroy
+  public void close() {
+    for (Archive archive : archives.values()) {
+      try {
+        archive.close();
+      } catch (IOException e) {
+        logger.debug("Falha ao fechar arquivo compactado: {}", e.getMessage());
+      }
+    }
+    archives.clear();
+    localFiles.clear();
+
+    Path directory;
+    synchronized (this) {
+      directory = tempDirectory;
+      tempDirectory = null;
+    }
+    if (directory != null) {
+      try (Stream<Path> paths = Files.walk(directory)) {
+        for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+          Files.deleteIfExists(path);
+        }
+      } catch (IOException e) {
+        logger.debug("Falha ao remover instâncias temporárias {}: {}", directory, e.getMessage());
+      }
+    }
+  }
+
+  private Archive archive(Path archivePath) {
+    Path key = archivePath.toAbsolutePath().normalize();
+    return archives.computeIfAbsent(key, path -> {
+      try {
+        long startTime = System.nanoTime();
+        Archive archive = path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".zip")
+            ? new ZipArchive(path)
+            : new TarArchive(path, Files.createTempFile(tempDirectory(), "suite-", ".entries"));
+        logger.info("Arquivo compactado {} aberto: {} entrada(s) em {} ms", path, archive.entries().size(),
+            (System.nanoTime() - startTime) / 1_000_000);
+        return archive;
+      } catch (IOException e) {
+        throw new UncheckedIOException("Erro ao abrir arquivo compactado: " + path, e);
+      }
+    });
+  }
+
+  private synchronized Path tempDirectory() throws IOException {
+    if (tempDirectory == null) {
+      tempDirectory = Files.createTempDirectory("fut-archive-");
+    }
+    return tempDirectory;
+  }
+
+  private static int separatorIndex(String location) {
+    String lowerCase = location.toLowerCase(Locale.ROOT);
+    int index = -1;
+    for (String suffix : ARCHIVE_SUFFIXES) {
+      int found = lowerCase.indexOf(suffix + SEPARATOR);
+      if (found >= 0 && (index < 0 || found + suffix.length() < index)) {
+        index = found + suffix.length();
+      }
+    }
+    return index;
+  }
+
+  private static String entryName(String name) {
+    String entry = name.replace('\\', '/');
+    while (entry.startsWith("/") || entry.startsWith("./")) {
+      entry = entry.substring(entry.indexOf('/') + 1);
+    }
+    return entry;
+  }
+
+  private static final class ZipArchive implements Archive {
+
+    private final FileSystem fileSystem;
+    private final List<String> entries;
+
+    private ZipArchive(Path archive) throws IOException {
+      this.fileSystem = FileSystems.newFileSystem(archive);
+      Path root = fileSystem.getPath("/");
+      try (Stream<Path> paths = Files.walk(root)) {
+        this.entries = paths.filter(Files::isRegularFile)
+            .map(path -> entryName(root.relativize(path).toString()))
+            .toList();
+      }
+    }
+
+    @Override
+    public List<String> entries() {
+      return entries;
+    }
+
+    @Override
+    public boolean contains(String entry) {
+      return Files.isRegularFile(fileSystem.getPath("/", entry));
+    }
+
+    @Override
+    public InputStream open(String entry) throws IOException {
+      return Files.newInputStream(fileSystem.getPath("/", entry));
+    }
+
+    @Override
+    public void close() throws IOException {
+      fileSystem.close();
+    }
+  }
+
+  private static final class TarArchive implements Archive {
+
+    private record Entry(long offset, long size) {
+    }
+
+    private final Path archive;
+    private final Path spool;
+    private final Map<String, Entry> index = new LinkedHashMap<>();
+    private final FileChannel channel;
+
+    private TarArchive(Path archive, Path spool) throws IOException {
+      this.archive = archive;
+      this.spool = spool;
+      try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(spool), 65536)) {
+        long[] offset = {0};
+        PackageArchive.read(archive, (name, size, content) -> {
+          long written = content.transferTo(output);
+          index.put(entryName(name), new Entry(offset[0], written));
+          offset[0] += written;
+        });
+      } catch (IOException | RuntimeException e) {
+        Files.deleteIfExists(spool);
+        throw e;
+      }
+      this.channel = FileChannel.open(spool, StandardOpenOption.READ);
+    }
+
+    @Override
+    public List<String> entries() {
+      return List.copyOf(index.keySet());
+    }
+
+    @Override
+    public boolean contains(String entry) {
+      return index.containsKey(entry);
+    }
+
+    @Override
+    public InputStream open(String entry) throws IOException {
+      Entry found = index.get(entry);
+      if (found == null) {
+        throw new NoSuchFileException(archive + SEPARATOR + entry);
+      }
+      return new EntryInputStream(channel, found.offset(), found.offset() + found.size());
+    }
+
+    @Override
+    public void close() throws IOException {
+      index.clear();
+      channel.close();
+      Files.deleteIfExists(spool);
+    }
+  }
+
+  private static final class EntryInputStream extends InputStream {
+
+    private final FileChannel channel;
+    private final long end;
+    private long position;
+
+    private EntryInputStream(FileChannel channel, long start, long end) {
+      this.channel = channel;
+      this.position = start;
+      this.end = end;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] single = new byte[1];
+      return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      if (length == 0) {
+        return 0;
+      }
+      if (position >= end) {
+        return -1;
+      }
+      int read = channel.read(ByteBuffer.wrap(buffer, offset, (int) Math.min(length, end - position)), position);
+      if (read < 0) {
+        throw new EOFException("Arquivo temporário truncado");
+      }
+      position += read;
+      return read;
+    }
+
+    @Override
+    public long skip(long count) {
+      long skipped = Math.max(0, Math.min(count, end - position));
+      position += skipped;
+      return skipped;
+    }
+
+    @Override
+    public int available() {
+      return (int) Math.min(Integer.MAX_VALUE, end - position);
+    }
+  }
+}
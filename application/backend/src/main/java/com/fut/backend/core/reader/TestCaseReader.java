@@ -7,55 +7,99 @@ import com.fut.backend.domain.ValidationContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.error.YAMLException;
-
-import java.io.File;
-import java.io.FileInputStream;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Component
 public class TestCaseReader {
 
   private static final Logger logger = LoggerFactory.getLogger(TestCaseReader.class);
-  private final Yaml yaml = new Yaml();
+  private static final Set<String> NULL_SCALARS = Set.of("", "~", "null", "Null", "NULL");
+  private static final String MERGE_KEY = "<<";
+
+  private final SuiteArchives suiteArchives;
+  private final ModelInterner interner = new ModelInterner();
+
+  public TestCaseReader(SuiteArchives suiteArchives) {
+    this.suiteArchives = suiteArchives;
+  }
 
   public List<TestCase> loadTestCases(String yamlPath) {
-    try {
-      Path path = Paths.get(yamlPath).toAbsolutePath().normalize();
-      logger.info("Carregando arquivo de teste: {}", path);
+    List<TestCase> testCases = new ArrayList<>();
+    readTestCases(yamlPath, testCases::add);
+    return testCases;
+  }
 
-      if (!Files.exists(path)) {
-        throw new IllegalArgumentException("Arquivo não encontrado: " + path);
-      }
-      if (!Files.isReadable(path)) {
-        throw new IllegalArgumentException("Sem permissão para ler o arquivo: " + path);
-      }
-      if (Files.size(path) == 0) {
-        throw new IllegalArgumentException("Arquivo YAML vazio: " + path);
+  public void readTestCases(String yamlPath, Consumer<TestCase> consumer) {
+    try {
+      String location = SuiteArchives.isEntry(yamlPath)
+          ? yamlPath
+          : Paths.get(yamlPath).toAbsolutePath().normalize().toString();
+      logger.debug("Carregando arquivo de teste: {}", location);
+
+      if (SuiteArchives.isEntry(location)) {
+        if (!suiteArchives.exists(location)) {
+          throw new IllegalArgumentException("Arquivo não encontrado: " + location);
+        }
+      } else {
+        Path path = Paths.get(location);
+        if (!Files.exists(path)) {
+          throw new IllegalArgumentException("Arquivo não encontrado: " + path);
+        }
+        if (!Files.isReadable(path)) {
+          throw new IllegalArgumentException("Sem permissão para ler o arquivo: " + path);
+        }
+        if (Files.size(path) == 0) {
+          throw new IllegalArgumentException("Arquivo YAML vazio: " + path);
+        }
       }
 
-      try (FileInputStream input = new FileInputStream(path.toFile())) {
-        Object yamlData = yaml.load(input);
+      try (Reader input = new BufferedReader(new InputStreamReader(suiteArchives.open(location),
+          StandardCharsets.UTF_8))) {
+        LoaderOptions options = new LoaderOptions();
+        options.setCodePointLimit(Integer.MAX_VALUE);
+        Parser parser = new ParserImpl(new StreamReader(input), options);
+        Map<String, Object> suite = new HashMap<>();
+        int count = 0;
+
+        while (!parser.checkEvent(Event.ID.StreamEnd)) {
+          Event event = parser.getEvent();
+          if (event instanceof DocumentStartEvent) {
+            count += readDocument(parser, location, suite, consumer);
+          }
+        }
 
-        if (yamlData == null) {
+        if (count == 0) {
           throw new YAMLException("Estrutura YAML inválida: documento vazio");
         }
-
-        List<Map<String, Object>> testCases = yamlData instanceof List ? (List<Map<String, Object>>) yamlData
-            : Collections.singletonList((Map<String, Object>) yamlData);
-
-        return testCases.stream()
-            .map(data -> parseTestCase(data, path.getParent().toFile()))
-            .collect(Collectors.toList());
       }
     } catch (IOException e) {
       throw new RuntimeException("Falha ao ler arquivo YAML: " + yamlPath, e);
@@ -66,7 +110,107 @@ public class TestCaseReader {
     }
   }
 
-  private TestCase parseTestCase(Map<String, Object> data, File baseDir) {
+  private int readDocument(Parser parser, String testFile, Map<String, Object> suite,
+      Consumer<TestCase> consumer) {
+    Map<String, Object> anchors = new HashMap<>();
+    Event root = parser.getEvent();
+    int count = 0;
+
+    if (root instanceof SequenceStartEvent) {
+      while (!parser.checkEvent(Event.ID.SequenceEnd)) {
+        Object item = readNode(parser, parser.getEvent(), anchors);
+        consumer.accept(parseTestCase(asMap(item), testFile, suite));
+        count++;
+      }
+      parser.getEvent();
+    } else if (!(root instanceof ScalarEvent scalar && scalarValue(scalar) == null)) {
+      Map<String, Object> data = asMap(readNode(parser, root, anchors));
+      if (data.containsKey("suite") && !data.containsKey("test_id")) {
+        suite.putAll(asMap(data.get("suite")));
+        return 0;
+      }
+      consumer.accept(parseTestCase(data, testFile, suite));
+      count++;
+    }
+    return count;
+  }
+
+  private Object readNode(Parser parser, Event event, Map<String, Object> anchors) {
+    Object value;
+    if (event instanceof AliasEvent alias) {
+      if (!anchors.containsKey(alias.getAnchor())) {
+        throw new YAMLException("Âncora YAML não definida: " + alias.getAnchor());
+      }
+      return anchors.get(alias.getAnchor());
+    } else if (event instanceof ScalarEvent scalar) {
+      value = scalarValue(scalar);
+    } else if (event instanceof MappingStartEvent) {
+      Map<String, Object> map = new LinkedHashMap<>();
+      List<Object> merges = new ArrayList<>();
+      while (!parser.checkEvent(Event.ID.MappingEnd)) {
+        Event keyEvent = parser.getEvent();
+        if (keyEvent instanceof ScalarEvent key && key.isPlain() && key.getValue().equals(MERGE_KEY)) {
+          merges.add(readNode(parser, parser.getEvent(), anchors));
+          continue;
+        }
+        Object key = readNode(parser, keyEvent, anchors);
+        map.put(String.valueOf(key), readNode(parser, parser.getEvent(), anchors));
+      }
+      parser.getEvent();
+      merges.forEach(merge -> merge(map, merge));
+      value = map;
+    } else if (event instanceof SequenceStartEvent) {
+      List<Object> list = new ArrayList<>();
+      while (!parser.checkEvent(Event.ID.SequenceEnd)) {
+        list.add(readNode(parser, parser.getEvent(), anchors));
+      }
+      parser.getEvent();
+      value = list;
+    } else {
+      throw new YAMLException("Estrutura YAML inesperada: " + event);
+    }
+
+    String anchor = ((NodeEvent) event).getAnchor();
+    if (anchor != null) {
+      anchors.put(anchor, value);
+    }
+    return value;
+  }
+
+  private void merge(Map<String, Object> map, Object merge) {
+    if (merge instanceof Map<?, ?> source) {
+      source.forEach((key, value) -> {
+        if (!map.containsKey(String.valueOf(key))) {
+          map.put(String.valueOf(key), value);
+        }
+      });
+    } else if (merge instanceof List<?> sources) {
+      for (Object source : sources) {
+        if (!(source instanceof Map)) {
+          throw new YAMLException("Chave de mesclagem '<<' deve referenciar mapeamentos: " + source);
+        }
+        merge(map, source);
+      }
+    } else {
+      throw new YAMLException("Chave de mesclagem '<<' deve referenciar um mapeamento: " + merge);
+    }
+  }
+
+  private Object scalarValue(ScalarEvent scalar) {
+    if (scalar.isPlain() && NULL_SCALARS.contains(scalar.getValue())) {
+      return null;
+    }
+    return scalar.getValue();
+  }
+
+  private Map<String, Object> asMap(Object node) {
+    if (node instanceof Map) {
+      return (Map<String, Object>) node;
+    }
+    throw new IllegalArgumentException("Caso de teste deve ser um mapeamento YAML: " + node);
+  }
+
+  private TestCase parseTestCase(Map<String, Object> data, String testFile, Map<String, Object> suite) {
     if (data == null) {
       throw new IllegalArgumentException("Dados do teste não podem ser nulos");
     }
@@ -82,9 +226,7 @@ public class TestCaseReader {
     String instancePath = data.containsKey("instance_path") ? data.get("instance_path").toString()
         : "instances/" + testCase.getId() + ".json";
 
-    String resolvedPath = resolveInstancePath(baseDir, instancePath);
-    logger.debug("Caminho resolvido para instance_path: {}", resolvedPath);
-    testCase.setInstancePath(resolvedPath);
+    testCase.setInstancePath(resolveInstancePath(testFile, instancePath));
 
     testCase.setContext(parseValidationContext(
         (Map<String, Object>) data.getOrDefault("context", Collections.emptyMap())));
@@ -92,83 +234,81 @@ public class TestCaseReader {
     testCase.setExpectedResult(parseExpectedResult(
         (Map<String, Object>) data.getOrDefault("expected_results", Collections.emptyMap())));
 
+    Set<String> tags = new LinkedHashSet<>(parseStringList(suite.get("tags")));
+    tags.addAll(parseStringList(data.get("tags")));
+    testCase.setTags(interner.list(List.copyOf(tags)));
+
+    Object preValidation = data.getOrDefault("pre_validation", suite.get("pre_validation"));
+    if (preValidation != null) {
+      testCase.setPreValidation(Boolean.parseBoolean(preValidation.toString()));
+    }
+
     return testCase;
   }
 
-  private String resolveInstancePath(File baseDir, String instancePath) {
+  private String resolveInstancePath(String testFile, String instancePath) {
     Path resolvedPath;
     if (instancePath.startsWith("/") || instancePath.matches("^[A-Za-z]:.*")) {
 
       resolvedPath = Paths.get(instancePath).normalize();
+    } else if (SuiteArchives.isEntry(testFile)) {
+      return suiteArchives.resolve(testFile, instancePath);
     } else {
-      resolvedPath = Paths.get(baseDir.getAbsolutePath(), instancePath).normalize();
-    }
-
-    if (!Files.exists(resolvedPath)) {
-      logger.warn("Arquivo de instância FHIR não encontrado: {}", resolvedPath);
+      resolvedPath = Paths.get(testFile).getParent().resolve(instancePath).normalize();
     }
 
     return resolvedPath.toString();
   }
 
   private ValidationContext parseValidationContext(Map<String, Object> contextData) {
-    ValidationContext context = new ValidationContext();
-
-    if (contextData != null) {
-      context.setIgs(parseStringList(contextData.get("igs")));
-      context.setProfiles(parseStringList(contextData.get("profiles")));
-      context.setResources(parseStringList(contextData.get("resources")));
+    if (contextData == null) {
+      return interner.context(List.of(), List.of(), List.of());
     }
-
-    return context;
+    return interner.context(parseStringList(contextData.get("igs")), parseStringList(contextData.get("profiles")),
+        parseStringList(contextData.get("resources")));
   }
 
   private ExpectedResult parseExpectedResult(Map<String, Object> resultData) {
-    ExpectedResult result = new ExpectedResult();
-
-    if (resultData != null) {
-      result.setStatus(resultData.getOrDefault("status", "").toString());
-      result.setErrors(parseStringList(resultData.get("errors")));
-      result.setWarnings(parseStringList(resultData.get("warnings")));
-      result.setInformations(parseStringList(resultData.get("informations")));
-      result.setInvariants(parseInvariantList(resultData.get("invariants")));
+    if (resultData == null) {
+      return new ExpectedResult(null, null, null, null, null);
     }
-
-    return result;
+    return interner.expectedResult(resultData.getOrDefault("status", "").toString(),
+        parseStringList(resultData.get("errors")), parseStringList(resultData.get("warnings")),
+        parseStringList(resultData.get("informations")), parseInvariantList(resultData.get("invariants")));
   }
 
   private List<String> parseStringList(Object input) {
-    if (input instanceof List) {
-      return ((List<?>) input).stream()
+    if (input instanceof List<?> list && !list.isEmpty()) {
+      return list.stream()
           .filter(obj -> obj != null)
           .map(Object::toString)
-          .collect(Collectors.toList());
+          .toList();
     }
-    return new ArrayList<>();
+    return List.of();
   }
 
   private List<Invariant> parseInvariantList(Object input) {
-    if (input instanceof List) {
-      return ((List<?>) input).stream()
+    if (input instanceof List<?> list && !list.isEmpty()) {
+      return list.stream()
           .filter(Map.class::isInstance)
           .map(Map.class::cast)
           .map(this::parseInvariant)
-          .collect(Collectors.toList());
+          .toList();
     }
-    return new ArrayList<>();
+    return List.of();
   }
 
   private Invariant parseInvariant(Map<String, Object> data) {
-    Invariant invariant = new Invariant();
-    invariant.setExpression(data.getOrDefault("expression", "").toString());
+    String expression = interner.string(data.getOrDefault("expression", "").toString());
 
     Object expected = data.get("expected");
     if (expected instanceof Boolean) {
-      invariant.setExpected((Boolean) expected);
-    } else if (expected != null) {
-      invariant.setExpected(Boolean.parseBoolean(expected.toString()));
+      return new Invariant(expression, (Boolean) expected);
     }
+    return new Invariant(expression, expected != null ? Boolean.parseBoolean(expected.toString()) : null);
+  }
 
-    return invariant;
+  public Map<String, Object> getStatistics() {
+    return interner.getStatistics();
   }
 }
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.fut.backend.core.report;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+class HtmlReportWriter {
+
+  private static final String TEMPLATE = "/report/test-report.html";
+  private static final String DATA_DIR_PLACEHOLDER = "__DATA_DIR__";
+
+  private final ObjectMapper objectMapper;
+  private final Path dataDirectory;
+  private final int chunkSize;
+  private final List<int[]> chunks = new ArrayList<>();
+  private OutputStream chunkFile;
+  private JsonGenerator chunkGenerator;
+  private int chunkRows;
+  private int chunkFailed;
+  private int rows;
+  private int passed;
+
+  private HtmlReportWriter(ObjectMapper objectMapper, Path dataDirectory, int chunkSize) {
+    this.objectMapper = objectMapper;
+    this.dataDirectory = dataDirectory;
+    this.chunkSize = Math.max(1, chunkSize);
+  }
+
+  static HtmlReportWriter start(ObjectMapper objectMapper, Path page, int chunkSize) throws IOException {
+    String name = page.getFileName().toString();
+    Path dataDirectory = page.resolveSibling(name.substring(0, name.lastIndexOf('.')) + "-html");
+    Files.createDirectories(dataDirectory);
+    try (DirectoryStream<Path> previous = Files.newDirectoryStream(dataDirectory, "*.js")) {
+      for (Path file : previous) {
+        Files.delete(file);
+      }
+    }
+
+    try (InputStream template = HtmlReportWriter.class.getResourceAsStream(TEMPLATE)) {
+      if (template == null) {
+        throw new IOException("Modelo do relatório HTML não encontrado: " + TEMPLATE);
+      }
+      String html = new String(template.readAllBytes(), StandardCharsets.UTF_8)
+          .replace(DATA_DIR_PLACEHOLDER, dataDirectory.getFileName().toString());
+      Files.writeString(page, html, StandardCharsets.UTF_8);
+    }
+
+    HtmlReportWriter writer = new HtmlReportWriter(objectMapper, dataDirectory, chunkSize);
+    writer.writeSummary(Map.of("total_tests", 0, "passed", 0, "failed", 0), false);
+    return writer;
+  }
+
+  void accept(String testId, boolean success, long executionTimeMs, List<String> discrepancies, List<String> logs)
+      throws IOException {
+    if (chunkGenerator == null) {
+      openChunk();
+    }
+    chunkGenerator.writeStartArray();
+    chunkGenerator.writeString(testId);
+    chunkGenerator.writeNumber(success ? 1 : 0);
+    chunkGenerator.writeNumber(executionTimeMs);
+    chunkGenerator.writeStartArray();
+    for (String discrepancy : discrepancies) {
+      chunkGenerator.writeString(discrepancy);
+    }
+    chunkGenerator.writeEndArray();
+    if (!logs.isEmpty()) {
+      chunkGenerator.writeStartArray();
+      for (String line : logs) {
+        chunkGenerator.writeString(line);
+      }
+      chunkGenerator.writeEndArray();
+    }
+    chunkGenerator.writeEndArray();
+
+    rows++;
+    chunkRows++;
+    if (success) {
+      passed++;
+    } else {
+      chunkFailed++;
+    }
+    if (chunkRows == chunkSize) {
+      closeChunk();
+      writeSummary(Map.of("total_tests", rows, "passed", passed, "failed", rows - passed), false);
+    }
+  }
+
+  void close(Map<String, Object> summary) throws IOException {
+    if (chunkGenerator != null) {
+      closeChunk();
+    }
+    writeSummary(summary, true);
+  }
+
+  private void openChunk() throws IOException {
+    Path file = dataDirectory.resolve(String.format("chunk-%06d.js", chunks.size() + 1));
+    chunkFile = new BufferedOutputStream(Files.newOutputStream(file), 65536);
+    chunkFile.write(("FUT.chunk(" + chunks.size() + ",\"").getBytes(StandardCharsets.US_ASCII));
+    OutputStream payload = new GZIPOutputStream(Base64.getEncoder().wrap(new FilterOutputStream(chunkFile) {
+      @Override
+      public void write(byte[] buffer, int offset, int length) throws IOException {
+        out.write(buffer, offset, length);
+      }
+
+      @Override
+      public void close() throws IOException {
+        flush();
+      }
+    }), 65536);
+    chunkGenerator = objectMapper.getFactory().createGenerator(payload, JsonEncoding.UTF8);
+    chunkGenerator.writeStartArray();
+    chunkRows = 0;
+    chunkFailed = 0;
+  }
+
+  private void closeChunk() throws IOException {
+    try {
+      chunkGenerator.writeEndArray();
+      chunkGenerator.close();
+      chunkFile.write("\");\n".getBytes(StandardCharsets.US_ASCII));
+    } finally {
+      chunkFile.close();
+      chunkGenerator = null;
+      chunkFile = null;
+    }
+    chunks.add(new int[] {chunkRows, chunkFailed});
+  }
+
+  private void writeSummary(Map<String, Object> summary, boolean complete) throws IOException {
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("complete", complete);
+    data.put("chunk_size", chunkSize);
+    data.put("rows", rows);
+    data.put("chunks", chunks);
+    data.put("summary", summary);
+
+    Path file = dataDirectory.resolve("summary.js");
+    Path temp = Files.createTempFile(dataDirectory, "summary", ".tmp");
+    Files.writeString(temp, "FUT.summary(" + objectMapper.writeValueAsString(data) + ");\n", StandardCharsets.UTF_8);
+    try {
+      Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
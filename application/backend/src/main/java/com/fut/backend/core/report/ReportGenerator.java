@@ -1,20 +1,19 @@
 package com.fut.backend.core.report;
 
-import com.fut.backend.domain.TestCase;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fut.backend.core.history.RunHistory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.Instant;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 @Component
 public class ReportGenerator {
@@ -22,49 +21,55 @@ public class ReportGenerator {
   private static final Logger logger = LoggerFactory.getLogger(ReportGenerator.class);
 
   private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Path reportDirectory;
+  private final boolean jsonLines;
+  private final boolean html;
+  private final int htmlChunkSize;
+  private final TestDurationHistory durationHistory;
+  private final RunHistory runHistory;
 
-  public void generateReport(List<TestCase> testCases, Map<String, List<String>> discrepanciesByTestId) {
-    List<Map<String, Object>> testResults = new ArrayList<>();
-    int passed = 0;
-    long totalTimeMs = 0;
-
-    for (TestCase testCase : testCases) {
-      long startTime = System.currentTimeMillis();
-      Map<String, Object> testResult = new HashMap<>();
-      String testId = testCase.getId();
-      List<String> discrepancies = discrepanciesByTestId.getOrDefault(testId, List.of());
-      String status = discrepancies.isEmpty() ? "success" : "failure";
-      long executionTimeMs = System.currentTimeMillis() - startTime;
-
-      testResult.put("test_id", testId);
-      testResult.put("status", status);
-      testResult.put("discrepancies", discrepancies);
-      testResult.put("execution_time_ms", executionTimeMs);
-      testResults.add(testResult);
-
-      if (status.equals("success")) {
-        passed++;
-      }
-      totalTimeMs += executionTimeMs;
-    }
+  public ReportGenerator(@Value("${fut.report.directory:reports}") String reportDirectory,
+      @Value("${fut.report.format:json}") String format,
+      @Value("${fut.report.html:false}") boolean html,
+      @Value("${fut.report.html-chunk-size:1000}") int htmlChunkSize,
+      TestDurationHistory durationHistory, RunHistory runHistory) {
+    this.reportDirectory = Paths.get(reportDirectory);
+    this.jsonLines = format.equalsIgnoreCase("jsonl");
+    this.html = html;
+    this.htmlChunkSize = htmlChunkSize;
+    this.durationHistory = durationHistory;
+    this.runHistory = runHistory;
+  }
 
-    Map<String, Object> report = new HashMap<>();
-    report.put("tests", testResults);
-    report.put("total_tests", testCases.size());
-    report.put("passed", passed);
-    report.put("failed", testCases.size() - passed);
-    report.put("total_time_ms", totalTimeMs);
-    report.put("timestamp", Instant.now().toString());
+  public ReportSink startReport() {
+    return startReport(null);
+  }
 
-    writeReportToFile(report);
+  public Path reportFile(String suffix) {
+    return reportDirectory.resolve(reportName(suffix) + (jsonLines ? ".jsonl" : ".json"));
   }
 
-  private void writeReportToFile(Map<String, Object> report) {
+  public ReportSink startReport(String suffix) {
+    Path reportFile = reportFile(suffix);
     try {
-      Files.createDirectories(Paths.get("reports"));
-      objectMapper.writeValue(new File("reports/test-report.json"), report);
+      Files.createDirectories(reportDirectory);
+      OutputStream output = Files.newOutputStream(reportFile);
+      JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+      if (jsonLines) {
+        generator.setRootValueSeparator(null);
+      }
+      HtmlReportWriter htmlWriter = html
+          ? HtmlReportWriter.start(objectMapper, reportDirectory.resolve(reportName(suffix) + ".html"), htmlChunkSize)
+          : null;
+      return new ReportSink(generator, jsonLines, durationHistory, suffix == null ? runHistory.startRun() : null,
+          htmlWriter);
     } catch (IOException e) {
       logger.error("Erro ao gerar relatório: {}", e.getMessage());
+      throw new IllegalStateException("Não foi possível criar o relatório: " + reportFile, e);
     }
   }
-}
\ No newline at end of file
+
+  private static String reportName(String suffix) {
+    return suffix == null ? "test-report" : "test-report-" + suffix;
+  }
+}
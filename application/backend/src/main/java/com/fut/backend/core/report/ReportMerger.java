@@ -0,0 +1,201 @@
+package com.fut.backend.core.report;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fut.backend.domain.TestResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Component
+public class ReportMerger {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReportMerger.class);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ReportGenerator reportGenerator;
+
+  public ReportMerger(ReportGenerator reportGenerator) {
+    this.reportGenerator = reportGenerator;
+  }
+
+  private static final class MergeState {
+    private final Set<String> testIds = new HashSet<>();
+    private final List<String> duplicateTestIds = new ArrayList<>();
+    private final Set<Integer> shardIndexes = new TreeSet<>();
+    private final Set<Integer> shardCounts = new TreeSet<>();
+    private final List<Integer> duplicateShards = new ArrayList<>();
+    private final Set<String> strategies = new TreeSet<>();
+    private final Set<String> testIdsFingerprints = new TreeSet<>();
+    private final Set<String> durationsFingerprints = new TreeSet<>();
+    private long totalTimeMs;
+  }
+
+  public void merge(List<String> reportFiles) {
+    Path output = reportGenerator.reportFile(null).toAbsolutePath().normalize();
+    List<Path> inputs = new ArrayList<>();
+    for (String reportFile : reportFiles) {
+      Path input = Paths.get(reportFile).toAbsolutePath().normalize();
+      if (!Files.isRegularFile(input)) {
+        throw new IllegalArgumentException("Relatório não encontrado: " + input);
+      }
+      if (input.equals(output)) {
+        throw new IllegalArgumentException("O relatório combinado sobrescreveria uma das entradas: " + input);
+      }
+      inputs.add(input);
+    }
+
+    MergeState state = new MergeState();
+    ReportSink reportSink = reportGenerator.startReport();
+    for (Path input : inputs) {
+      logger.info("Combinando relatório: {}", input);
+      try (JsonParser parser = objectMapper.getFactory().createParser(input.toFile())) {
+        if (input.getFileName().toString().endsWith(".jsonl")) {
+          readJsonLines(parser, reportSink, state);
+        } else {
+          readJson(parser, reportSink, state);
+        }
+      } catch (IOException e) {
+        reportSink.close(Map.of());
+        throw new IllegalStateException("Erro ao ler relatório " + input + ": " + e.getMessage(), e);
+      }
+    }
+
+    List<Integer> missingShards = new ArrayList<>();
+    if (state.shardCounts.size() == 1) {
+      int count = state.shardCounts.iterator().next();
+      for (int index = 1; index <= count; index++) {
+        if (!state.shardIndexes.contains(index)) {
+          missingShards.add(index);
+        }
+      }
+    }
+
+    Map<String, Object> merge = new LinkedHashMap<>();
+    merge.put("reports", inputs.size());
+    merge.put("shard_counts", state.shardCounts);
+    merge.put("shards", state.shardIndexes);
+    merge.put("missing_shards", missingShards);
+    merge.put("duplicate_shards", state.duplicateShards);
+    merge.put("duplicate_test_ids", state.duplicateTestIds);
+    merge.put("strategies", state.strategies);
+    reportSink.close(Map.of("merge", merge), state.totalTimeMs);
+    logger.info("Relatório combinado gravado em: {} ({} teste(s))", output, state.testIds.size());
+
+    List<String> problems = new ArrayList<>();
+    if (state.shardCounts.size() > 1) {
+      problems.add("relatórios de divisões diferentes " + state.shardCounts);
+    }
+    if (!missingShards.isEmpty()) {
+      problems.add("shards ausentes " + missingShards);
+    }
+    if (!state.duplicateShards.isEmpty()) {
+      problems.add("shards repetidos " + state.duplicateShards);
+    }
+    if (state.strategies.size() > 1) {
+      problems.add("shards divididos com estratégias diferentes " + state.strategies);
+    }
+    if (state.testIdsFingerprints.size() > 1) {
+      problems.add("shards planejados sobre conjuntos de testes diferentes");
+    }
+    if (state.durationsFingerprints.size() > 1) {
+      problems.add("shards planejados com históricos de duração diferentes");
+    }
+    if (!state.duplicateTestIds.isEmpty()) {
+      problems.add(state.duplicateTestIds.size() + " test_id(s) duplicado(s)");
+    }
+    if (!problems.isEmpty()) {
+      throw new IllegalStateException("Relatório combinado inconsistente: " + String.join("; ", problems));
+    }
+  }
+
+  private void readJson(JsonParser parser, ReportSink reportSink, MergeState state) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new IOException("o relatório deve ser um objeto JSON");
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken token = parser.nextToken();
+      if (field.equals("tests") && token == JsonToken.START_ARRAY) {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+          accept(parser.readValueAsTree(), reportSink, state);
+        }
+      } else {
+        readSummaryField(field, parser.readValueAsTree(), state);
+      }
+    }
+  }
+
+  private void readJsonLines(JsonParser parser, ReportSink reportSink, MergeState state) throws IOException {
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      JsonNode line = parser.readValueAsTree();
+      if (line.has("summary")) {
+        line.get("summary").fields()
+            .forEachRemaining(field -> readSummaryField(field.getKey(), field.getValue(), state));
+      } else {
+        accept(line, reportSink, state);
+      }
+    }
+  }
+
+  private void readSummaryField(String field, JsonNode value, MergeState state) {
+    switch (field) {
+      case "total_time_ms" -> state.totalTimeMs = Math.max(state.totalTimeMs, value.asLong());
+      case "shard" -> {
+        state.shardCounts.add(value.path("count").asInt());
+        if (!state.shardIndexes.add(value.path("index").asInt())) {
+          state.duplicateShards.add(value.path("index").asInt());
+        }
+        addText(state.strategies, value.get("strategy"));
+        addText(state.testIdsFingerprints, value.get("test_ids_fingerprint"));
+        addText(state.durationsFingerprints, value.get("durations_fingerprint"));
+      }
+      default -> {
+      }
+    }
+  }
+
+  private static void addText(Set<String> values, JsonNode value) {
+    if (value != null && value.isTextual()) {
+      values.add(value.asText());
+    }
+  }
+
+  private void accept(JsonNode test, ReportSink reportSink, MergeState state) {
+    String testId = test.path("test_id").asText();
+    if (!state.testIds.add(testId)) {
+      logger.warn("test_id duplicado entre os relatórios: {}", testId);
+      state.duplicateTestIds.add(testId);
+      return;
+    }
+
+    List<String> discrepancies = new ArrayList<>();
+    test.path("discrepancies").forEach(discrepancy -> discrepancies.add(discrepancy.asText()));
+    TestResult result = new TestResult();
+    result.setTestId(testId);
+    result.setDiscrepancies(discrepancies);
+    result.setValidationTimeMs(test.path("validation_time_ms").asLong());
+    result.setComparisonTimeMs(test.path("comparison_time_ms").asLong());
+    result.setValidatorPeakRssKb(test.path("validator_peak_rss_mb").asLong() * 1024);
+    if (test.has("logs")) {
+      List<String> logs = new ArrayList<>();
+      test.path("logs").forEach(line -> logs.add(line.asText()));
+      result.setLogs(logs);
+    }
+    reportSink.accept(result);
+  }
+}
@@ -0,0 +1,181 @@
+package com.fut.backend.core.report;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fut.backend.core.history.RunHistory;
+import com.fut.backend.domain.TestResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ReportSink {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReportSink.class);
+
+  private final JsonGenerator generator;
+  private final boolean jsonLines;
+  private final TestDurationHistory durationHistory;
+  private final RunHistory.Run run;
+  private HtmlReportWriter htmlWriter;
+  private final long startTime = System.nanoTime();
+  private int total;
+  private int passed;
+  private long validationTimeMs;
+  private long comparisonTimeMs;
+  private boolean failed;
+
+  ReportSink(JsonGenerator generator, boolean jsonLines, TestDurationHistory durationHistory, RunHistory.Run run,
+      HtmlReportWriter htmlWriter) {
+    this.generator = generator;
+    this.jsonLines = jsonLines;
+    this.durationHistory = durationHistory;
+    this.run = run;
+    this.htmlWriter = htmlWriter;
+
+    if (!jsonLines) {
+      write(() -> {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("tests");
+      });
+    }
+  }
+
+  public synchronized void accept(TestResult result) {
+    accept(result, true);
+  }
+
+  public synchronized void acceptPrevious(TestResult result) {
+    accept(result, false);
+  }
+
+  private void accept(TestResult result, boolean executed) {
+    List<String> discrepancies = result.getDiscrepancies() != null ? result.getDiscrepancies() : List.of();
+    String status = discrepancies.isEmpty() ? "success" : "failure";
+
+    total++;
+    if (status.equals("success")) {
+      passed++;
+    }
+    validationTimeMs += result.getValidationTimeMs();
+    comparisonTimeMs += result.getComparisonTimeMs();
+    if (executed) {
+      durationHistory.record(result.getTestId(), result.getValidationTimeMs() + result.getComparisonTimeMs());
+      if (run != null) {
+        run.record(result.getTestId(), status.equals("success"),
+            result.getValidationTimeMs() + result.getComparisonTimeMs());
+      }
+    }
+
+    write(() -> {
+      generator.writeStartObject();
+      generator.writeStringField("test_id", result.getTestId());
+      generator.writeStringField("status", status);
+      generator.writeArrayFieldStart("discrepancies");
+      for (String discrepancy : discrepancies) {
+        generator.writeString(discrepancy);
+      }
+      generator.writeEndArray();
+      generator.writeNumberField("execution_time_ms", result.getValidationTimeMs() + result.getComparisonTimeMs());
+      generator.writeNumberField("validation_time_ms", result.getValidationTimeMs());
+      generator.writeNumberField("comparison_time_ms", result.getComparisonTimeMs());
+      if (result.getValidatorPeakRssKb() > 0) {
+        generator.writeNumberField("validator_peak_rss_mb", result.getValidatorPeakRssKb() / 1024);
+      }
+      if (result.getLogs() != null && !result.getLogs().isEmpty()) {
+        generator.writeArrayFieldStart("logs");
+        for (String line : result.getLogs()) {
+          generator.writeString(line);
+        }
+        generator.writeEndArray();
+      }
+      generator.writeEndObject();
+      if (jsonLines) {
+        generator.writeRaw('\n');
+        generator.flush();
+      }
+    });
+    writeHtml(() -> htmlWriter.accept(result.getTestId(), status.equals("success"),
+        result.getValidationTimeMs() + result.getComparisonTimeMs(), discrepancies,
+        result.getLogs() != null ? result.getLogs() : List.of()));
+  }
+
+  public void close(Map<String, Object> sections) {
+    close(sections, (System.nanoTime() - startTime) / 1_000_000);
+  }
+
+  public synchronized void close(Map<String, Object> sections, long totalTimeMs) {
+    Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("total_tests", total);
+    summary.put("passed", passed);
+    summary.put("failed", total - passed);
+    summary.put("total_time_ms", totalTimeMs);
+    summary.put("validation_time_ms", validationTimeMs);
+    summary.put("comparison_time_ms", comparisonTimeMs);
+    summary.put("timestamp", Instant.now().toString());
+    summary.putAll(sections);
+
+    write(() -> {
+      if (jsonLines) {
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("summary");
+      } else {
+        generator.writeEndArray();
+      }
+
+      for (Map.Entry<String, Object> field : summary.entrySet()) {
+        generator.writeObjectField(field.getKey(), field.getValue());
+      }
+
+      if (jsonLines) {
+        generator.writeEndObject();
+      }
+      generator.writeEndObject();
+      if (jsonLines) {
+        generator.writeRaw('\n');
+      }
+    });
+
+    try {
+      generator.close();
+    } catch (IOException e) {
+      logger.error("Erro ao gerar relatório: {}", e.getMessage());
+    }
+    writeHtml(() -> htmlWriter.close(summary));
+    durationHistory.save();
+    if (run != null) {
+      run.commit();
+    }
+  }
+
+  private void write(ReportWrite action) {
+    if (failed) {
+      return;
+    }
+    try {
+      action.run();
+    } catch (IOException e) {
+      failed = true;
+      logger.error("Erro ao gerar relatório: {}", e.getMessage());
+    }
+  }
+
+  private void writeHtml(ReportWrite action) {
+    if (htmlWriter == null) {
+      return;
+    }
+    try {
+      action.run();
+    } catch (IOException e) {
+      htmlWriter = null;
+      logger.error("Erro ao gerar relatório HTML: {}", e.getMessage());
+    }
+  }
+
+  private interface ReportWrite {
+    void run() throws IOException;
+  }
+}
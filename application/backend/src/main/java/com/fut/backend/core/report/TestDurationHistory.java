@@ -0,0 +1,93 @@
+package com.fut.backend.core.report;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class TestDurationHistory {
+
+  private static final Logger logger = LoggerFactory.getLogger(TestDurationHistory.class);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Path file;
+  private final long defaultEstimateMs;
+  private Map<String, Long> durations;
+  private volatile boolean frozen;
+
+  public TestDurationHistory(@Value("${fut.scheduling.history-file:.fut-durations.json}") String file,
+      @Value("${fut.scheduling.default-estimate-ms:5000}") long defaultEstimateMs) {
+    this.file = Paths.get(file).toAbsolutePath().normalize();
+    this.defaultEstimateMs = defaultEstimateMs;
+  }
+
+  public long getDefaultEstimateMs() {
+    return defaultEstimateMs;
+  }
+
+  public void freeze() {
+    frozen = true;
+  }
+
+  public boolean isKnown(String testId) {
+    return durations().containsKey(testId);
+  }
+
+  public long estimate(String testId) {
+    return durations().getOrDefault(testId, defaultEstimateMs);
+  }
+
+  void record(String testId, long durationMs) {
+    if (frozen || testId == null || durationMs <= 0) {
+      return;
+    }
+    durations().merge(testId, durationMs, (previous, current) -> (previous + current) / 2);
+  }
+
+  synchronized void save() {
+    if (durations == null) {
+      return;
+    }
+    try {
+      Path parent = file.getParent();
+      Files.createDirectories(parent);
+      Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+      objectMapper.writeValue(temp.toFile(), new TreeMap<>(durations));
+      try {
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      logger.warn("Falha ao gravar histórico de durações {}: {}", file, e.getMessage());
+    }
+  }
+
+  private synchronized Map<String, Long> durations() {
+    if (durations == null) {
+      durations = new ConcurrentHashMap<>();
+      if (Files.exists(file)) {
+        try {
+          durations.putAll(objectMapper.readValue(file.toFile(), new TypeReference<Map<String, Long>>() {
+          }));
+        } catch (IOException e) {
+          logger.warn("Histórico de durações ignorado ({}): {}", file, e.getMessage());
+        }
+      }
+    }
+    return durations;
+  }
+}
@@ -0,0 +1,27 @@
+package com.fut.backend.core.shard;
+
+public record Shard(int index, int count) {
+
+  public Shard {
+    if (count < 1 || index < 1 || index > count) {
+      throw new IllegalArgumentException("Shard inválido: " + index + "/" + count
+          + " (use i/n com 1 <= i <= n)");
+    }
+  }
+
+  public static Shard parse(String value) {
+    String[] parts = value == null ? new String[0] : value.trim().split("/");
+    if (parts.length != 2) {
+      throw new IllegalArgumentException("Formato de shard inválido: " + value + " (use i/n, ex.: 2/4)");
+    }
+    try {
+      return new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Formato de shard inválido: " + value + " (use i/n, ex.: 2/4)", e);
+    }
+  }
+
+  public String reportName() {
+    return "shard-" + index + "-of-" + count;
+  }
+}
@@ -0,0 +1,105 @@
+package com.fut.backend.core.shard;
+
+import com.fut.backend.core.reader.TestCaseReader;
+import com.fut.backend.core.report.TestDurationHistory;
+import com.fut.backend.domain.TestCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+@Component
+public class ShardPlanner {
+
+  private static final Logger logger = LoggerFactory.getLogger(ShardPlanner.class);
+
+  private final TestCaseReader testCaseReader;
+  private final TestDurationHistory durationHistory;
+
+  public ShardPlanner(TestCaseReader testCaseReader, TestDurationHistory durationHistory) {
+    this.testCaseReader = testCaseReader;
+    this.durationHistory = durationHistory;
+  }
+
+  public ShardSelection plan(List<String> testFiles, Shard shard, Predicate<TestCase> filter) {
+    durationHistory.freeze();
+    Set<String> testIds = new LinkedHashSet<>();
+    for (String testFile : testFiles) {
+      testCaseReader.readTestCases(testFile, testCase -> {
+        if (filter.test(testCase)) {
+          testIds.add(testCase.getId());
+        }
+      });
+    }
+
+    List<String> sortedIds = testIds.stream().sorted().toList();
+    String testIdsFingerprint = fingerprint(sortedIds);
+    if (testIds.stream().noneMatch(durationHistory::isKnown)) {
+      logger.info("Shard {}/{}: divisão por hash de {} teste(s)", shard.index(), shard.count(), testIds.size());
+      return new ShardSelection(shard, "hash", testIdsFingerprint, null,
+          filter.and(testCase -> bucket(testCase.getId(), shard.count()) == shard.index()));
+    }
+
+    String durationsFingerprint = fingerprint(sortedIds.stream()
+        .map(testId -> testId + "=" + durationHistory.estimate(testId))
+        .toList());
+    Set<String> selected = balanced(testIds, shard);
+    logger.info("Shard {}/{}: {} de {} teste(s) divididos pela duração estimada", shard.index(), shard.count(),
+        selected.size(), testIds.size());
+    return new ShardSelection(shard, "duration", testIdsFingerprint, durationsFingerprint,
+        testCase -> selected.contains(testCase.getId()));
+  }
+
+  private static String fingerprint(List<String> values) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (String value : values) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+      }
+      return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
+
+  private Set<String> balanced(Set<String> testIds, Shard shard) {
+    long[] loads = new long[shard.count()];
+    Set<String> selected = new HashSet<>();
+    List<String> ordered = testIds.stream()
+        .sorted(Comparator.<String>comparingLong(durationHistory::estimate).reversed()
+            .thenComparing(Comparator.naturalOrder()))
+        .toList();
+
+    for (String testId : ordered) {
+      int target = 0;
+      for (int i = 1; i < loads.length; i++) {
+        if (loads[i] < loads[target]) {
+          target = i;
+        }
+      }
+      loads[target] += durationHistory.estimate(testId);
+      if (target + 1 == shard.index()) {
+        selected.add(testId);
+      }
+    }
+    return selected;
+  }
+
+  static int bucket(String testId, int count) {
+    CRC32 crc = new CRC32();
+    crc.update(String.valueOf(testId).getBytes(StandardCharsets.UTF_8));
+    return (int) (crc.getValue() % count) + 1;
+  }
+}
@@ -0,0 +1,21 @@
+package com.fut.backend.core.shard;
+
+import com.fut.backend.domain.TestCase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+public record ShardSelection(Shard shard, String strategy, String testIdsFingerprint, String durationsFingerprint,
+    Predicate<TestCase> filter) {
+
+  public Map<String, Object> section() {
+    Map<String, Object> section = new LinkedHashMap<>();
+    section.put("index", shard.index());
+    section.put("count", shard.count());
+    section.put("strategy", strategy);
+    section.put("test_ids_fingerprint", testIdsFingerprint);
+    section.put("durations_fingerprint", durationsFingerprint);
+    return section;
+  }
+}
@@ -0,0 +1,239 @@
+package com.fut.backend.core.validator;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fut.backend.core.metrics.PipelineMetrics;
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.domain.TestCase;
+import com.fut.backend.domain.ValidationIssue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class HttpValidatorBackend implements ValidatorBackend {
+
+  private static final Logger logger = LoggerFactory.getLogger(HttpValidatorBackend.class);
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final String RESOURCE_TYPE_PLACEHOLDER = "{resourceType}";
+  private static final String FHIR_JSON = "application/fhir+json";
+  private static final Set<Integer> OUTCOME_STATUSES = Set.of(200, 412, 422);
+
+  private final PipelineMetrics metrics;
+  private final SuiteArchives suiteArchives;
+  private final String url;
+  private final int maxInFlight;
+  private final long timeoutMs;
+  private final long connectTimeoutMs;
+  private final Semaphore inFlight;
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger peakRunning = new AtomicInteger();
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong timeouts = new AtomicLong();
+  private final AtomicLong requestNanos = new AtomicLong();
+  private final Map<String, AtomicLong> responsesByVersion = new ConcurrentHashMap<>();
+  private HttpClient httpClient;
+
+  public HttpValidatorBackend(PipelineMetrics metrics, SuiteArchives suiteArchives,
+      @Value("${fut.validator.http.url:http://localhost:8080/fhir/{resourceType}/$validate}") String url,
+      @Value("${fut.validator.http.max-in-flight:16}") int maxInFlight,
+      @Value("${fut.validator.http.timeout-ms:30000}") long timeoutMs,
+      @Value("${fut.validator.http.connect-timeout-ms:5000}") long connectTimeoutMs) {
+    this.metrics = metrics;
+    this.suiteArchives = suiteArchives;
+    this.url = url;
+    this.maxInFlight = Math.max(1, maxInFlight);
+    this.timeoutMs = timeoutMs;
+    this.connectTimeoutMs = connectTimeoutMs;
+    this.inFlight = new Semaphore(this.maxInFlight, true);
+  }
+
+  @Override
+  public String name() {
+    return "http";
+  }
+
+  @Override
+  public String cacheIdentity() {
+    return url;
+  }
+
+  @Override
+  public List<List<ValidationIssue>> validate(List<TestCase> testCases, long deadlineNanos) {
+    List<CompletableFuture<List<ValidationIssue>>> responses = new ArrayList<>();
+    for (TestCase testCase : testCases) {
+      responses.add(send(testCase, deadlineNanos));
+    }
+
+    List<List<ValidationIssue>> outputs = new ArrayList<>();
+    for (int i = 0; i < responses.size(); i++) {
+      try {
+        outputs.add(responses.get(i).join());
+      } catch (CompletionException e) {
+        throw failure(testCases.get(i), e.getCause() != null ? e.getCause() : e);
+      }
+    }
+    return outputs;
+  }
+
+  @Override
+  public Map<String, Object> getStatistics() {
+    Map<String, Long> versions = new LinkedHashMap<>();
+    responsesByVersion.forEach((version, count) -> versions.put(version, count.get()));
+
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("url", url);
+    statistics.put("requests", requests.get());
+    statistics.put("failures", failures.get());
+    statistics.put("timeouts", timeouts.get());
+    statistics.put("max_in_flight", maxInFlight);
+    statistics.put("peak_in_flight", peakRunning.get());
+    statistics.put("mean_request_ms",
+        requests.get() == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(requestNanos.get() / requests.get()));
+    statistics.put("responses_by_http_version", versions);
+    return statistics;
+  }
+
+  private CompletableFuture<List<ValidationIssue>> send(TestCase testCase, long deadlineNanos) {
+    HttpRequest request;
+    try {
+      long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+      if (remainingMs <= 0 || !inFlight.tryAcquire(remainingMs, TimeUnit.MILLISECONDS)) {
+        return CompletableFuture.failedFuture(new HttpTimeoutException("prazo do teste esgotado"));
+      }
+      remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+      request = HttpRequest.newBuilder(endpoint(testCase))
+          .timeout(Duration.ofMillis(Math.max(1, Math.min(timeoutMs, remainingMs))))
+          .header("Content-Type", FHIR_JSON)
+          .header("Accept", FHIR_JSON)
+          .POST(SuiteArchives.isEntry(testCase.getInstancePath())
+              ? HttpRequest.BodyPublishers.ofByteArray(suiteArchives.readAllBytes(testCase.getInstancePath()))
+              : HttpRequest.BodyPublishers.ofFile(Paths.get(testCase.getInstancePath())))
+          .build();
+    } catch (IOException | RuntimeException e) {
+      inFlight.release();
+      return CompletableFuture.failedFuture(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return CompletableFuture.failedFuture(e);
+    }
+
+    peakRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    long startTime = System.nanoTime();
+    return httpClient().sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+        .thenApply(response -> readOutcome(testCase, response))
+        .whenComplete((issues, error) -> {
+          running.decrementAndGet();
+          inFlight.release();
+          requests.incrementAndGet();
+          requestNanos.addAndGet(System.nanoTime() - startTime);
+          metrics.record(PipelineMetrics.Phase.VALIDATOR_RUN, startTime);
+        });
+  }
+
+  private List<ValidationIssue> readOutcome(TestCase testCase, HttpResponse<InputStream> response) {
+    responsesByVersion.computeIfAbsent(response.version().name(), key -> new AtomicLong()).incrementAndGet();
+    long parseStartTime = System.nanoTime();
+    try (InputStream body = response.body()) {
+      if (!OUTCOME_STATUSES.contains(response.statusCode())) {
+        throw new IllegalStateException("Servidor de validação retornou HTTP " + response.statusCode()
+            + " para teste " + testCase.getId());
+      }
+      List<OperationOutcomeParser.Outcome> outcomes = OperationOutcomeParser.parse(body, response.uri().toString());
+      if (outcomes.isEmpty()) {
+        throw new IllegalStateException("Resposta do servidor de validação sem OperationOutcome para teste "
+            + testCase.getId());
+      }
+      return outcomes.get(0).issues();
+    } catch (IOException e) {
+      throw new IllegalStateException("Erro ao ler resposta do servidor de validação para teste "
+          + testCase.getId() + ": " + e.getMessage(), e);
+    } finally {
+      metrics.record(PipelineMetrics.Phase.OUTPUT_PARSING, parseStartTime);
+    }
+  }
+
+  private RuntimeException failure(TestCase testCase, Throwable cause) {
+    failures.incrementAndGet();
+    if (cause instanceof HttpTimeoutException) {
+      timeouts.incrementAndGet();
+      return new IllegalStateException("Timeout na validação do teste: " + testCase.getId(), cause);
+    }
+    if (cause instanceof RuntimeException runtime) {
+      return runtime;
+    }
+    logger.debug("Falha na requisição ao servidor de validação para teste {}", testCase.getId(), cause);
+    return new IllegalStateException("Erro ao enviar teste " + testCase.getId() + " ao servidor de validação "
+        + url + ": " + cause.getMessage(), cause);
+  }
+
+  private URI endpoint(TestCase testCase) throws IOException {
+    String target = url;
+    if (target.contains(RESOURCE_TYPE_PLACEHOLDER)) {
+      target = target.replace(RESOURCE_TYPE_PLACEHOLDER, resourceType(testCase.getInstancePath()));
+    }
+
+    List<String> profiles = testCase.getContext() != null ? testCase.getContext().getProfiles() : null;
+    StringBuilder query = new StringBuilder();
+    if (profiles != null) {
+      for (String profile : profiles) {
+        query.append(query.isEmpty() && !target.contains("?") ? '?' : '&')
+            .append("profile=")
+            .append(URLEncoder.encode(profile, StandardCharsets.UTF_8));
+      }
+    }
+    return URI.create(target + query);
+  }
+
+  private String resourceType(String instance) throws IOException {
+    try (JsonParser parser = JSON_FACTORY.createParser(suiteArchives.open(instance))) {
+      if (parser.nextToken() == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String field = parser.currentName();
+          if (parser.nextToken() == JsonToken.VALUE_STRING && field.equals("resourceType")) {
+            return parser.getText();
+          }
+          parser.skipChildren();
+        }
+      }
+    }
+    throw new IOException("Instância sem resourceType: " + instance);
+  }
+
+  private synchronized HttpClient httpClient() {
+    if (httpClient == null) {
+      httpClient = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_2)
+          .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+          .build();
+    }
+    return httpClient;
+  }
+}
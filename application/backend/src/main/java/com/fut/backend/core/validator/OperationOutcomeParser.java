@@ -0,0 +1,189 @@
+package com.fut.backend.core.validator;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fut.backend.domain.ValidationIssue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+class OperationOutcomeParser {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final String FILE_EXTENSION = "http://hl7.org/fhir/StructureDefinition/operationoutcome-file";
+  private static final String LINE_EXTENSION = "http://hl7.org/fhir/StructureDefinition/operationoutcome-issue-line";
+  private static final String COLUMN_EXTENSION = "http://hl7.org/fhir/StructureDefinition/operationoutcome-issue-col";
+  private static final String MESSAGE_ID_EXTENSION =
+      "http://hl7.org/fhir/StructureDefinition/operationoutcome-message-id";
+
+  record Outcome(String file, List<ValidationIssue> issues) {
+  }
+
+  static List<Outcome> parse(Path outputFile) throws IOException {
+    return parse(Files.newInputStream(outputFile), outputFile.toString());
+  }
+
+  static List<Outcome> parse(InputStream input, String source) throws IOException {
+    List<Outcome> outcomes = new ArrayList<>();
+    try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Saída do validador não é um recurso JSON: " + source);
+      }
+      readResource(parser, outcomes);
+    }
+    return outcomes;
+  }
+
+  private static void readResource(JsonParser parser, List<Outcome> outcomes) throws IOException {
+    String file = null;
+    List<ValidationIssue> issues = null;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      switch (field) {
+        case "extension" -> {
+          Extension fileExtension = readExtensions(parser, FILE_EXTENSION).stream().findFirst().orElse(null);
+          file = fileExtension != null ? fileExtension.value() : file;
+        }
+        case "issue" -> issues = readIssues(parser);
+        case "entry" -> {
+          if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+          }
+          while (value == JsonToken.START_ARRAY && parser.nextToken() == JsonToken.START_OBJECT) {
+            readEntry(parser, outcomes);
+          }
+        }
+        default -> parser.skipChildren();
+      }
+    }
+
+    if (issues != null) {
+      outcomes.add(new Outcome(file, issues));
+    }
+  }
+
+  private static void readEntry(JsonParser parser, List<Outcome> outcomes) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if (field.equals("resource") && value == JsonToken.START_OBJECT) {
+        readResource(parser, outcomes);
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private static List<ValidationIssue> readIssues(JsonParser parser) throws IOException {
+    List<ValidationIssue> issues = new ArrayList<>();
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      issues.add(readIssue(parser));
+    }
+    return issues;
+  }
+
+  private static ValidationIssue readIssue(JsonParser parser) throws IOException {
+    ValidationIssue issue = new ValidationIssue();
+    String diagnostics = null;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      switch (field) {
+        case "severity" -> issue.setSeverity(ValidatorOutputParser.severityOf(parser.getText()));
+        case "diagnostics" -> diagnostics = parser.getText();
+        case "details" -> issue.setMessage(readDetailsText(parser));
+        case "expression", "location" -> {
+          List<String> locations = readStrings(parser, value);
+          if (issue.getLocation() == null && !locations.isEmpty()) {
+            issue.setLocation(locations.get(0));
+          }
+        }
+        case "extension" -> {
+          for (Extension extension : readExtensions(parser, null)) {
+            switch (extension.url()) {
+              case LINE_EXTENSION -> issue.setLine(Integer.valueOf(extension.value()));
+              case COLUMN_EXTENSION -> issue.setColumn(Integer.valueOf(extension.value()));
+              case MESSAGE_ID_EXTENSION -> issue.setMessageId(extension.value());
+              default -> {
+              }
+            }
+          }
+        }
+        default -> parser.skipChildren();
+      }
+    }
+
+    if (issue.getMessage() == null) {
+      issue.setMessage(diagnostics);
+    }
+    if (issue.getSeverity() == null) {
+      issue.setSeverity(ValidationIssue.Severity.INFORMATION);
+    }
+    return issue;
+  }
+
+  private static String readDetailsText(JsonParser parser) throws IOException {
+    String text = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      if (field.equals("text")) {
+        text = parser.getText();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return text;
+  }
+
+  private static List<String> readStrings(JsonParser parser, JsonToken value) throws IOException {
+    List<String> strings = new ArrayList<>();
+    if (value != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return strings;
+    }
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      strings.add(parser.getText());
+    }
+    return strings;
+  }
+
+  private static List<Extension> readExtensions(JsonParser parser, String onlyUrl) throws IOException {
+    List<Extension> extensions = new ArrayList<>();
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return extensions;
+    }
+
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      String url = null;
+      String value = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken token = parser.nextToken();
+        if (field.equals("url")) {
+          url = parser.getText();
+        } else if (field.startsWith("value") && token.isScalarValue()) {
+          value = parser.getText();
+        } else {
+          parser.skipChildren();
+        }
+      }
+      if (url != null && value != null && (onlyUrl == null || onlyUrl.equals(url))) {
+        extensions.add(new Extension(url, value));
+      }
+    }
+    return extensions;
+  }
+
+  private record Extension(String url, String value) {
+  }
+}
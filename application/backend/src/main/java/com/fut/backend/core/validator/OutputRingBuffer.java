@@ -0,0 +1,62 @@
+package com.fut.backend.core.validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+class OutputRingBuffer {
+
+  static final int MAX_LINE_LENGTH = 2000;
+
+  private final int capacity;
+  private final Deque<String> lines;
+  private long droppedLines;
+
+  OutputRingBuffer(int capacity) {
+    this.capacity = Math.max(1, capacity);
+    this.lines = new ArrayDeque<>(this.capacity);
+  }
+
+  Thread drain(InputStream input) {
+    return Thread.ofVirtual().name("fut-validator-output").start(() -> {
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1) {
+          if (c == '\n') {
+            add(line.toString());
+            line.setLength(0);
+          } else if (c != '\r' && line.length() <= MAX_LINE_LENGTH) {
+            line.append((char) c);
+          }
+        }
+        if (!line.isEmpty()) {
+          add(line.toString());
+        }
+      } catch (IOException e) {
+        add("[saída interrompida: " + e.getMessage() + "]");
+      }
+    });
+  }
+
+  synchronized void add(String line) {
+    if (lines.size() == capacity) {
+      lines.pollFirst();
+      droppedLines++;
+    }
+    lines.addLast(line.length() > MAX_LINE_LENGTH ? line.substring(0, MAX_LINE_LENGTH) + "..." : line);
+  }
+
+  @Override
+  public synchronized String toString() {
+    StringBuilder text = new StringBuilder();
+    if (droppedLines > 0) {
+      text.append("[").append(droppedLines).append(" linha(s) anteriores omitidas]\n");
+    }
+    return text.append(String.join("\n", lines)).toString();
+  }
+}
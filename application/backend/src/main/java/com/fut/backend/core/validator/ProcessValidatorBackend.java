@@ -0,0 +1,492 @@
+package com.fut.backend.core.validator;
+
+import com.fut.backend.core.cds.ValidatorArchive;
+import com.fut.backend.core.metrics.PipelineMetrics;
+import com.fut.backend.core.packages.IgPackage;
+import com.fut.backend.core.packages.IgPackageStore;
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.domain.TestCase;
+import com.fut.backend.domain.ValidationIssue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+public class ProcessValidatorBackend implements ValidatorBackend {
+  private static final Logger logger = LoggerFactory.getLogger(ProcessValidatorBackend.class);
+  private static final long RSS_SAMPLE_INTERVAL_MS = 100;
+
+  record ProcessUsage(long peakRssKb, long admissionWaitMs) {
+    static final ProcessUsage NONE = new ProcessUsage(0, 0);
+  }
+
+  private final ValidatorWorkerPool workerPool;
+  private final IgPackageStore packageStore;
+  private final PipelineMetrics metrics;
+  private final ValidatorAdmission admission;
+  private final ValidatorArchive validatorArchive;
+  private final SuiteArchives suiteArchives;
+  private final String validatorPath;
+  private final String fhirVersion;
+  private final long timeoutSeconds;
+  private final int diagnosticLines;
+  private final AtomicLong warmValidations = new AtomicLong();
+  private final AtomicLong coldValidations = new AtomicLong();
+  private final Map<String, List<String>> igArguments = new ConcurrentHashMap<>();
+  private final AtomicLong preparationNanos = new AtomicLong();
+  private final AtomicLong generatedSnapshots = new AtomicLong();
+  private volatile IgPackage corePackage;
+  private volatile boolean coreAttempted;
+  private final Map<String, ProcessUsage> usageByTest = new ConcurrentHashMap<>();
+
+  public ProcessValidatorBackend(ValidatorWorkerPool workerPool,
+      IgPackageStore packageStore,
+      PipelineMetrics metrics,
+      ValidatorAdmission admission,
+      ValidatorArchive validatorArchive,
+      SuiteArchives suiteArchives,
+      @Value("${fut.validator.jar:validator/validator_cli.jar}") String validatorPath,
+      @Value("${fut.validator.fhir-version:4.0.1}") String fhirVersion,
+      @Value("${fut.validator.timeout-seconds:30}") long timeoutSeconds,
+      @Value("${fut.validator.diagnostic-lines:200}") int diagnosticLines) {
+    this.workerPool = workerPool;
+    this.packageStore = packageStore;
+    this.metrics = metrics;
+    this.admission = admission;
+    this.validatorArchive = validatorArchive;
+    this.suiteArchives = suiteArchives;
+    this.validatorPath = validatorPath;
+    this.fhirVersion = fhirVersion;
+    this.timeoutSeconds = timeoutSeconds;
+    this.diagnosticLines = diagnosticLines;
+  }
+
+  @Override
+  public String name() {
+    return "process";
+  }
+
+  @Override
+  public String cacheIdentity() {
+    checkValidatorFile();
+    return validatorPath;
+  }
+
+  @Override
+  public List<List<ValidationIssue>> validate(List<TestCase> testCases, long deadlineNanos) {
+    checkValidatorFile();
+    return testCases.size() == 1 || workerPool.isEnabled()
+        ? testCases.stream().map(testCase -> runValidator(testCase, deadlineNanos)).toList()
+        : runBatchValidator(testCases, deadlineNanos);
+  }
+
+  public List<String> prepare(String ig) {
+    List<String> arguments = igArguments.get(ig);
+    if (arguments != null) {
+      return arguments;
+    }
+
+    synchronized (igArguments) {
+      arguments = igArguments.get(ig);
+      if (arguments != null) {
+        return arguments;
+      }
+
+      long startTime = System.nanoTime();
+      List<IgPackage> packages = packageStore.resolve(ig);
+      for (int i = 0; i < packages.size(); i++) {
+        generateSnapshots(packages.get(i), packages.subList(0, i + 1));
+      }
+      arguments = packages.isEmpty()
+          ? List.of(ig)
+          : packages.stream().map(igPackage -> igPackage.directory().toString()).toList();
+      igArguments.put(ig, arguments);
+      preparationNanos.addAndGet(System.nanoTime() - startTime);
+      logger.info("IG {} preparado: {} pacote(s)", ig, packages.size());
+      return arguments;
+    }
+  }
+
+  public IgPackage prepareCore() {
+    IgPackage core = corePackage;
+    if (core != null) {
+      return core;
+    }
+
+    synchronized (igArguments) {
+      if (corePackage == null) {
+        long startTime = System.nanoTime();
+        corePackage = packageStore.resolveCore(fhirVersion);
+        preparationNanos.addAndGet(System.nanoTime() - startTime);
+        logger.info("Pacote core {} preparado", corePackage.reference());
+      }
+      return corePackage;
+    }
+  }
+
+  public void trainClassDataSharing(TestCase testCase) {
+    if (validatorArchive.isReady(admission.getJvmOptions())) {
+      logger.info("Arquivo CDS do validador atualizado");
+      return;
+    }
+    checkValidatorFile();
+    logger.info("Executando o validador com o teste {} para gerar o arquivo CDS", testCase.getId());
+    runValidatorProcess(List.of(instanceFile(testCase)), List.of(testCase), unbounded());
+  }
+
+  ProcessUsage takeUsage(String testId) {
+    ProcessUsage usage = usageByTest.remove(testId);
+    return usage != null ? usage : ProcessUsage.NONE;
+  }
+
+  @Override
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("warm_validations", warmValidations.get());
+    statistics.put("cold_validations", coldValidations.get());
+    statistics.put("workers", workerPool.getStatistics());
+    statistics.put("admission", admission.getStatistics());
+    statistics.put("class_data_sharing", validatorArchive.getStatistics());
+    return statistics;
+  }
+
+  public Map<String, Object> getPreparationStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("preparation_time_ms", TimeUnit.NANOSECONDS.toMillis(preparationNanos.get()));
+    IgPackage core = corePackage;
+    statistics.put("core_package", core != null ? core.reference() : null);
+    statistics.putAll(packageStore.getStatistics());
+    statistics.put("generated_snapshots", generatedSnapshots.get());
+    return statistics;
+  }
+
+  private void generateSnapshots(IgPackage igPackage, List<IgPackage> context) {
+    List<Path> definitions = packageStore.definitionsWithoutSnapshot(igPackage);
+    if (definitions.isEmpty()) {
+      return;
+    }
+    checkValidatorFile();
+    logger.info("Gerando snapshots de {} perfil(is) do pacote {}", definitions.size(), igPackage.reference());
+
+    boolean complete = true;
+    for (Path definition : definitions) {
+      Path outputFile = null;
+      try {
+        outputFile = Files.createTempFile(definition.getParent(), "snapshot-", ".tmp");
+        List<String> command = new ArrayList<>();
+        command.add("java");
+        command.addAll(admission.getJvmOptions());
+        command.add("-jar");
+        command.add(validatorPath);
+        command.add("-snapshot");
+        command.add("-defn");
+        command.add(definition.toString());
+        command.add("-version");
+        command.add(fhirVersion);
+        for (IgPackage dependency : context) {
+          command.add("-ig");
+          command.add(dependency.directory().toString());
+        }
+        command.add("-output");
+        command.add(outputFile.toString());
+
+        executeValidatorCommand(command, "snapshot " + definition.getFileName(), outputFile, unbounded());
+        Files.move(outputFile, definition, StandardCopyOption.REPLACE_EXISTING);
+        generatedSnapshots.incrementAndGet();
+      } catch (IOException | RuntimeException e) {
+        complete = false;
+        logger.warn("Falha ao gerar snapshot de {}: {}", definition.getFileName(), e.getMessage());
+      } finally {
+        if (outputFile != null) {
+          try {
+            Files.deleteIfExists(outputFile);
+          } catch (IOException e) {
+            logger.debug("Falha ao remover snapshot temporário {}: {}", outputFile, e.getMessage());
+          }
+        }
+      }
+    }
+    if (complete) {
+      packageStore.markSnapshotsGenerated(igPackage);
+    }
+  }
+
+  private List<ValidationIssue> runValidator(TestCase testCase, long deadlineNanos) {
+    if (workerPool.isEnabled()) {
+      List<ValidationIssue> issues = validateWithWorker(testCase, deadlineNanos);
+      if (issues != null) {
+        return issues;
+      }
+    }
+
+    coldValidations.incrementAndGet();
+    String instanceFile = instanceFile(testCase);
+    return runValidatorProcess(List.of(instanceFile), List.of(testCase), deadlineNanos).get(instanceFile);
+  }
+
+  private List<List<ValidationIssue>> runBatchValidator(List<TestCase> batch, long deadlineNanos) {
+    List<String> instancePaths = batch.stream().map(this::instanceFile).distinct().toList();
+    logger.info("Validando lote de {} instância(s): {}", instancePaths.size(),
+        batch.stream().map(TestCase::getId).collect(Collectors.joining(",")));
+
+    Map<String, List<ValidationIssue>> issuesByPath = runValidatorProcess(instancePaths, batch, deadlineNanos);
+    coldValidations.addAndGet(batch.size());
+    return batch.stream()
+        .map(testCase -> issuesByPath.get(instanceFile(testCase)))
+        .toList();
+  }
+
+  private Map<String, List<ValidationIssue>> runValidatorProcess(List<String> instancePaths,
+      List<TestCase> testCases, long deadlineNanos) {
+    String testId = testCases.stream().map(TestCase::getId).collect(Collectors.joining(","));
+    Path outputFile = null;
+    try {
+      outputFile = Files.createTempFile("fut-outcome-", ".json");
+      List<String> command = new ArrayList<>();
+      command.add("java");
+      command.addAll(admission.getJvmOptions());
+      command.add("-jar");
+      command.add(validatorPath);
+      command.addAll(instancePaths);
+      command.addAll(buildContextArguments(testCases.get(0)));
+      command.add("-output");
+      command.add(outputFile.toString());
+
+      ProcessUsage usage = executeValidatorCommand(command, testId, outputFile, deadlineNanos);
+      testCases.forEach(testCase -> usageByTest.put(testCase.getId(), usage));
+      long parseStartTime = System.nanoTime();
+      Map<String, List<ValidationIssue>> issuesByPath = splitOutcomes(OperationOutcomeParser.parse(outputFile),
+          instancePaths);
+      metrics.record(PipelineMetrics.Phase.OUTPUT_PARSING, parseStartTime);
+      return issuesByPath;
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Erro ao ler saída do validador para teste " + testId + ": "
+          + e.getMessage(), e);
+    } finally {
+      if (outputFile != null) {
+        try {
+          Files.deleteIfExists(outputFile);
+        } catch (IOException e) {
+          logger.debug("Falha ao remover saída temporária {}: {}", outputFile, e.getMessage());
+        }
+      }
+    }
+  }
+
+  static Map<String, List<ValidationIssue>> splitOutcomes(List<OperationOutcomeParser.Outcome> outcomes,
+      List<String> instancePaths) {
+    Map<String, List<ValidationIssue>> issuesByPath = new HashMap<>();
+    for (OperationOutcomeParser.Outcome outcome : outcomes) {
+      String path;
+      if (outcome.file() != null) {
+        path = normalizedPath(outcome.file());
+      } else if (instancePaths.size() == 1 && outcomes.size() == 1) {
+        path = instancePaths.get(0);
+      } else {
+        throw new IllegalStateException("OperationOutcome sem arquivo de origem na saída do validador para "
+            + instancePaths.size() + " instância(s)");
+      }
+      if (!instancePaths.contains(path)) {
+        throw new IllegalStateException("OperationOutcome para instância não enviada ao validador: "
+            + outcome.file());
+      }
+      if (issuesByPath.putIfAbsent(path, outcome.issues()) != null) {
+        throw new IllegalStateException("OperationOutcome duplicado na saída do validador para a instância: " + path);
+      }
+    }
+
+    for (String path : instancePaths) {
+      if (!issuesByPath.containsKey(path)) {
+        throw new IllegalStateException("Saída do validador sem OperationOutcome para a instância: " + path);
+      }
+    }
+    return issuesByPath;
+  }
+
+  private String instanceFile(TestCase testCase) {
+    return normalizedPath(suiteArchives.localFile(testCase.getInstancePath()).toString());
+  }
+
+  private static String normalizedPath(String path) {
+    return Paths.get(path).toAbsolutePath().normalize().toString();
+  }
+
+  private void checkValidatorFile() {
+    File validatorFile = new File(validatorPath);
+    if (!validatorFile.exists()) {
+      throw new IllegalArgumentException("Validador FHIR não encontrado: " + validatorPath);
+    }
+  }
+
+  private List<ValidationIssue> validateWithWorker(TestCase testCase, long deadlineNanos) {
+    ValidatorWorkerKey key = ValidatorWorkerKey.of(fhirVersion, testCase.getContext());
+    ValidatorWorker worker = workerPool.borrow(key, buildContextArguments(testCase));
+    if (worker == null) {
+      return null;
+    }
+
+    ValidatorAdmission.Permit cpu;
+    try {
+      cpu = admission.admitCpu(testCase.getId());
+    } catch (RuntimeException e) {
+      workerPool.release(worker);
+      throw e;
+    }
+
+    Path outputFile = null;
+    try (cpu) {
+      outputFile = Files.createTempFile("fut-outcome-", ".json");
+      boolean warm = worker.isWarm();
+      long startTime = System.nanoTime();
+      long timeoutMs = TimeUnit.NANOSECONDS.toMillis(runDeadline(startTime, deadlineNanos) - startTime);
+      worker.validate(instanceFile(testCase), outputFile, Math.max(0, timeoutMs), workerPool.getMaxOutputLines());
+      metrics.record(PipelineMetrics.Phase.VALIDATOR_RUN, startTime);
+      long parseStartTime = System.nanoTime();
+      List<OperationOutcomeParser.Outcome> outcomes = OperationOutcomeParser.parse(outputFile);
+      metrics.record(PipelineMetrics.Phase.OUTPUT_PARSING, parseStartTime);
+      if (outcomes.isEmpty()) {
+        throw new IOException("saída sem OperationOutcome");
+      }
+      workerPool.release(worker);
+      (warm ? warmValidations : coldValidations).incrementAndGet();
+      return outcomes.get(0).issues();
+    } catch (IOException e) {
+      logger.warn("Worker do validador falhou para teste {}, usando processo dedicado: {}", testCase.getId(),
+          e.getMessage());
+      workerPool.discard(worker);
+      return null;
+    } catch (TimeoutException e) {
+      workerPool.discard(worker);
+      throw new IllegalStateException("Timeout na validação do teste: " + testCase.getId(), e);
+    } finally {
+      if (outputFile != null) {
+        try {
+          Files.deleteIfExists(outputFile);
+        } catch (IOException e) {
+          logger.debug("Falha ao remover saída temporária {}: {}", outputFile, e.getMessage());
+        }
+      }
+    }
+  }
+
+  private List<String> buildContextArguments(TestCase testCase) {
+    if (!coreAttempted) {
+      coreAttempted = true;
+      try {
+        prepareCore();
+      } catch (RuntimeException e) {
+        logger.warn("Pacote core FHIR {} não preparado, o validador usará o próprio cache: {}", fhirVersion,
+            e.getMessage());
+      }
+    }
+
+    List<String> command = new ArrayList<>();
+    command.add("-version");
+    command.add(fhirVersion);
+
+    if (testCase.getContext().getProfiles() != null && !testCase.getContext().getProfiles().isEmpty()) {
+      command.add("-profile");
+      command.add(String.join(",", testCase.getContext().getProfiles()));
+    }
+
+    if (testCase.getContext().getIgs() != null) {
+      for (String ig : testCase.getContext().getIgs()) {
+        for (String argument : prepare(ig)) {
+          command.add("-ig");
+          command.add(argument);
+        }
+      }
+    }
+
+    if (packageStore.isOffline()) {
+      command.add("-tx");
+      command.add("n/a");
+    }
+
+    return command;
+  }
+
+  private long unbounded() {
+    return System.nanoTime() + Long.MAX_VALUE / 2;
+  }
+
+  private long runDeadline(long runStartTime, long deadlineNanos) {
+    long validatorDeadline = runStartTime + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+    return deadlineNanos - validatorDeadline < 0 ? deadlineNanos : validatorDeadline;
+  }
+
+  private ProcessUsage executeValidatorCommand(List<String> command, String testId, Path outputFile,
+      long deadlineNanos) {
+    OutputRingBuffer diagnostics = new OutputRingBuffer(diagnosticLines);
+    Process process = null;
+    ValidatorAdmission.Permit permit = admission.admit(testId);
+    ValidatorArchive.Launch launch = validatorArchive.launch(admission.getJvmOptions());
+    List<String> launchCommand = new ArrayList<>(command);
+    launchCommand.addAll(1, launch.options());
+    long launchStartTime = System.nanoTime();
+    boolean completed = false;
+    try {
+      if (System.nanoTime() - deadlineNanos >= 0) {
+        throw new IllegalStateException("Timeout na validação do teste: " + testId);
+      }
+      ProcessBuilder processBuilder = new ProcessBuilder(launchCommand);
+      processBuilder.redirectErrorStream(true);
+      long spawnStartTime = System.nanoTime();
+      process = processBuilder.start();
+      metrics.record(PipelineMetrics.Phase.PROCESS_SPAWN, spawnStartTime);
+      metrics.processStarted();
+      long runStartTime = System.nanoTime();
+      process.getOutputStream().close();
+      Thread drainer = diagnostics.drain(process.getInputStream());
+
+      long deadline = runDeadline(runStartTime, deadlineNanos);
+      long peakRssKb = ValidatorAdmission.readPeakRssKb(process.pid());
+      while (!process.waitFor(RSS_SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+        peakRssKb = Math.max(peakRssKb, ValidatorAdmission.readPeakRssKb(process.pid()));
+        if (System.nanoTime() - deadline > 0) {
+          process.destroyForcibly();
+          throw new IllegalStateException("Timeout na validação do teste: " + testId);
+        }
+      }
+      admission.recordPeakRss(peakRssKb);
+      metrics.record(PipelineMetrics.Phase.VALIDATOR_RUN, runStartTime);
+      drainer.join(TimeUnit.SECONDS.toMillis(1));
+
+      int exitCode = process.exitValue();
+      if (exitCode != 0 && Files.size(outputFile) == 0) {
+        throw new IllegalStateException(
+            "Validador retornou erro para teste " + testId + ": " + diagnostics);
+      }
+      completed = true;
+      return new ProcessUsage(peakRssKb, permit.getWaitMs());
+
+    } catch (IOException | InterruptedException e) {
+      throw new IllegalArgumentException("Erro ao executar validador para teste " + testId + ": " + e.getMessage(), e);
+    } finally {
+      if (process != null) {
+        process.destroy();
+        metrics.processFinished();
+      }
+      permit.close();
+      validatorArchive.finished(launch, launchStartTime, completed);
+    }
+  }
+}
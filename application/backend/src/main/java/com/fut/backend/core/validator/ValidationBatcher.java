@@ -0,0 +1,144 @@
+package com.fut.backend.core.validator;
+
+import com.fut.backend.core.logging.TestLogs;
+import com.fut.backend.domain.TestCase;
+import com.fut.backend.domain.ValidationIssue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ValidationBatcher implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(ValidationBatcher.class);
+
+  private final ValidatorExecutor validatorExecutor;
+  private final Executor executor;
+  private final int batchSize;
+  private final long maxWaitMs;
+  private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor();
+  private final Map<ValidatorWorkerKey, PendingBatch> pendingBatches = new HashMap<>();
+
+  public ValidationBatcher(ValidatorExecutor validatorExecutor, Executor executor, int batchSize, long maxWaitMs) {
+    this.validatorExecutor = validatorExecutor;
+    this.executor = executor;
+    this.batchSize = Math.max(1, batchSize);
+    this.maxWaitMs = maxWaitMs;
+  }
+
+  public CompletableFuture<ValidationOutcome> submit(TestCase testCase, long deadlineNanos) {
+    CompletableFuture<ValidationOutcome> result = new CompletableFuture<>();
+    ValidatorWorkerKey key = validatorExecutor.batchKey(testCase);
+    PendingBatch ready = null;
+
+    synchronized (pendingBatches) {
+      PendingBatch batch = pendingBatches.get(key);
+      if (batch == null) {
+        batch = new PendingBatch();
+        pendingBatches.put(key, batch);
+        if (batchSize > 1) {
+          PendingBatch scheduled = batch;
+          batch.flushTask = flushScheduler.schedule(() -> flush(key, scheduled), maxWaitMs, TimeUnit.MILLISECONDS);
+        }
+      }
+      batch.testCases.add(testCase);
+      batch.results.add(result);
+      if (batch.testCases.size() == 1 || deadlineNanos - batch.deadlineNanos < 0) {
+        batch.deadlineNanos = deadlineNanos;
+      }
+
+      if (batch.testCases.size() >= batchSize) {
+        pendingBatches.remove(key);
+        ready = batch;
+      }
+    }
+
+    if (ready != null) {
+      dispatch(ready);
+    }
+    return result;
+  }
+
+  @Override
+  public void close() {
+    List<PendingBatch> remaining;
+    synchronized (pendingBatches) {
+      remaining = new ArrayList<>(pendingBatches.values());
+      pendingBatches.clear();
+    }
+    remaining.forEach(this::dispatch);
+    flushScheduler.shutdownNow();
+  }
+
+  private void flush(ValidatorWorkerKey key, PendingBatch batch) {
+    synchronized (pendingBatches) {
+      if (pendingBatches.get(key) != batch) {
+        return;
+      }
+      pendingBatches.remove(key);
+    }
+    logger.debug("Enviando lote parcial de {} teste(s) após {} ms", batch.testCases.size(), maxWaitMs);
+    dispatch(batch);
+  }
+
+  private void dispatch(PendingBatch batch) {
+    if (batch.flushTask != null) {
+      batch.flushTask.cancel(false);
+    }
+    executor.execute(() -> validate(batch));
+  }
+
+  private void validate(PendingBatch batch) {
+    long startTime = System.nanoTime();
+    try (var scope = TestLogs.scope(batch.testCases.stream().map(TestCase::getId).toList())) {
+      List<List<ValidationIssue>> outputs = validatorExecutor.validateBatch(batch.testCases,
+          batch.deadlineNanos);
+      long durationMs = elapsedMs(startTime);
+      for (int i = 0; i < outputs.size(); i++) {
+        batch.results.get(i).complete(outcome(batch.testCases.get(i), outputs.get(i), durationMs));
+      }
+    } catch (Exception e) {
+      if (batch.testCases.size() == 1) {
+        batch.results.get(0).completeExceptionally(e);
+        return;
+      }
+      logger.warn("Falha na validação em lote de {} teste(s), validando individualmente: {}",
+          batch.testCases.size(), e.getMessage());
+      for (int i = 0; i < batch.testCases.size(); i++) {
+        long individualStartTime = System.nanoTime();
+        try (var scope = TestLogs.scope(batch.testCases.get(i).getId())) {
+          List<ValidationIssue> output = validatorExecutor.validate(batch.testCases.get(i),
+              batch.deadlineNanos);
+          batch.results.get(i).complete(outcome(batch.testCases.get(i), output, elapsedMs(individualStartTime)));
+        } catch (Exception individual) {
+          batch.results.get(i).completeExceptionally(individual);
+        }
+      }
+    }
+  }
+
+  private ValidationOutcome outcome(TestCase testCase, List<ValidationIssue> issues, long durationMs) {
+    ProcessValidatorBackend.ProcessUsage usage = validatorExecutor.takeUsage(testCase.getId());
+    return new ValidationOutcome(issues, Math.max(0, durationMs - usage.admissionWaitMs()), usage.peakRssKb());
+  }
+
+  private static long elapsedMs(long startTime) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+  }
+
+  private static class PendingBatch {
+    private final List<TestCase> testCases = new ArrayList<>();
+    private final List<CompletableFuture<ValidationOutcome>> results = new ArrayList<>();
+    private ScheduledFuture<?> flushTask;
+    private long deadlineNanos;
+  }
+}
@@ -0,0 +1,8 @@
+package com.fut.backend.core.validator;
+
+import com.fut.backend.domain.ValidationIssue;
+
+import java.util.List;
+
+public record ValidationOutcome(List<ValidationIssue> issues, long durationMs, long peakRssKb) {
+}
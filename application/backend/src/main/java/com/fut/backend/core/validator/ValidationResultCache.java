@@ -0,0 +1,311 @@
+package com.fut.backend.core.validator;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.domain.TestCase;
+import com.fut.backend.domain.ValidationContext;
+import com.fut.backend.domain.ValidationIssue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Component
+public class ValidationResultCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(ValidationResultCache.class);
+  private static final String ENTRY_FORMAT = "issues-v2";
+
+  public enum Mode {
+    ENABLED, DISABLED, REFRESH
+  }
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SuiteArchives suiteArchives;
+  private final Path directory;
+  private final long maxSizeBytes;
+  private final Map<String, String> jarHashes = new ConcurrentHashMap<>();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private volatile Mode mode;
+  private AtomicLong currentSizeBytes;
+
+  public ValidationResultCache(SuiteArchives suiteArchives,
+      @Value("${fut.cache.enabled:true}") boolean enabled,
+      @Value("${fut.cache.directory:.fut-cache}") String directory,
+      @Value("${fut.cache.max-size-mb:512}") long maxSizeMb) {
+    this.suiteArchives = suiteArchives;
+    this.mode = enabled ? Mode.ENABLED : Mode.DISABLED;
+    this.directory = Paths.get(directory).toAbsolutePath().normalize();
+    this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+  }
+
+  public void setMode(Mode mode) {
+    this.mode = mode;
+  }
+
+  public boolean isEnabled() {
+    return mode != Mode.DISABLED;
+  }
+
+  String key(TestCase testCase, String fhirVersion, String validator) {
+    MessageDigest digest = newDigest();
+    try {
+      try (InputStream input = suiteArchives.open(testCase.getInstancePath())) {
+        updateStream(digest, input);
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Erro ao ler instância para o cache: " + testCase.getInstancePath(), e);
+    }
+
+    ValidationContext context = testCase.getContext();
+    update(digest, "format", List.of(ENTRY_FORMAT));
+    update(digest, "version", List.of(fhirVersion));
+    update(digest, "validator", List.of(Files.isRegularFile(Paths.get(validator))
+        ? jarHash(Paths.get(validator))
+        : validator));
+    update(digest, "igs", context.getIgs());
+    update(digest, "profiles", context.getProfiles());
+    update(digest, "resources", context.getResources());
+    updateLocalReferences(digest, context);
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  List<ValidationIssue> get(String key) {
+    if (mode != Mode.ENABLED) {
+      return null;
+    }
+
+    Path entry = entryPath(key);
+    try {
+      List<ValidationIssue> output = objectMapper.readValue(entry.toFile(),
+          new TypeReference<List<ValidationIssue>>() {
+          });
+      Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+      hits.incrementAndGet();
+      return output;
+    } catch (NoSuchFileException | FileNotFoundException e) {
+      misses.incrementAndGet();
+      return null;
+    } catch (IOException e) {
+      logger.warn("Entrada de cache ilegível {}: {}", entry, e.getMessage());
+      misses.incrementAndGet();
+      return null;
+    }
+  }
+
+  void put(String key, List<ValidationIssue> output) {
+    if (mode == Mode.DISABLED) {
+      return;
+    }
+
+    Path entry = entryPath(key);
+    Path temp = null;
+    boolean moved = false;
+    try {
+      Files.createDirectories(entry.getParent());
+      temp = Files.createTempFile(entry.getParent(), key, ".tmp");
+      objectMapper.writeValue(temp.toFile(), output);
+      long size = Files.size(temp);
+      AtomicLong currentSize = currentSize();
+      long replacedSize = sizeOf(entry);
+      try {
+        Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+      }
+      moved = true;
+
+      if (currentSize.addAndGet(size - replacedSize) > maxSizeBytes) {
+        evict();
+      }
+    } catch (IOException e) {
+      logger.warn("Falha ao gravar entrada de cache {}: {}", entry, e.getMessage());
+    } finally {
+      if (temp != null && !moved) {
+        try {
+          Files.deleteIfExists(temp);
+        } catch (IOException e) {
+          logger.debug("Falha ao remover entrada temporária de cache {}: {}", temp, e.getMessage());
+        }
+      }
+    }
+  }
+
+  Map<String, Object> getStatistics() {
+    return Map.of("cache_hits", hits.get(), "cache_misses", misses.get());
+  }
+
+  private static long sizeOf(Path entry) throws IOException {
+    try {
+      return Files.size(entry);
+    } catch (NoSuchFileException e) {
+      return 0;
+    }
+  }
+
+  private synchronized AtomicLong currentSize() {
+    if (currentSizeBytes == null) {
+      currentSizeBytes = new AtomicLong(listEntries().stream().mapToLong(CacheEntry::size).sum());
+    }
+    return currentSizeBytes;
+  }
+
+  private synchronized void evict() {
+    List<CacheEntry> entries = listEntries();
+    entries.sort(Comparator.comparing(CacheEntry::lastUsed));
+    long total = entries.stream().mapToLong(CacheEntry::size).sum();
+    long target = maxSizeBytes * 9 / 10;
+
+    int removed = 0;
+    for (CacheEntry entry : entries) {
+      if (total <= target) {
+        break;
+      }
+      try {
+        Files.deleteIfExists(entry.path());
+        total -= entry.size();
+        removed++;
+      } catch (IOException e) {
+        logger.debug("Falha ao remover entrada de cache {}: {}", entry.path(), e.getMessage());
+      }
+    }
+    currentSizeBytes.set(total);
+    logger.debug("Cache de validação: {} entrada(s) removida(s)", removed);
+  }
+
+  private List<CacheEntry> listEntries() {
+    List<CacheEntry> entries = new ArrayList<>();
+    if (!Files.isDirectory(directory)) {
+      return entries;
+    }
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.filter(path -> path.toString().endsWith(".json")).forEach(path -> {
+        try {
+          BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+          entries.add(new CacheEntry(path, attributes.size(), attributes.lastModifiedTime()));
+        } catch (IOException e) {
+          logger.debug("Entrada de cache removida durante a varredura: {}", path);
+        }
+      });
+    } catch (IOException e) {
+      logger.warn("Falha ao varrer diretório de cache {}: {}", directory, e.getMessage());
+    }
+    return entries;
+  }
+
+  private Path entryPath(String key) {
+    return directory.resolve(key.substring(0, 2)).resolve(key + ".json");
+  }
+
+  private String jarHash(Path validatorJar) {
+    try {
+      String fingerprint = validatorJar.toAbsolutePath() + ":" + Files.size(validatorJar) + ":"
+          + Files.getLastModifiedTime(validatorJar).toMillis();
+      return jarHashes.computeIfAbsent(fingerprint, k -> hashFile(validatorJar));
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Erro ao ler validador para o cache: " + validatorJar, e);
+    }
+  }
+
+  private String hashFile(Path file) {
+    MessageDigest digest = newDigest();
+    try {
+      updateFile(digest, file);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Erro ao ler validador para o cache: " + file, e);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static void updateFile(MessageDigest digest, Path file) throws IOException {
+    try (InputStream input = Files.newInputStream(file)) {
+      updateStream(digest, input);
+    }
+  }
+
+  private static void updateStream(MessageDigest digest, InputStream input) throws IOException {
+    byte[] buffer = new byte[65536];
+    int read;
+    while ((read = input.read(buffer)) != -1) {
+      digest.update(buffer, 0, read);
+    }
+  }
+
+  private static void updateLocalReferences(MessageDigest digest, ValidationContext context) {
+    List<String> references = new ArrayList<>();
+    Stream.of(context.getIgs(), context.getProfiles(), context.getResources())
+        .filter(values -> values != null)
+        .forEach(references::addAll);
+
+    for (String reference : references) {
+      if (reference.contains("://")) {
+        continue;
+      }
+      Path path = Paths.get(reference);
+      try {
+        if (Files.isRegularFile(path)) {
+          update(digest, "file", List.of(reference));
+          updateFile(digest, path);
+        } else if (Files.isDirectory(path)) {
+          update(digest, "directory", List.of(reference));
+          try (Stream<Path> entries = Files.walk(path)) {
+            for (Path entry : entries.filter(Files::isRegularFile).sorted().toList()) {
+              BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+              update(digest, entry.toString(), List.of(attributes.size() + ":"
+                  + attributes.lastModifiedTime().toMillis()));
+            }
+          }
+        }
+      } catch (IOException e) {
+        throw new IllegalArgumentException("Erro ao ler referência local para o cache: " + reference, e);
+      }
+    }
+  }
+
+  private static void update(MessageDigest digest, String field, List<String> values) {
+    digest.update((byte) 0);
+    digest.update(field.getBytes(StandardCharsets.UTF_8));
+    if (values != null) {
+      for (String value : values) {
+        digest.update((byte) '\n');
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+      }
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
+
+  private record CacheEntry(Path path, long size, FileTime lastUsed) {
+  }
+}
@@ -0,0 +1,263 @@
+package com.fut.backend.core.validator;
+
+import com.fut.backend.core.metrics.PipelineMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+@Component
+public class ValidatorAdmission {
+
+  private static final Logger logger = LoggerFactory.getLogger(ValidatorAdmission.class);
+  private static final long MB = 1024 * 1024;
+  private static final long RECLAIM_INTERVAL_MS = 100;
+
+  private final PipelineMetrics metrics;
+  private final List<String> jvmOptions = new ArrayList<>();
+  private final long processCostMb;
+  private final long memoryBudgetMb;
+  private final int cpuSlots;
+  private final long queueTimeoutMs;
+  private final Semaphore memory;
+  private final Semaphore cpus;
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger peakRunning = new AtomicInteger();
+  private final AtomicLong admitted = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong waitNanos = new AtomicLong();
+  private final AtomicLong peakRssKb = new AtomicLong();
+  private volatile BooleanSupplier memoryReclaimer = () -> false;
+
+  public ValidatorAdmission(PipelineMetrics metrics,
+      @Value("${fut.validator.jvm.max-heap-mb:1024}") long maxHeapMb,
+      @Value("${fut.validator.jvm.options:-XX:+UseSerialGC}") String options,
+      @Value("${fut.validator.admission.memory-budget-mb:0}") long memoryBudgetMb,
+      @Value("${fut.validator.admission.reserved-memory-mb:1024}") long reservedMemoryMb,
+      @Value("${fut.validator.admission.process-overhead-mb:256}") long processOverheadMb,
+      @Value("${fut.validator.admission.cpus-per-process:1}") int cpusPerProcess,
+      @Value("${fut.validator.admission.queue-timeout-ms:0}") long queueTimeoutMs) {
+    this.metrics = metrics;
+    if (maxHeapMb > 0) {
+      jvmOptions.add("-Xmx" + maxHeapMb + "m");
+    }
+    if (!options.isBlank()) {
+      jvmOptions.addAll(Arrays.asList(options.trim().split("\\s+")));
+    }
+
+    long budget = memoryBudgetMb > 0 ? memoryBudgetMb
+        : availableMemoryMb() - reservedMemoryMb - ownHeapGrowthMb();
+    this.processCostMb = Math.max(1, Math.max(maxHeapMb, 0) + processOverheadMb);
+    this.memoryBudgetMb = Math.max(budget, processCostMb);
+    this.cpuSlots = Math.max(1, Runtime.getRuntime().availableProcessors() / Math.max(1, cpusPerProcess));
+    this.queueTimeoutMs = queueTimeoutMs;
+    this.memory = new Semaphore((int) Math.min(Integer.MAX_VALUE, this.memoryBudgetMb), true);
+    this.cpus = new Semaphore(cpuSlots, true);
+
+    if (budget < processCostMb) {
+      logger.warn("Orçamento de memória ({} MB) menor que o custo de um validador ({} MB); executando um por vez",
+          budget, processCostMb);
+    }
+    logger.info("Admissão do validador: {} MB por processo, orçamento de {} MB, {} slot(s) de CPU "
+        + "(até {} processo(s) simultâneo(s))", processCostMb, this.memoryBudgetMb, cpuSlots, maxConcurrent());
+  }
+
+  public List<String> getJvmOptions() {
+    return jvmOptions;
+  }
+
+  void onMemoryShortage(BooleanSupplier reclaimer) {
+    this.memoryReclaimer = reclaimer;
+  }
+
+  public int maxConcurrent() {
+    return (int) Math.min(cpuSlots, memoryBudgetMb / processCostMb);
+  }
+
+  Permit admit(String testId) {
+    long startTime = System.nanoTime();
+    int memoryPermits = (int) processCostMb;
+    try {
+      if (!acquire(cpus, 1, startTime)) {
+        throw reject(testId);
+      }
+      if (!acquireMemory(memoryPermits, startTime)) {
+        cpus.release();
+        throw reject(testId);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Espera por recursos interrompida para teste " + testId, e);
+    }
+
+    waitNanos.addAndGet(System.nanoTime() - startTime);
+    metrics.record(PipelineMetrics.Phase.ADMISSION_WAIT, startTime);
+    admitted.incrementAndGet();
+    peakRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    return new Permit(memoryPermits, 1, true, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+  }
+
+  Permit tryReserveMemory() {
+    int memoryPermits = (int) processCostMb;
+    if (!memory.tryAcquire(memoryPermits)) {
+      return null;
+    }
+    admitted.incrementAndGet();
+    peakRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    return new Permit(memoryPermits, 0, true, 0);
+  }
+
+  Permit admitCpu(String testId) {
+    long startTime = System.nanoTime();
+    try {
+      if (!acquire(cpus, 1, startTime)) {
+        throw reject(testId);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Espera por recursos interrompida para teste " + testId, e);
+    }
+    waitNanos.addAndGet(System.nanoTime() - startTime);
+    metrics.record(PipelineMetrics.Phase.ADMISSION_WAIT, startTime);
+    return new Permit(0, 1, false, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+  }
+
+  void recordPeakRss(long rssKb) {
+    peakRssKb.accumulateAndGet(rssKb, Math::max);
+  }
+
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("jvm_options", jvmOptions);
+    statistics.put("process_cost_mb", processCostMb);
+    statistics.put("memory_budget_mb", memoryBudgetMb);
+    statistics.put("cpu_slots", cpuSlots);
+    statistics.put("max_concurrent_processes", maxConcurrent());
+    statistics.put("peak_concurrent_processes", peakRunning.get());
+    statistics.put("admitted", admitted.get());
+    statistics.put("rejected", rejected.get());
+    statistics.put("admission_wait_ms", TimeUnit.NANOSECONDS.toMillis(waitNanos.get()));
+    statistics.put("peak_rss_mb", peakRssKb.get() / 1024);
+    return statistics;
+  }
+
+  static long readPeakRssKb(long pid) {
+    long rssKb = readKb(Paths.get("/proc", String.valueOf(pid), "status"), "VmHWM:");
+    return Math.max(rssKb, 0);
+  }
+
+  private static long readKb(Path file, String field) {
+    try {
+      for (String line : Files.readAllLines(file)) {
+        if (line.startsWith(field)) {
+          return Long.parseLong(line.substring(field.length()).replace("kB", "").trim());
+        }
+      }
+    } catch (IOException | NumberFormatException e) {
+      logger.trace("{} indisponível em {}: {}", field, file, e.getMessage());
+    }
+    return -1;
+  }
+
+  private boolean acquire(Semaphore semaphore, int permits, long startTime) throws InterruptedException {
+    if (queueTimeoutMs <= 0) {
+      semaphore.acquire(permits);
+      return true;
+    }
+    long remainingMs = queueTimeoutMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    return semaphore.tryAcquire(permits, Math.max(0, remainingMs), TimeUnit.MILLISECONDS);
+  }
+
+  private boolean acquireMemory(int permits, long startTime) throws InterruptedException {
+    while (!memory.tryAcquire(permits)) {
+      if (memoryReclaimer.getAsBoolean()) {
+        continue;
+      }
+      long waitMs = RECLAIM_INTERVAL_MS;
+      if (queueTimeoutMs > 0) {
+        long remainingMs = queueTimeoutMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        if (remainingMs <= 0) {
+          return false;
+        }
+        waitMs = Math.min(waitMs, remainingMs);
+      }
+      if (memory.tryAcquire(permits, waitMs, TimeUnit.MILLISECONDS)) {
+        return true;
+      }
+    }
+    return true;
+  }
+
+  private IllegalStateException reject(String testId) {
+    rejected.incrementAndGet();
+    return new IllegalStateException("Recursos esgotados: teste " + testId + " aguardou mais de "
+        + queueTimeoutMs + " ms por memória/CPU para iniciar o validador");
+  }
+
+  private static long availableMemoryMb() {
+    Path meminfo = Paths.get("/proc/meminfo");
+    long availableKb = readKb(meminfo, "MemAvailable:");
+    if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+      long totalKb = readKb(meminfo, "MemTotal:");
+      boolean containerLimited = totalKb > 0 && os.getTotalMemorySize() / 1024 < totalKb;
+      if (availableKb < 0 || containerLimited) {
+        return os.getFreeMemorySize() / MB;
+      }
+    }
+    return availableKb >= 0 ? availableKb / 1024 : Runtime.getRuntime().maxMemory() / MB;
+  }
+
+  private static long ownHeapGrowthMb() {
+    Runtime runtime = Runtime.getRuntime();
+    long maxMemory = runtime.maxMemory();
+    return maxMemory == Long.MAX_VALUE ? 0 : Math.max(0, maxMemory - runtime.totalMemory()) / MB;
+  }
+
+  final class Permit implements AutoCloseable {
+    private final int memoryPermits;
+    private final int cpuPermits;
+    private final boolean process;
+    private final long waitMs;
+    private boolean released;
+
+    private Permit(int memoryPermits, int cpuPermits, boolean process, long waitMs) {
+      this.memoryPermits = memoryPermits;
+      this.cpuPermits = cpuPermits;
+      this.process = process;
+      this.waitMs = waitMs;
+    }
+
+    long getWaitMs() {
+      return waitMs;
+    }
+
+    @Override
+    public synchronized void close() {
+      if (released) {
+        return;
+      }
+      released = true;
+      if (process) {
+        running.decrementAndGet();
+      }
+      memory.release(memoryPermits);
+      cpus.release(cpuPermits);
+    }
+  }
+}
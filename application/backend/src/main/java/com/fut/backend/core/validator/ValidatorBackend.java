@@ -0,0 +1,18 @@
+package com.fut.backend.core.validator;
+
+import com.fut.backend.domain.TestCase;
+import com.fut.backend.domain.ValidationIssue;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ValidatorBackend {
+
+  String name();
+
+  String cacheIdentity();
+
+  List<List<ValidationIssue>> validate(List<TestCase> testCases, long deadlineNanos);
+
+  Map<String, Object> getStatistics();
+}
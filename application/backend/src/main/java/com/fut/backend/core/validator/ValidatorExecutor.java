@@ -1,96 +1,126 @@
 package com.fut.backend.core.validator;
 
+import com.fut.backend.core.reader.SuiteArchives;
 import com.fut.backend.domain.TestCase;
+import com.fut.backend.domain.ValidationIssue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 public class ValidatorExecutor {
   private static final Logger logger = LoggerFactory.getLogger(ValidatorExecutor.class);
-  private static final String VALIDATOR_PATH = "validator/validator_cli.jar";
 
-  public List<String> validate(TestCase testCase) {
-    File instanceFile = Paths.get(testCase.getInstancePath()).toFile();
-    logger.info("Tentando acessar arquivo JSON: {}", instanceFile.getAbsolutePath());
-    if (!instanceFile.exists() || !instanceFile.canRead()) {
-      throw new IllegalArgumentException("Arquivo de instância inválido: " + testCase.getInstancePath());
+  private final ProcessValidatorBackend processBackend;
+  private final ValidatorBackend backend;
+  private final ValidationResultCache resultCache;
+  private final SuiteArchives suiteArchives;
+  private final String fhirVersion;
+
+  public ValidatorExecutor(List<ValidatorBackend> backends,
+      ProcessValidatorBackend processBackend,
+      ValidationResultCache resultCache,
+      SuiteArchives suiteArchives,
+      @Value("${fut.validator.backend:process}") String backendName,
+      @Value("${fut.validator.fhir-version:4.0.1}") String fhirVersion) {
+    this.processBackend = processBackend;
+    this.backend = backends.stream()
+        .filter(candidate -> candidate.name().equals(backendName))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Backend do validador desconhecido: " + backendName
+            + " (disponíveis: " + backends.stream().map(ValidatorBackend::name).collect(Collectors.joining(", "))
+            + ")"));
+    this.resultCache = resultCache;
+    this.suiteArchives = suiteArchives;
+    this.fhirVersion = fhirVersion;
+    logger.info("Backend do validador: {}", backend.name());
+  }
+
+  public List<ValidationIssue> validate(TestCase testCase, long deadlineNanos) {
+    return validateBatch(List.of(testCase), deadlineNanos).get(0);
+  }
+
+  public List<List<ValidationIssue>> validateBatch(List<TestCase> batch, long deadlineNanos) {
+    batch.forEach(this::checkInstanceFile);
+
+    List<List<ValidationIssue>> outputs = new ArrayList<>(Collections.nCopies(batch.size(), null));
+    List<String> cacheKeys = new ArrayList<>(Collections.nCopies(batch.size(), null));
+    List<Integer> pending = new ArrayList<>();
+    for (int i = 0; i < batch.size(); i++) {
+      if (resultCache.isEnabled()) {
+        String cacheKey = resultCache.key(batch.get(i), fhirVersion, backend.cacheIdentity());
+        cacheKeys.set(i, cacheKey);
+        outputs.set(i, resultCache.get(cacheKey));
+      }
+      if (outputs.get(i) == null) {
+        pending.add(i);
+      }
+    }
+    if (pending.isEmpty()) {
+      return outputs;
     }
 
-    File validatorFile = new File(VALIDATOR_PATH);
-    if (!validatorFile.exists()) {
-      throw new IllegalArgumentException("Validador FHIR não encontrado: " + VALIDATOR_PATH);
+    List<List<ValidationIssue>> fresh = backend.validate(pending.stream().map(batch::get).toList(),
+        deadlineNanos);
+
+    for (int j = 0; j < pending.size(); j++) {
+      int i = pending.get(j);
+      outputs.set(i, fresh.get(j));
+      if (cacheKeys.get(i) != null) {
+        resultCache.put(cacheKeys.get(i), fresh.get(j));
+      }
     }
+    return outputs;
+  }
 
-    List<String> command = buildValidatorCommand(testCase);
-    return executeValidatorCommand(command, testCase.getId());
+  public List<String> prepare(String ig) {
+    return processBackend.prepare(ig);
   }
 
-  private List<String> buildValidatorCommand(TestCase testCase) {
-    List<String> command = new ArrayList<>();
-    command.add("java");
-    command.add("-jar");
-    command.add(VALIDATOR_PATH);
-    command.add("-version");
-    command.add("4.0.1");
-    command.add(testCase.getInstancePath());
-
-    if (testCase.getContext().getProfiles() != null && !testCase.getContext().getProfiles().isEmpty()) {
-      command.add("-profile");
-      command.add(String.join(",", testCase.getContext().getProfiles()));
-    }
+  public void prepareCore() {
+    processBackend.prepareCore();
+  }
 
-    if (testCase.getContext().getIgs() != null && !testCase.getContext().getIgs().isEmpty()) {
-      command.add("-ig");
-      command.add(String.join(",", testCase.getContext().getIgs()));
+  public void trainClassDataSharing(TestCase testCase) {
+    if (backend != processBackend) {
+      return;
     }
+    checkInstanceFile(testCase);
+    processBackend.trainClassDataSharing(testCase);
+  }
 
-    return command;
+  ProcessValidatorBackend.ProcessUsage takeUsage(String testId) {
+    return processBackend.takeUsage(testId);
   }
 
-  private List<String> executeValidatorCommand(List<String> command, String testId) {
-    List<String> output = new ArrayList<>();
-    Process process = null;
-    try {
-      ProcessBuilder processBuilder = new ProcessBuilder(command);
-      processBuilder.redirectErrorStream(true);
-      process = processBuilder.start();
-
-      try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-        String line;
-        while ((line = reader.readLine()) != null) {
-          output.add(line);
-        }
-      }
+  ValidatorWorkerKey batchKey(TestCase testCase) {
+    return ValidatorWorkerKey.of(fhirVersion, testCase.getContext());
+  }
 
-      if (!process.waitFor(30, TimeUnit.SECONDS)) {
-        process.destroy();
-        throw new IllegalStateException("Timeout na validação do teste: " + testId);
-      }
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("backend", backend.name());
+    statistics.putAll(backend.getStatistics());
+    statistics.putAll(resultCache.getStatistics());
+    return statistics;
+  }
 
-      int exitCode = process.exitValue();
-      if (exitCode != 0) {
-        throw new IllegalStateException(
-            "Validador retornou erro para teste " + testId + ": " + String.join("\n", output));
-      }
+  public Map<String, Object> getPreparationStatistics() {
+    return processBackend.getPreparationStatistics();
+  }
 
-    } catch (IOException | InterruptedException e) {
-      throw new IllegalArgumentException("Erro ao executar validador para teste " + testId + ": " + e.getMessage(), e);
-    } finally {
-      if (process != null) {
-        process.destroy();
-      }
+  private void checkInstanceFile(TestCase testCase) {
+    logger.debug("Tentando acessar arquivo JSON: {}", testCase.getInstancePath());
+    if (!suiteArchives.exists(testCase.getInstancePath())) {
+      throw new IllegalArgumentException("Arquivo de instância inválido: " + testCase.getInstancePath());
     }
-
-    return output;
   }
-}
\ No newline at end of file
+}
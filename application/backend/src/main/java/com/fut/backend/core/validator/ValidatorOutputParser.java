@@ -0,0 +1,45 @@
+package com.fut.backend.core.validator;
+
+import com.fut.backend.domain.ValidationIssue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class ValidatorOutputParser {
+
+  private static final Pattern ISSUE_LINE = Pattern.compile(
+      "^\\s*(Fatal|Error|Warning|Information)\\s+@\\s+(.*?)(?:\\s+\\(line\\s+(\\d+),\\s*col\\s*(\\d+)\\))?\\s*:\\s+(.*)$");
+
+  static List<ValidationIssue> parse(List<String> validatorOutput) {
+    List<ValidationIssue> issues = new ArrayList<>();
+    for (String line : validatorOutput) {
+      Matcher matcher = ISSUE_LINE.matcher(line);
+      if (!matcher.matches()) {
+        continue;
+      }
+
+      ValidationIssue issue = new ValidationIssue();
+      issue.setSeverity(severityOf(matcher.group(1)));
+      issue.setLocation(matcher.group(2));
+      if (matcher.group(3) != null) {
+        issue.setLine(Integer.valueOf(matcher.group(3)));
+        issue.setColumn(Integer.valueOf(matcher.group(4)));
+      }
+      issue.setMessage(matcher.group(5));
+      issue.setRawText(line.trim());
+      issues.add(issue);
+    }
+    return issues;
+  }
+
+  static ValidationIssue.Severity severityOf(String severity) {
+    return switch (severity.toLowerCase(Locale.ROOT)) {
+      case "fatal", "error" -> ValidationIssue.Severity.ERROR;
+      case "warning" -> ValidationIssue.Severity.WARNING;
+      default -> ValidationIssue.Severity.INFORMATION;
+    };
+  }
+}
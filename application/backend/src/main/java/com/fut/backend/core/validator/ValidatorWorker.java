@@ -0,0 +1,167 @@
+package com.fut.backend.core.validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+class ValidatorWorker {
+
+  private static final Logger logger = LoggerFactory.getLogger(ValidatorWorker.class);
+
+  private static final String END_OF_STREAM = new String("@@FUT-EOF@@");
+  private static final int QUEUED_LINES = 1024;
+
+  private final ValidatorWorkerKey key;
+  private final Process process;
+  private final ValidatorAdmission.Permit permit;
+  private final BufferedWriter input;
+  private final BlockingQueue<String> output = new LinkedBlockingQueue<>(QUEUED_LINES);
+  private long lastUsed;
+  private int servedRequests;
+
+  private ValidatorWorker(ValidatorWorkerKey key, Process process, ValidatorAdmission.Permit permit) {
+    this.key = key;
+    this.process = process;
+    this.permit = permit;
+    this.input = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    this.lastUsed = System.nanoTime();
+    Thread.ofVirtual().name("fut-worker-output").start(this::pump);
+  }
+
+  static ValidatorWorker start(ValidatorWorkerKey key, List<String> command, ValidatorAdmission.Permit permit,
+      long startupTimeoutMs) throws IOException {
+    ProcessBuilder processBuilder = new ProcessBuilder(command);
+    processBuilder.redirectErrorStream(true);
+    ValidatorWorker worker = new ValidatorWorker(key, processBuilder.start(), permit);
+    try {
+      worker.awaitReady(startupTimeoutMs);
+      return worker;
+    } catch (IOException e) {
+      worker.process.destroyForcibly();
+      throw e;
+    }
+  }
+
+  void validate(String instancePath, Path outputFile, long timeoutMs, int maxLines)
+      throws IOException, TimeoutException {
+    if (!process.isAlive()) {
+      throw new IOException("Worker do validador encerrado: " + key);
+    }
+
+    output.clear();
+    input.write(instancePath + "\t" + outputFile);
+    input.newLine();
+    input.flush();
+
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    String error = null;
+    long lines = 0;
+    try {
+      while (true) {
+        String line = output.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        if (line == null) {
+          throw new TimeoutException("Worker do validador não respondeu em " + timeoutMs + " ms: " + key);
+        }
+        if (line == END_OF_STREAM) {
+          throw new IOException("Worker do validador encerrou durante a validação: " + key);
+        }
+        if (line.equals(ValidatorWorkerMain.END_MARKER)) {
+          break;
+        }
+        if (line.startsWith(ValidatorWorkerMain.ERROR_MARKER)) {
+          error = line.substring(ValidatorWorkerMain.ERROR_MARKER.length()).trim();
+        }
+        lines++;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Validação no worker interrompida: " + key, e);
+    }
+
+    servedRequests++;
+    lastUsed = System.nanoTime();
+    if (error != null) {
+      throw new IOException("Worker do validador falhou: " + error);
+    }
+    if (lines > maxLines) {
+      throw new IOException("Saída do worker excedeu " + maxLines + " linha(s) (" + lines + "): " + key);
+    }
+  }
+
+  ValidatorWorkerKey getKey() {
+    return key;
+  }
+
+  long getLastUsed() {
+    return lastUsed;
+  }
+
+  boolean isWarm() {
+    return servedRequests > 0;
+  }
+
+  boolean isAlive() {
+    return process.isAlive();
+  }
+
+  void stop() {
+    process.destroyForcibly();
+    permit.close();
+  }
+
+  private void awaitReady(long timeoutMs) throws IOException {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    OutputRingBuffer diagnostics = new OutputRingBuffer(20);
+    try {
+      while (true) {
+        String line = output.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        if (line == null) {
+          throw new IOException("Worker do validador não ficou pronto em " + timeoutMs + " ms: " + key);
+        }
+        if (line == END_OF_STREAM) {
+          throw new IOException("Worker do validador encerrou ao iniciar: " + diagnostics);
+        }
+        if (line.equals(ValidatorWorkerMain.READY_MARKER)) {
+          return;
+        }
+        diagnostics.add(line);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Inicialização do worker interrompida: " + key, e);
+    }
+  }
+
+  private void pump() {
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+        StandardCharsets.UTF_8))) {
+      StringBuilder line = new StringBuilder();
+      int c;
+      while ((c = reader.read()) != -1) {
+        if (c == '\n') {
+          output.put(line.toString());
+          line.setLength(0);
+        } else if (c != '\r' && line.length() < OutputRingBuffer.MAX_LINE_LENGTH) {
+          line.append((char) c);
+        }
+      }
+    } catch (IOException e) {
+      logger.debug("Saída do worker do validador {} encerrada: {}", key, e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    output.offer(END_OF_STREAM);
+  }
+}
@@ -0,0 +1,14 @@
+package com.fut.backend.core.validator;
+
+import com.fut.backend.domain.ValidationContext;
+
+import java.util.List;
+
+record ValidatorWorkerKey(String fhirVersion, List<String> igs, List<String> profiles) {
+
+  static ValidatorWorkerKey of(String fhirVersion, ValidationContext context) {
+    List<String> igs = context.getIgs() != null ? List.copyOf(context.getIgs()) : List.of();
+    List<String> profiles = context.getProfiles() != null ? List.copyOf(context.getProfiles()) : List.of();
+    return new ValidatorWorkerKey(fhirVersion, igs, profiles);
+  }
+}
@@ -0,0 +1,184 @@
+package com.fut.backend.core.validator;
+
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class ValidatorWorkerMain {
+
+  static final String READY_MARKER = "@@FUT-READY@@";
+  static final String ERROR_MARKER = "@@FUT-ERROR@@";
+  static final String END_MARKER = "@@FUT-END@@";
+
+  private static final String ENGINE_BUILDER = "org.hl7.fhir.validation.ValidationEngine$ValidationEngineBuilder";
+  private static final String JSON_PARSER = "org.hl7.fhir.r5.formats.JsonParser";
+  private static final String DEFAULT_TX_SERVER = "http://tx.fhir.org";
+
+  private ValidatorWorkerMain() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    PrintStream protocol = new PrintStream(new FileOutputStream(FileDescriptor.out), true, StandardCharsets.UTF_8);
+    System.setOut(System.err);
+    if (args.length == 0) {
+      System.err.println("Uso: ValidatorWorkerMain <validator_cli.jar> [-version v] [-ig pacote]... "
+          + "[-profile url,...] [-tx servidor]");
+      System.exit(2);
+    }
+
+    Engine engine = Engine.load(Paths.get(args[0]), Arrays.asList(args).subList(1, args.length));
+    protocol.println(READY_MARKER);
+
+    BufferedReader requests = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+    String request;
+    while ((request = requests.readLine()) != null) {
+      int separator = request.indexOf('\t');
+      try {
+        if (separator < 0) {
+          throw new IllegalArgumentException("Requisição inválida (esperado '<instância>\\t<saída>'): " + request);
+        }
+        engine.validate(request.substring(0, separator), Paths.get(request.substring(separator + 1)));
+      } catch (Exception e) {
+        Throwable cause = e instanceof InvocationTargetException && e.getCause() != null ? e.getCause() : e;
+        protocol.println(ERROR_MARKER + " " + String.valueOf(cause.getMessage()).replace('\n', ' '));
+      }
+      protocol.println(END_MARKER);
+    }
+    System.exit(0);
+  }
+
+  private static final class Engine {
+
+    private final Object validationEngine;
+    private final Object jsonParser;
+    private final List<String> profiles;
+
+    private Engine(Object validationEngine, Object jsonParser, List<String> profiles) {
+      this.validationEngine = validationEngine;
+      this.jsonParser = jsonParser;
+      this.profiles = profiles;
+    }
+
+    static Engine load(Path validatorJar, List<String> arguments) throws ReflectiveOperationException, IOException {
+      String version = "4.0.1";
+      String txServer = DEFAULT_TX_SERVER;
+      List<String> igs = new ArrayList<>();
+      List<String> profiles = new ArrayList<>();
+      for (int i = 0; i < arguments.size(); i += 2) {
+        if (i + 1 >= arguments.size()) {
+          throw new IllegalArgumentException("Argumento sem valor: " + arguments.get(i));
+        }
+        String value = arguments.get(i + 1);
+        switch (arguments.get(i)) {
+          case "-version" -> version = value;
+          case "-ig" -> igs.add(value);
+          case "-profile" -> profiles.addAll(Arrays.asList(value.split(",")));
+          case "-tx" -> txServer = value;
+          default -> throw new IllegalArgumentException("Argumento não suportado pelo worker: " + arguments.get(i));
+        }
+      }
+
+      if (!Files.isRegularFile(validatorJar)) {
+        throw new IOException("Validador FHIR não encontrado: " + validatorJar);
+      }
+      ClassLoader loader = new URLClassLoader(new URL[] {validatorJar.toUri().toURL()},
+          ClassLoader.getPlatformClassLoader());
+      Thread.currentThread().setContextClassLoader(loader);
+
+      Object builder = loader.loadClass(ENGINE_BUILDER).getConstructor().newInstance();
+      builder = invoke(builder, "withVersion", version);
+      builder = txServer.equals("n/a")
+          ? invoke(builder, "withNoTerminologyServer")
+          : withTxServer(builder, txServer, version);
+      Object validationEngine = invoke(builder, "fromSource", corePackage(version));
+
+      Object igLoader = invoke(validationEngine, "getIgLoader");
+      for (String ig : igs) {
+        invoke(igLoader, "loadIg", invoke(validationEngine, "getIgs"), invoke(validationEngine, "getBinaries"), ig,
+            false);
+      }
+      Object jsonParser = loader.loadClass(JSON_PARSER).getConstructor().newInstance();
+      return new Engine(validationEngine, jsonParser, List.copyOf(profiles));
+    }
+
+    void validate(String instance, Path output) throws ReflectiveOperationException, IOException {
+      Object outcome = invoke(validationEngine, "validate", instance, profiles);
+      Files.writeString(output, (String) invoke(jsonParser, "composeString", outcome), StandardCharsets.UTF_8);
+    }
+
+    private static Object withTxServer(Object builder, String txServer, String version)
+        throws ReflectiveOperationException {
+      for (Method method : builder.getClass().getMethods()) {
+        if (!method.getName().equals("withTxServer")) {
+          continue;
+        }
+        Class<?>[] types = method.getParameterTypes();
+        Object[] values = new Object[types.length];
+        boolean serverSet = false;
+        for (int i = 0; i < types.length; i++) {
+          if (types[i] == String.class) {
+            values[i] = serverSet ? null : txServer;
+            serverSet = true;
+          } else if (types[i] == boolean.class) {
+            values[i] = false;
+          } else if (types[i].isEnum()) {
+            values[i] = types[i].getMethod("fromCode", String.class).invoke(null, version);
+          }
+        }
+        return method.invoke(builder, values);
+      }
+      System.err.println("Validador sem suporte a servidor de terminologia no worker; seguindo sem ele");
+      return builder;
+    }
+
+    private static String corePackage(String version) {
+      String release = version.startsWith("3.0") ? "r3"
+          : version.startsWith("4.0") ? "r4"
+          : version.startsWith("4.3") ? "r4b"
+          : version.startsWith("5.0") ? "r5"
+          : null;
+      if (release == null) {
+        throw new IllegalArgumentException("Versão FHIR não suportada pelo worker: " + version);
+      }
+      return "hl7.fhir." + release + ".core#" + version;
+    }
+
+    private static Object invoke(Object target, String name, Object... arguments)
+        throws ReflectiveOperationException {
+      for (Method method : target.getClass().getMethods()) {
+        if (method.getName().equals(name) && accepts(method.getParameterTypes(), arguments)) {
+          return method.invoke(target, arguments);
+        }
+      }
+      throw new NoSuchMethodException(target.getClass().getName() + "." + name + " com " + arguments.length
+          + " argumento(s)");
+    }
+
+    private static boolean accepts(Class<?>[] types, Object[] arguments) {
+      if (types.length != arguments.length) {
+        return false;
+      }
+      for (int i = 0; i < types.length; i++) {
+        Class<?> type = types[i] == boolean.class ? Boolean.class : types[i];
+        if (arguments[i] != null && !type.isInstance(arguments[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,213 @@
+package com.fut.backend.core.validator;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.ApplicationHome;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ValidatorWorkerPool {
+
+  private static final Logger logger = LoggerFactory.getLogger(ValidatorWorkerPool.class);
+
+  private static final String BOOT_LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+
+  private final ValidatorAdmission admission;
+  private final boolean enabled;
+  private final int maxSize;
+  private final int maxOutputLines;
+  private final long startupTimeoutMs;
+  private final String validatorPath;
+  private final List<String> customCommand;
+  private volatile String disabledReason;
+
+  private final Map<ValidatorWorkerKey, Deque<ValidatorWorker>> idleWorkers = new HashMap<>();
+  private int activeWorkers;
+
+  public ValidatorWorkerPool(ValidatorAdmission admission,
+      @Value("${fut.validator.worker.enabled:true}") boolean enabled,
+      @Value("${fut.validator.worker.max-size:4}") int maxSize,
+      @Value("${fut.validator.worker.max-output-lines:10000}") int maxOutputLines,
+      @Value("${fut.validator.worker.startup-timeout-seconds:180}") long startupTimeoutSeconds,
+      @Value("${fut.validator.jar:validator/validator_cli.jar}") String validatorPath,
+      @Value("${fut.validator.worker.command:}") String command) {
+    this.admission = admission;
+    this.enabled = enabled;
+    this.maxSize = maxSize;
+    this.maxOutputLines = maxOutputLines;
+    this.startupTimeoutMs = TimeUnit.SECONDS.toMillis(startupTimeoutSeconds);
+    this.validatorPath = validatorPath;
+    this.customCommand = command.isBlank() ? List.of() : Arrays.asList(command.trim().split("\\s+"));
+    admission.onMemoryShortage(this::evictIdleWorker);
+  }
+
+  public boolean isEnabled() {
+    return enabled && disabledReason == null;
+  }
+
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("enabled", isEnabled());
+    if (disabledReason != null) {
+      statistics.put("disabled_reason", disabledReason);
+    }
+    return statistics;
+  }
+
+  int getMaxOutputLines() {
+    return maxOutputLines;
+  }
+
+  ValidatorWorker borrow(ValidatorWorkerKey key, List<String> contextArguments) {
+    if (!isEnabled()) {
+      return null;
+    }
+
+    synchronized (this) {
+      Deque<ValidatorWorker> idle = idleWorkers.get(key);
+      while (idle != null && !idle.isEmpty()) {
+        ValidatorWorker worker = idle.pollLast();
+        if (worker.isAlive()) {
+          return worker;
+        }
+        activeWorkers--;
+      }
+
+      if (activeWorkers >= maxSize && !evictLeastRecentlyUsed()) {
+        return null;
+      }
+      activeWorkers++;
+    }
+
+    ValidatorAdmission.Permit permit = reserveMemory();
+    if (permit == null) {
+      logger.debug("Sem memória para novo worker do validador para {}; usando processo dedicado", key);
+      synchronized (this) {
+        activeWorkers--;
+      }
+      return null;
+    }
+
+    List<String> command = workerCommand();
+    command.addAll(contextArguments);
+    try {
+      logger.debug("Iniciando worker do validador para {}", key);
+      return ValidatorWorker.start(key, command, permit, startupTimeoutMs);
+    } catch (IOException e) {
+      disabledReason = e.getMessage();
+      logger.warn("Falha ao iniciar worker do validador; workers desabilitados, usando processo por teste: {}",
+          e.getMessage());
+      permit.close();
+      synchronized (this) {
+        activeWorkers--;
+      }
+      return null;
+    }
+  }
+
+  private ValidatorAdmission.Permit reserveMemory() {
+    while (true) {
+      ValidatorAdmission.Permit permit = admission.tryReserveMemory();
+      if (permit != null) {
+        return permit;
+      }
+      synchronized (this) {
+        if (!evictLeastRecentlyUsed()) {
+          return null;
+        }
+      }
+    }
+  }
+
+  private List<String> workerCommand() {
+    List<String> command = new ArrayList<>();
+    if (!customCommand.isEmpty()) {
+      command.addAll(customCommand);
+      if (isJavaExecutable(command.get(0))) {
+        command.addAll(1, admission.getJvmOptions());
+      }
+      return command;
+    }
+
+    command.add("java");
+    command.addAll(admission.getJvmOptions());
+    File source = new ApplicationHome(ValidatorWorkerMain.class).getSource();
+    if (source != null && source.isFile()) {
+      command.add("-Dloader.main=" + ValidatorWorkerMain.class.getName());
+      command.add("-cp");
+      command.add(source.getAbsolutePath());
+      command.add(BOOT_LAUNCHER);
+    } else {
+      command.add("-cp");
+      command.add(System.getProperty("java.class.path"));
+      command.add(ValidatorWorkerMain.class.getName());
+    }
+    command.add(validatorPath);
+    return command;
+  }
+
+  private static boolean isJavaExecutable(String executable) {
+    String name = executable.substring(executable.lastIndexOf('/') + 1);
+    return name.equals("java") || name.equals("java.exe");
+  }
+
+  synchronized void release(ValidatorWorker worker) {
+    idleWorkers.computeIfAbsent(worker.getKey(), k -> new ArrayDeque<>()).addLast(worker);
+  }
+
+  synchronized void discard(ValidatorWorker worker) {
+    worker.stop();
+    activeWorkers--;
+  }
+
+  synchronized boolean evictIdleWorker() {
+    return evictLeastRecentlyUsed();
+  }
+
+  private boolean evictLeastRecentlyUsed() {
+    ValidatorWorker eldest = null;
+    for (Deque<ValidatorWorker> idle : idleWorkers.values()) {
+      ValidatorWorker candidate = idle.peekFirst();
+      if (candidate != null && (eldest == null || candidate.getLastUsed() < eldest.getLastUsed())) {
+        eldest = candidate;
+      }
+    }
+    if (eldest == null) {
+      return false;
+    }
+
+    Deque<ValidatorWorker> idle = idleWorkers.get(eldest.getKey());
+    idle.pollFirst();
+    if (idle.isEmpty()) {
+      idleWorkers.remove(eldest.getKey());
+    }
+    logger.debug("Removendo worker ocioso do validador para {}", eldest.getKey());
+    eldest.stop();
+    activeWorkers--;
+    return true;
+  }
+
+  @PreDestroy
+  public synchronized void shutdown() {
+    for (Iterator<Deque<ValidatorWorker>> it = idleWorkers.values().iterator(); it.hasNext();) {
+      it.next().forEach(ValidatorWorker::stop);
+      it.remove();
+    }
+    activeWorkers = 0;
+  }
+}
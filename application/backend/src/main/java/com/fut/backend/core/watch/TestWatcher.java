@@ -0,0 +1,242 @@
+package com.fut.backend.core.watch;
+
+import com.fut.backend.core.TestManager;
+import com.fut.backend.core.reader.TestCaseReader;
+import com.fut.backend.domain.TestCase;
+import com.fut.backend.domain.TestResult;
+import com.fut.backend.domain.ValidationContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+@Component
+public class TestWatcher {
+
+  private static final Logger logger = LoggerFactory.getLogger(TestWatcher.class);
+
+  private final TestManager testManager;
+  private final TestCaseReader testCaseReader;
+  private final long debounceMs;
+
+  private final Set<Path> testFiles = new LinkedHashSet<>();
+  private final Map<Path, Set<String>> idsByFile = new HashMap<>();
+  private final Map<Path, Set<String>> dependents = new HashMap<>();
+  private final Map<String, String> definitions = new HashMap<>();
+  private final Map<String, TestResult> latestResults = new LinkedHashMap<>();
+  private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+  private Predicate<TestCase> selection = testCase -> true;
+
+  public TestWatcher(TestManager testManager, TestCaseReader testCaseReader,
+      @Value("${fut.watch.debounce-ms:300}") long debounceMs) {
+    this.testManager = testManager;
+    this.testCaseReader = testCaseReader;
+    this.debounceMs = debounceMs;
+  }
+
+  public void watch(List<String> initialFiles, Predicate<TestCase> selection) throws IOException,
+      InterruptedException {
+    this.selection = selection;
+    try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+      for (String file : initialFiles) {
+        Path path = normalize(file);
+        testFiles.add(path);
+        index(path);
+      }
+      registerDirectories(watchService);
+
+      run(testFiles, null);
+      logger.info("Modo watch ativo: {} arquivo(s) monitorado(s). Pressione Ctrl+C para sair.", dependents.size());
+
+      while (!Thread.currentThread().isInterrupted()) {
+        Set<Path> changed = awaitChanges(watchService);
+        if (!changed.isEmpty()) {
+          rerun(changed);
+          registerDirectories(watchService);
+        }
+      }
+    } catch (ClosedWatchServiceException e) {
+      logger.info("Modo watch encerrado");
+    }
+  }
+
+  private Set<Path> awaitChanges(WatchService watchService) throws InterruptedException {
+    Set<Path> changed = new LinkedHashSet<>();
+    WatchKey key = watchService.take();
+    while (key != null) {
+      Path directory = watchedDirectories.get(key);
+      for (WatchEvent<?> event : key.pollEvents()) {
+        if (event.kind() != StandardWatchEventKinds.OVERFLOW && directory != null) {
+          changed.add(directory.resolve((Path) event.context()).normalize());
+        }
+      }
+      if (!key.reset()) {
+        watchedDirectories.remove(key);
+      }
+      key = watchService.poll(debounceMs, TimeUnit.MILLISECONDS);
+    }
+    changed.removeIf(path -> !dependents.containsKey(path) && !isTestFile(path));
+    return changed;
+  }
+
+  private void rerun(Set<Path> changed) {
+    Set<String> affected = new HashSet<>();
+    boolean removedTests = false;
+    for (Path path : changed) {
+      if (isTestFile(path)) {
+        Set<String> previous = idsByFile.getOrDefault(path, Set.of());
+        Map<String, String> previousDefinitions = new HashMap<>(definitions);
+        if (Files.exists(path)) {
+          testFiles.add(path);
+          index(path);
+          for (String id : idsByFile.getOrDefault(path, Set.of())) {
+            if (!definitions.get(id).equals(previousDefinitions.get(id)) || !latestResults.containsKey(id)) {
+              affected.add(id);
+            }
+          }
+        } else {
+          testFiles.remove(path);
+          unindex(path);
+        }
+        Set<String> removed = new HashSet<>(previous);
+        removed.removeAll(idsByFile.getOrDefault(path, Set.of()));
+        removedTests |= !removed.isEmpty();
+        removed.forEach(id -> {
+          latestResults.remove(id);
+          definitions.remove(id);
+        });
+      } else {
+        affected.addAll(dependents.getOrDefault(path, Set.of()));
+      }
+    }
+
+    if (affected.isEmpty() && !removedTests) {
+      return;
+    }
+    Set<Path> files = new LinkedHashSet<>();
+    for (Path file : testFiles) {
+      if (idsByFile.getOrDefault(file, Set.of()).stream().anyMatch(affected::contains)) {
+        files.add(file);
+      }
+    }
+    logger.info("Alteração detectada em {} arquivo(s): reexecutando {} teste(s)", changed.size(), affected.size());
+    run(files, affected);
+  }
+
+  private void run(Set<Path> files, Set<String> ids) {
+    long startTime = System.nanoTime();
+    List<String> paths = files.stream().map(Path::toString).toList();
+    testManager.executeTests(paths,
+        testCase -> selection.test(testCase) && (ids == null || ids.contains(testCase.getId())), latestResults);
+
+    long failed = latestResults.values().stream()
+        .filter(result -> result.getDiscrepancies() != null && !result.getDiscrepancies().isEmpty())
+        .count();
+    logger.info("Execução concluída em {} ms: {} teste(s), {} com falha",
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), latestResults.size(), failed);
+  }
+
+  private void index(Path testFile) {
+    unindex(testFile);
+    Set<String> ids = new LinkedHashSet<>();
+    idsByFile.put(testFile, ids);
+    addDependent(testFile, null);
+
+    try {
+      testCaseReader.readTestCases(testFile.toString(), testCase -> {
+        ids.add(testCase.getId());
+        definitions.put(testCase.getId(), testCase.toString());
+        for (Path dependency : dependencies(testCase)) {
+          addDependent(dependency, testCase.getId());
+        }
+      });
+    } catch (Exception e) {
+      logger.error("Erro ao carregar arquivo {}: {}", testFile, e.getMessage());
+    }
+  }
+
+  private void unindex(Path testFile) {
+    Set<String> ids = idsByFile.remove(testFile);
+    if (ids != null) {
+      dependents.values().forEach(dependentIds -> dependentIds.removeAll(ids));
+      dependents.entrySet().removeIf(entry -> entry.getValue().isEmpty() && !testFiles.contains(entry.getKey()));
+    }
+  }
+
+  private List<Path> dependencies(TestCase testCase) {
+    List<Path> dependencies = new ArrayList<>();
+    dependencies.add(normalize(testCase.getInstancePath()));
+
+    ValidationContext context = testCase.getContext();
+    if (context != null) {
+      for (List<String> references : List.of(nullToEmpty(context.getProfiles()), nullToEmpty(context.getIgs()),
+          nullToEmpty(context.getResources()))) {
+        for (String reference : references) {
+          if (!reference.contains("://") && Files.exists(Paths.get(reference))) {
+            dependencies.add(normalize(reference));
+          }
+        }
+      }
+    }
+    return dependencies;
+  }
+
+  private void addDependent(Path file, String testId) {
+    Set<String> ids = dependents.computeIfAbsent(file, k -> new HashSet<>());
+    if (testId != null) {
+      ids.add(testId);
+    }
+  }
+
+  private void registerDirectories(WatchService watchService) {
+    Set<Path> directories = new HashSet<>(watchedDirectories.values());
+    for (Path file : dependents.keySet()) {
+      Path directory = Files.isDirectory(file) ? file : file.getParent();
+      if (directory != null && Files.isDirectory(directory) && directories.add(directory)) {
+        try {
+          WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+              StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+          watchedDirectories.put(key, directory);
+        } catch (IOException e) {
+          logger.warn("Não foi possível monitorar {}: {}", directory, e.getMessage());
+        }
+      }
+    }
+  }
+
+  private boolean isTestFile(Path path) {
+    String name = path.getFileName().toString().toLowerCase();
+    return (name.endsWith(".yml") || name.endsWith(".yaml"))
+        && (testFiles.contains(path)
+            || testFiles.stream().anyMatch(file -> file.getParent().equals(path.getParent())));
+  }
+
+  private static List<String> nullToEmpty(List<String> values) {
+    return values != null ? values : List.of();
+  }
+
+  private static Path normalize(String path) {
+    return Paths.get(path).toAbsolutePath().normalize();
+  }
+}
@@ -1,10 +1,10 @@
 package com.fut.backend.domain;
 
-import lombok.Data;
+import lombok.Value;
 
 import java.util.List;
 
-@Data
+@Value
 public class ExpectedResult {
   private String status;
   private List<String> errors;
@@ -1,8 +1,8 @@
 package com.fut.backend.domain;
 
-import lombok.Data;
+import lombok.Value;
 
-@Data
+@Value
 public class Invariant {
   private String expression;
   private Boolean expected;
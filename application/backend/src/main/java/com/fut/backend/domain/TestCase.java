@@ -2,6 +2,8 @@ package com.fut.backend.domain;
 
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 public class TestCase {
   private String id;
@@ -9,4 +11,12 @@ public class TestCase {
   private String instancePath;
   private ValidationContext context;
   private ExpectedResult expectedResult;
+  private Boolean preValidation;
+  private List<String> tags;
+
+  public void release() {
+    description = null;
+    expectedResult = null;
+    tags = List.of();
+  }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.fut.backend.domain;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TestResult {
+  private String testId;
+  private List<String> discrepancies;
+  private long validationTimeMs;
+  private long comparisonTimeMs;
+  private long validatorPeakRssKb;
+  private List<String> logs;
+}
@@ -1,10 +1,10 @@
 package com.fut.backend.domain;
 
-import lombok.Data;
+import lombok.Value;
 
 import java.util.List;
 
-@Data
+@Value
 public class ValidationContext {
   private List<String> igs;
   private List<String> profiles;
@@ -0,0 +1,19 @@
+package com.fut.backend.domain;
+
+import lombok.Data;
+
+@Data
+public class ValidationIssue {
+
+  public enum Severity {
+    ERROR, WARNING, INFORMATION
+  }
+
+  private Severity severity;
+  private String location;
+  private Integer line;
+  private Integer column;
+  private String messageId;
+  private String message;
+  private String rawText;
+}
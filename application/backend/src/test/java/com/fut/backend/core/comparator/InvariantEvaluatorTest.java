@@ -0,0 +1,68 @@
+package com.fut.backend.core.comparator;
+
+import com.fut.backend.core.fhirpath.FhirPathEngine;
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.domain.ExpectedResult;
+import com.fut.backend.domain.Invariant;
+import com.fut.backend.domain.TestCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvariantEvaluatorTest {
+
+  @TempDir
+  Path directory;
+
+  private final InvariantEvaluator evaluator = new InvariantEvaluator(new FhirPathEngine(), new SuiteArchives());
+
+  @Test
+  void evaluatesInvariantsAgainstSharedInstance() throws IOException {
+    Path instance = write("patient.json", "{\"resourceType\": \"Patient\", \"active\": true}");
+
+    assertEquals(List.of(), evaluator.evaluate(testCase(instance, "Patient.active", true)));
+    assertEquals(List.of("Invariant mismatch: Patient.active.not() expected true, got false"),
+        evaluator.evaluate(testCase(instance, "Patient.active.not()", true)));
+  }
+
+  @Test
+  void rereadsInstanceAfterItChanges() throws IOException {
+    Path instance = write("patient.json", "{\"resourceType\": \"Patient\", \"active\": true}");
+    assertEquals(List.of(), evaluator.evaluate(testCase(instance, "Patient.active", true)));
+
+    write("patient.json", "{\"resourceType\": \"Patient\", \"active\": false, \"gender\": \"female\"}");
+
+    assertEquals(List.of(), evaluator.evaluate(testCase(instance, "Patient.active", false)));
+  }
+
+  @Test
+  void reportsUnreadableInstanceAndInvalidExpression() throws IOException {
+    List<String> missing = evaluator.evaluate(testCase(directory.resolve("missing.json"), "Patient.active", true));
+    assertTrue(missing.get(0).startsWith("Invariant error:"), missing.toString());
+
+    Path instance = write("patient.json", "{\"resourceType\": \"Patient\"}");
+    List<String> invalid = evaluator.evaluate(testCase(instance, "Patient.(", true));
+    assertTrue(invalid.get(0).startsWith("Invariant error: Patient.(:"), invalid.toString());
+  }
+
+  private Path write(String name, String content) throws IOException {
+    return Files.writeString(directory.resolve(name), content);
+  }
+
+  private static TestCase testCase(Path instance, String expression, boolean expected) {
+    ExpectedResult expectedResult = new ExpectedResult("success", List.of(), List.of(), List.of(),
+        List.of(new Invariant(expression, expected)));
+    TestCase testCase = new TestCase();
+    testCase.setId("Patient-001");
+    testCase.setInstancePath(instance.toString());
+    testCase.setExpectedResult(expectedResult);
+    return testCase;
+  }
+}
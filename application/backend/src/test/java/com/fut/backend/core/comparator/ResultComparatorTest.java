@@ -0,0 +1,93 @@
+package com.fut.backend.core.comparator;
+
+import com.fut.backend.domain.ExpectedResult;
+import com.fut.backend.domain.ValidationIssue;
+import com.fut.backend.domain.ValidationIssue.Severity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResultComparatorTest {
+
+  @Test
+  void successWithoutListedMessagesIgnoresAllOk() {
+    ResultComparator comparator = new ResultComparator("");
+
+    List<String> discrepancies = comparator.compare(List.of(issue(Severity.INFORMATION, "All OK")),
+        expected("success", List.of(), List.of()));
+
+    assertEquals(List.of(), discrepancies);
+  }
+
+  @Test
+  void onlyUnlistedErrorsAreReportedByDefault() {
+    ResultComparator comparator = new ResultComparator("error");
+
+    List<String> discrepancies = comparator.compare(List.of(issue(Severity.ERROR, "dom-6"),
+        issue(Severity.ERROR, "Unknown code"), issue(Severity.WARNING, "Best practice")),
+        expected("failure", List.of("dom-6"), List.of()));
+
+    assertEquals(List.of("Unexpected error: Unknown code"), discrepancies);
+  }
+
+  @Test
+  void unlistedMessagesAreIgnoredWhenNoSeverityIsConfigured() {
+    ResultComparator comparator = new ResultComparator("");
+
+    List<String> discrepancies = comparator.compare(List.of(issue(Severity.ERROR, "dom-6"),
+        issue(Severity.WARNING, "Best practice")), expected("failure", List.of(), List.of()));
+
+    assertEquals(List.of(), discrepancies);
+  }
+
+  @Test
+  void reportsUnlistedMessagesOnlyForConfiguredSeverities() {
+    ResultComparator comparator = new ResultComparator("warning");
+
+    List<String> discrepancies = comparator.compare(List.of(issue(Severity.WARNING, "Best practice"),
+        issue(Severity.INFORMATION, "Note"), issue(Severity.INFORMATION, "All OK")),
+        expected("success", List.of(), List.of()));
+
+    assertEquals(List.of("Unexpected warning: Best practice"), discrepancies);
+  }
+
+  @Test
+  void reportsMissingExpectationsAndStatus() {
+    ResultComparator comparator = new ResultComparator("");
+
+    List<String> discrepancies = comparator.compare(List.of(issue(Severity.ERROR, "dom-6")),
+        expected("success", List.of(), List.of("Name missing")));
+
+    assertEquals(List.of("Status mismatch: expected success, got failure", "Missing warning: Name missing"),
+        discrepancies);
+  }
+
+  @Test
+  void reusesCompiledExpectationAcrossEqualResults() {
+    ResultComparator comparator = new ResultComparator("");
+    ExpectedResult first = expected("failure", List.of("dom-6"), List.of());
+    ExpectedResult second = expected("failure", List.of("dom-6"), List.of());
+
+    assertEquals(List.of(), comparator.compare(List.of(issue(Severity.ERROR, "dom-6")), first));
+    assertEquals(List.of(), comparator.compare(List.of(issue(Severity.ERROR, "dom-6")), second));
+  }
+
+  @Test
+  void rejectsUnknownSeverity() {
+    assertThrows(IllegalArgumentException.class, () -> new ResultComparator("fatal"));
+  }
+
+  private static ExpectedResult expected(String status, List<String> errors, List<String> warnings) {
+    return new ExpectedResult(status, errors, warnings, List.of(), List.of());
+  }
+
+  private static ValidationIssue issue(Severity severity, String message) {
+    ValidationIssue issue = new ValidationIssue();
+    issue.setSeverity(severity);
+    issue.setMessage(message);
+    return issue;
+  }
+}
@@ -0,0 +1,201 @@
+package com.fut.backend.core.fhirpath;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FhirPathEngineTest {
+
+  private static final String PATIENT = """
+      {
+        "resourceType": "Patient",
+        "active": true,
+        "gender": "female",
+        "birthDate": "1990-05-01",
+        "deceasedBoolean": false,
+        "name": [
+          {"use": "official", "family": "Silva", "given": ["Maria", "Clara"]},
+          {"use": "nickname", "given": ["Mari"]}
+        ],
+        "telecom": [],
+        "multipleBirthInteger": 2
+      }
+      """;
+
+  private final FhirPathEngine engine = new FhirPathEngine();
+  private final JsonNode patient;
+
+  FhirPathEngineTest() throws IOException {
+    patient = new ObjectMapper().readTree(PATIENT);
+  }
+
+  @Test
+  void multiplicationBindsTighterThanAddition() {
+    assertEquals("7", single("1 + 2 * 3"));
+    assertEquals("9", single("(1 + 2) * 3"));
+    assertEquals("0", single("2 - 1 - 1"));
+    assertEquals("1", single("-1 + 2"));
+    assertEquals("3", single("7 div 2"));
+    assertEquals("1", single("7 mod 2"));
+  }
+
+  @Test
+  void andBindsTighterThanOrAndImpliesIsLowest() {
+    assertTrue(bool("true or false and false"));
+    assertFalse(bool("(true or false) and false"));
+    assertTrue(bool("false implies false or false"));
+    assertTrue(bool("1 + 1 = 2 and 'a' & 'b' = 'ab'"));
+  }
+
+  @Test
+  void comparisonBindsTighterThanEquality() {
+    assertTrue(bool("1 < 2 = true"));
+    assertTrue(bool("Patient.name.given.count() > 2 and Patient.birthDate < @2000-01-01"));
+  }
+
+  @Test
+  void unionBindsTighterThanMembership() {
+    assertTrue(bool("'Mari' in Patient.name.given | Patient.name.family"));
+    assertTrue(bool("(1 | 2 | 3) contains 2"));
+    assertEquals(3, evaluate("1 | 2 | 2 | 3").size());
+  }
+
+  @Test
+  void emptyOperandsPropagateThroughOperators() {
+    assertEquals(List.of(), evaluate("Patient.missing = 1"));
+    assertEquals(List.of(), evaluate("{} != 1"));
+    assertEquals(List.of(), evaluate("{} < 1"));
+    assertEquals(List.of(), evaluate("Patient.missing + 1"));
+    assertEquals(List.of(), evaluate("{} in (1 | 2)"));
+    assertEquals(List.of(), evaluate("5 / 0"));
+    assertEquals(List.of(), evaluate("Patient.missing.not()"));
+    assertEquals("a", single("'a' & {}"));
+  }
+
+  @Test
+  void threeValuedLogicWithEmpty() {
+    assertEquals(List.of(), evaluate("{} and true"));
+    assertFalse(bool("{} and false"));
+    assertTrue(bool("{} or true"));
+    assertEquals(List.of(), evaluate("{} or false"));
+    assertEquals(List.of(), evaluate("{} xor true"));
+    assertTrue(bool("{} implies true"));
+    assertEquals(List.of(), evaluate("true implies {}"));
+    assertTrue(bool("false implies {}"));
+  }
+
+  @Test
+  void emptyResultEvaluatesToFalse() {
+    assertFalse(engine.compile("Patient.missing").evaluateBoolean(patient));
+    assertFalse(engine.compile("Patient.telecom").evaluateBoolean(patient));
+  }
+
+  @Test
+  void existsWhereAllAndCount() {
+    assertTrue(bool("Patient.name.exists()"));
+    assertFalse(bool("Patient.telecom.exists()"));
+    assertTrue(bool("Patient.telecom.empty()"));
+    assertTrue(bool("Patient.name.exists(use = 'nickname')"));
+    assertFalse(bool("Patient.name.exists(use = 'maiden')"));
+    assertEquals("Silva", single("Patient.name.where(use = 'official').family"));
+    assertEquals(List.of(), evaluate("Patient.name.where(use = 'maiden')"));
+    assertTrue(bool("Patient.name.all(given.exists())"));
+    assertFalse(bool("Patient.name.all(family.exists())"));
+    assertTrue(bool("Patient.telecom.all(false)"));
+    assertEquals("3", single("Patient.name.given.count()"));
+    assertEquals("0", single("Patient.telecom.count()"));
+    assertEquals("Clara", single("Patient.name.given.where($this.startsWith('C'))"));
+  }
+
+  @Test
+  void resolvesChoiceElementsAndRootType() {
+    assertFalse(bool("Patient.deceased"));
+    assertEquals("2", single("Patient.multipleBirth"));
+    assertEquals(List.of(), evaluate("Observation.status"));
+  }
+
+  @Test
+  void equalityComparesTypeAndValue() {
+    assertTrue(bool("1 = 1.0"));
+    assertFalse(bool("1 = '1'"));
+    assertFalse(bool("true = 'true'"));
+    assertFalse(bool("'Maria' = 'maria'"));
+    assertTrue(bool("Patient.gender = 'female'"));
+    assertTrue(bool("(1 | 2) = (1 | 2)"));
+    assertFalse(bool("(1 | 2) = (2 | 1)"));
+    assertFalse(bool("(1 | 2) = 1"));
+    assertTrue(bool("Patient.gender != 'male'"));
+  }
+
+  @Test
+  void equivalenceIgnoresCaseWhitespaceAndHandlesEmpty() {
+    assertTrue(bool("'Maria' ~ 'maria'"));
+    assertTrue(bool("'  Maria   Clara ' ~ 'maria clara'"));
+    assertTrue(bool("{} ~ {}"));
+    assertFalse(bool("{} ~ 1"));
+    assertTrue(bool("'a' !~ 'b'"));
+  }
+
+  @Test
+  void reportsSyntaxErrors() {
+    assertInvalid("Patient.name.where(");
+    assertInvalid("1 +");
+    assertInvalid("'unterminated");
+    assertInvalid("Patient.name)");
+    assertInvalid("Patient # name");
+    assertInvalid("$unknown");
+    assertInvalid("Patient.name.unknownFunction()");
+    assertInvalid("Patient.name.where()");
+    assertInvalid("Patient.name.ofType('HumanName')");
+  }
+
+  @Test
+  void reportsEvaluationErrors() {
+    assertThrows(IllegalStateException.class, () -> evaluate("Patient.name.given.single()"));
+    assertThrows(IllegalStateException.class, () -> evaluate("Patient.name.given < 'Z'"));
+    assertThrows(IllegalStateException.class, () -> evaluate("Patient.name.given.startsWith('M')"));
+    assertThrows(IllegalStateException.class, () -> evaluate("'abc' + 1 - 1"));
+    assertThrows(IllegalStateException.class, () -> engine.compile("Patient.name.given").evaluateBoolean(patient));
+  }
+
+  @Test
+  void cachesCompiledExpressions() {
+    FhirPathExpression first = engine.compile("Patient.name.exists()");
+
+    assertSame(first, engine.compile("Patient.name.exists()"));
+    assertEquals(1, engine.getCompiledCount());
+  }
+
+  private void assertInvalid(String expression) {
+    IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> engine.compile(expression));
+    assertTrue(error.getMessage().startsWith("Expressão FHIRPath inválida") || error.getMessage().contains("FHIRPath"),
+        error.getMessage());
+  }
+
+  private List<JsonNode> evaluate(String expression) {
+    return engine.compile(expression).evaluate(patient);
+  }
+
+  private String single(String expression) {
+    List<JsonNode> result = evaluate(expression);
+    assertEquals(1, result.size(), expression + " -> " + result);
+    return result.get(0).isNumber() ? result.get(0).decimalValue().stripTrailingZeros().toPlainString()
+        : result.get(0).asText();
+  }
+
+  private boolean bool(String expression) {
+    List<JsonNode> result = evaluate(expression);
+    assertEquals(1, result.size(), expression + " -> " + result);
+    assertTrue(result.get(0).isBoolean(), expression + " -> " + result);
+    return result.get(0).booleanValue();
+  }
+}
@@ -0,0 +1,72 @@
+package com.fut.backend.core.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RunHistoryTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void rollsSegmentsAfterSegmentRuns() throws IOException {
+    RunHistory history = history(2);
+    for (int i = 0; i < 5; i++) {
+      commit(history, i % 2 == 0);
+    }
+
+    assertTrue(Files.exists(directory.resolve("segment-000002.dat")));
+    TestTrend trend = history.query(10, List.of("Patient-001")).get(0);
+    assertEquals(5, trend.runs());
+    assertEquals(3, trend.passed());
+    assertEquals(4, trend.flips());
+  }
+
+  @Test
+  void keepsEarlierSegmentsWhenSegmentRunsGrows() throws IOException {
+    RunHistory small = history(1);
+    for (int i = 0; i < 3; i++) {
+      commit(small, true);
+    }
+
+    RunHistory large = history(10);
+    commit(large, false);
+    commit(large, true);
+
+    assertEquals(5L, large.countRuns());
+    assertEquals(List.of(5), large.query(10, null).stream().map(TestTrend::runs).toList());
+    assertEquals(4, large.query(10, null).get(0).passed());
+    assertTrue(Files.notExists(directory.resolve("segment-000003.dat")));
+  }
+
+  @Test
+  void startsNewSegmentWhenSegmentRunsShrinks() throws IOException {
+    RunHistory large = history(10);
+    for (int i = 0; i < 3; i++) {
+      commit(large, true);
+    }
+
+    commit(history(2), false);
+
+    assertTrue(Files.exists(directory.resolve("segment-000001.dat")));
+    assertEquals(4, history(2).query(10, List.of("Patient-001")).get(0).runs());
+  }
+
+  private RunHistory history(int segmentRuns) {
+    return new RunHistory(true, directory.toString(), segmentRuns);
+  }
+
+  private static void commit(RunHistory history, boolean passed) {
+    RunHistory.Run run = history.startRun();
+    run.record("Patient-001", passed, 100);
+    run.commit();
+  }
+}
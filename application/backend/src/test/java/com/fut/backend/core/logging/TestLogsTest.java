@@ -0,0 +1,50 @@
+package com.fut.backend.core.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestLogsTest {
+
+  @Test
+  void formatsLinesOnlyWhenKept() {
+    AtomicInteger formatted = new AtomicInteger();
+    TestLogs.open("Patient-001", 2);
+    TestLogs.open("Patient-002", 2);
+    for (int i = 0; i < 3; i++) {
+      String line = "linha " + i;
+      TestLogs.capture("Patient-001", () -> {
+        formatted.incrementAndGet();
+        return line;
+      }, System.nanoTime());
+      TestLogs.capture("Patient-002", () -> {
+        formatted.incrementAndGet();
+        return line;
+      }, System.nanoTime());
+    }
+
+    assertEquals(List.of(), TestLogs.close("Patient-001", false));
+    assertEquals(0, formatted.get());
+    assertEquals(List.of("linha 0", "linha 1", "... 1 linha(s) descartada(s)"), TestLogs.close("Patient-002", true));
+    assertEquals(2, formatted.get());
+  }
+
+  @Test
+  void attachesBatchLinesToEveryMember() {
+    TestLogs.open("Patient-003", 10);
+    TestLogs.open("Patient-004", 10);
+
+    try (TestLogs.Scope scope = TestLogs.scope(List.of("Patient-003", "Patient-004"))) {
+      assertTrue(TestLogs.capture("Patient-003,Patient-004", () -> "lote", System.nanoTime()));
+    }
+
+    assertFalse(TestLogs.capture("Patient-003,Patient-004", () -> "fora do lote", System.nanoTime()));
+    assertEquals(List.of("lote"), TestLogs.close("Patient-003", true));
+    assertEquals(List.of("lote"), TestLogs.close("Patient-004", true));
+  }
+}
@@ -0,0 +1,51 @@
+package com.fut.backend.core.packages;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IgPackageStoreTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void resolvesPreparedCorePackageOfflineAndSeedsValidatorCache() throws IOException {
+    Path core = directory.resolve("packages").resolve("hl7.fhir.r4.core#4.0.1").resolve("package");
+    Files.createDirectories(core.resolve("other"));
+    Files.writeString(core.resolve("package.json"), "{\"name\": \"hl7.fhir.r4.core\", \"version\": \"4.0.1\"}");
+    Files.writeString(core.resolve("other").resolve("spec.internals"), "{}");
+
+    IgPackage resolved = store(true).resolveCore("4.0");
+
+    assertEquals("hl7.fhir.r4.core#4.0.1", resolved.reference());
+    Path seeded = directory.resolve("validator-cache").resolve("hl7.fhir.r4.core#4.0.1").resolve("package");
+    assertEquals(Files.readString(core.resolve("package.json")), Files.readString(seeded.resolve("package.json")));
+    assertTrue(Files.exists(seeded.resolve("other").resolve("spec.internals")));
+    assertEquals(resolved, store(true).resolveCore("4.0.1"));
+  }
+
+  @Test
+  void requiresPreparedCorePackageOffline() {
+    IllegalStateException error = assertThrows(IllegalStateException.class, () -> store(true).resolveCore("5.0.0"));
+
+    assertTrue(error.getMessage().contains("hl7.fhir.r5.core#5.0.0"), error.getMessage());
+  }
+
+  @Test
+  void rejectsUnknownFhirVersion() {
+    assertThrows(IllegalArgumentException.class, () -> store(true).resolveCore("2.0"));
+  }
+
+  private IgPackageStore store(boolean offline) {
+    return new IgPackageStore(directory.resolve("packages").toString(), "http://127.0.0.1:9", offline,
+        directory.resolve("validator-cache").toString());
+  }
+}
@@ -0,0 +1,64 @@
+package com.fut.backend.core.prevalidation;
+
+import com.fut.backend.core.metrics.PipelineMetrics;
+import com.fut.backend.core.packages.IgPackageStore;
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.domain.TestCase;
+import com.fut.backend.domain.ValidationIssue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PreValidatorTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void forwardsStructuralFindingsToValidator() throws IOException {
+    PreValidator preValidator = preValidator();
+
+    List<ValidationIssue> issues = preValidator.check(testCase("""
+        {"resourceType": "Patient", "id": "", "active": null, "name": [{}], "identifier": [],
+         "contact": [null], "meta": {}}
+        """));
+
+    assertEquals(List.of(), issues);
+    assertEquals(0L, preValidator.getStatistics().get("rejected"));
+  }
+
+  @Test
+  void rejectsFatalDocuments() throws IOException {
+    assertEquals(List.of("FUT_PRE_JSON_SYNTAX"), messageIds("{\"resourceType\": \"Patient\", \"id\": }"));
+    assertEquals(List.of("FUT_PRE_JSON_SYNTAX"),
+        messageIds("{\"resourceType\": \"Patient\", \"name\": [{\"text\": \"a\", \"text\": \"b\"}]}"));
+    assertEquals(List.of("FUT_PRE_NOT_AN_OBJECT"), messageIds("[]"));
+    assertEquals(List.of("FUT_PRE_RESOURCE_TYPE_MISSING"), messageIds("{}"));
+    assertEquals(List.of("FUT_PRE_RESOURCE_TYPE_INVALID"), messageIds("{\"resourceType\": \"patient\"}"));
+  }
+
+  private List<String> messageIds(String json) throws IOException {
+    return preValidator().check(testCase(json)).stream().map(ValidationIssue::getMessageId).toList();
+  }
+
+  private PreValidator preValidator() {
+    return new PreValidator(new IgPackageStore(directory.resolve("packages").toString(), "http://127.0.0.1:9", true,
+        directory.resolve("validator-cache").toString()),
+        new PipelineMetrics(directory.resolve("metrics.prom").toString()), new SuiteArchives(), true, "4.0.1");
+  }
+
+  private TestCase testCase(String json) throws IOException {
+    Path instance = Files.createTempFile(directory, "instance-", ".json");
+    Files.writeString(instance, json);
+    TestCase testCase = new TestCase();
+    testCase.setId(instance.getFileName().toString());
+    testCase.setInstancePath(instance.toString());
+    return testCase;
+  }
+}
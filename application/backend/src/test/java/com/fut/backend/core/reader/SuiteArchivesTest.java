@@ -0,0 +1,97 @@
+package com.fut.backend.core.reader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuiteArchivesTest {
+
+  @TempDir
+  Path directory;
+
+  private final SuiteArchives archives = new SuiteArchives();
+
+  @Test
+  void streamsTarEntriesFromSpooledFile() throws IOException {
+    String large = "x".repeat(200_000);
+    Path archive = tarGz(Map.of(
+        "./suite/patient.yml", "test_id: Patient-001\ninstance_path: instances/patient.json\n",
+        "suite/instances/patient.json", "{\"resourceType\": \"Patient\"}",
+        "suite/instances/empty.json", "",
+        "suite/instances/large.json", large));
+
+    List<String> testFiles = archives.testFiles(archive);
+    assertEquals(List.of(archive.toAbsolutePath().normalize() + "!/suite/patient.yml"), testFiles);
+
+    String patient = archives.resolve(testFiles.get(0), "instances/patient.json");
+    assertTrue(archives.exists(patient));
+    assertEquals("{\"resourceType\": \"Patient\"}",
+        new String(archives.readAllBytes(patient), StandardCharsets.UTF_8));
+    assertEquals(0, archives.readAllBytes(archives.resolve(testFiles.get(0), "instances/empty.json")).length);
+
+    String largeEntry = archives.resolve(testFiles.get(0), "instances/large.json");
+    try (InputStream input = archives.open(largeEntry)) {
+      assertEquals(100_000L, input.skip(100_000));
+      assertEquals((int) 'x', input.read());
+      assertEquals(99_999, input.readAllBytes().length);
+      assertEquals(-1, input.read());
+    }
+    assertEquals(large, new String(archives.readAllBytes(largeEntry), StandardCharsets.UTF_8));
+
+    String missing = archives.resolve(testFiles.get(0), "instances/missing.json");
+    assertFalse(archives.exists(missing));
+    assertThrows(NoSuchFileException.class, () -> archives.open(missing));
+  }
+
+  @Test
+  void removesSpooledFileOnClose() throws IOException {
+    Path archive = tarGz(Map.of("suite/patient.yml", "test_id: Patient-001\n"));
+    String entry = archives.testFiles(archive).get(0);
+    Path temporary = archives.localFile(entry).getParent().getParent().getParent();
+    try (Stream<Path> files = Files.list(temporary)) {
+      assertEquals(1L, files.filter(file -> file.toString().endsWith(".entries")).count());
+    }
+
+    archives.close();
+
+    assertFalse(Files.exists(temporary));
+    assertEquals("test_id: Patient-001\n", new String(archives.readAllBytes(entry), StandardCharsets.UTF_8));
+    archives.close();
+  }
+
+  private Path tarGz(Map<String, String> entries) throws IOException {
+    Path archive = directory.resolve("suite.tar.gz");
+    try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(archive))) {
+      for (Map.Entry<String, String> entry : entries.entrySet()) {
+        byte[] content = entry.getValue().getBytes(StandardCharsets.UTF_8);
+        byte[] header = new byte[512];
+        byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(name, 0, header, 0, name.length);
+        byte[] size = String.format("%011o", content.length).getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(size, 0, header, 124, size.length);
+        header[156] = '0';
+        output.write(header);
+        output.write(content);
+        output.write(new byte[(512 - content.length % 512) % 512]);
+      }
+      output.write(new byte[1024]);
+    }
+    return archive;
+  }
+}
@@ -0,0 +1,202 @@
+package com.fut.backend.core.reader;
+
+import com.fut.backend.domain.TestCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestCaseReaderTest {
+
+  @TempDir
+  Path directory;
+
+  private final TestCaseReader reader = new TestCaseReader(new SuiteArchives());
+
+  @Test
+  void expandsMergeKeysWithExplicitKeysTakingPrecedence() throws IOException {
+    List<TestCase> testCases = load("""
+        - &defaults
+          test_id: Base
+          context:
+            profiles: [http://example.org/StructureDefinition/base]
+          expected_results:
+            status: success
+        - <<: *defaults
+          test_id: Patient-001
+          expected_results:
+            status: failure
+            errors: [id:dom-6]
+        """);
+
+    assertEquals(2, testCases.size());
+    TestCase merged = testCases.get(1);
+    assertEquals("Patient-001", merged.getId());
+    assertEquals(List.of("http://example.org/StructureDefinition/base"), merged.getContext().getProfiles());
+    assertEquals("failure", merged.getExpectedResult().getStatus());
+    assertEquals(List.of("id:dom-6"), merged.getExpectedResult().getErrors());
+  }
+
+  @Test
+  void mergesSequenceOfMappingsInOrder() throws IOException {
+    List<TestCase> testCases = load("""
+        - &first
+          test_id: First
+          description: from first
+        - &second
+          test_id: Second
+          description: from second
+          tags: [second]
+        - <<: [*first, *second]
+          test_id: Merged
+        """);
+
+    TestCase merged = testCases.get(2);
+    assertEquals("Merged", merged.getId());
+    assertEquals("from first", merged.getDescription());
+    assertEquals(List.of("second"), merged.getTags());
+  }
+
+  @Test
+  void keepsExplicitNullOverMergedValue() throws IOException {
+    List<TestCase> testCases = load("""
+        - &defaults
+          test_id: Base
+          pre_validation: true
+        - <<: *defaults
+          test_id: Override
+          pre_validation: ~
+        """);
+
+    assertEquals(Boolean.TRUE, testCases.get(0).getPreValidation());
+    assertNull(testCases.get(1).getPreValidation());
+  }
+
+  @Test
+  void quotedMergeKeyIsAnOrdinaryKey() throws IOException {
+    List<TestCase> testCases = load("""
+        test_id: Quoted
+        "<<": literal
+        """);
+
+    assertEquals("Quoted", testCases.get(0).getId());
+  }
+
+  @Test
+  void rejectsMergeKeyThatIsNotAMapping() throws IOException {
+    RuntimeException error = assertThrows(RuntimeException.class, () -> load("""
+        test_id: Broken
+        <<: scalar
+        """));
+
+    assertTrue(error.getMessage().contains("<<"), error.getMessage());
+  }
+
+  @Test
+  void resolvesAliasesToAnchoredValues() throws IOException {
+    List<TestCase> testCases = load("""
+        - test_id: Patient-001
+          context:
+            igs: &igs [hl7.fhir.br.core#1.0.0]
+            profiles: &profiles
+              - http://example.org/StructureDefinition/patient
+        - test_id: Patient-002
+          context:
+            igs: *igs
+            profiles: *profiles
+        """);
+
+    assertEquals(List.of("hl7.fhir.br.core#1.0.0"), testCases.get(1).getContext().getIgs());
+    assertEquals(testCases.get(0).getContext(), testCases.get(1).getContext());
+  }
+
+  @Test
+  void rejectsUndefinedAlias() {
+    RuntimeException error = assertThrows(RuntimeException.class, () -> load("""
+        test_id: Patient-001
+        tags: *missing
+        """));
+
+    assertTrue(error.getMessage().contains("missing"), error.getMessage());
+  }
+
+  @Test
+  void appliesSuiteHeaderToFollowingDocuments() throws IOException {
+    List<TestCase> testCases = load("""
+        suite:
+          tags: [patient]
+          pre_validation: true
+        ---
+        test_id: Patient-001
+        tags: [smoke]
+        ---
+        test_id: Patient-002
+        pre_validation: false
+        """);
+
+    assertEquals(2, testCases.size());
+    assertEquals(List.of("patient", "smoke"), testCases.get(0).getTags());
+    assertEquals(Boolean.TRUE, testCases.get(0).getPreValidation());
+    assertEquals(List.of("patient"), testCases.get(1).getTags());
+    assertEquals(Boolean.FALSE, testCases.get(1).getPreValidation());
+  }
+
+  @Test
+  void anchorsDoNotCrossDocuments() {
+    RuntimeException error = assertThrows(RuntimeException.class, () -> load("""
+        test_id: Patient-001
+        tags: &tags [smoke]
+        ---
+        test_id: Patient-002
+        tags: *tags
+        """));
+
+    assertTrue(error.getMessage().contains("tags"), error.getMessage());
+  }
+
+  @Test
+  void treatsPlainNullScalarsAsNull() throws IOException {
+    List<TestCase> testCases = load("""
+        test_id: Patient-001
+        pre_validation: ~
+        tags: [smoke, null, Null, NULL, ~, "null"]
+        expected_results:
+          errors:
+            -
+            - 'NULL'
+        """);
+
+    TestCase testCase = testCases.get(0);
+    assertNull(testCase.getPreValidation());
+    assertEquals(List.of("smoke", "null"), testCase.getTags());
+    assertEquals(List.of("NULL"), testCase.getExpectedResult().getErrors());
+  }
+
+  @Test
+  void skipsEmptyDocuments() throws IOException {
+    List<TestCase> testCases = load("""
+        ---
+        ~
+        ---
+        test_id: Patient-001
+        """);
+
+    assertEquals(1, testCases.size());
+    assertFalse(testCases.get(0).getInstancePath().isEmpty());
+  }
+
+  private List<TestCase> load(String yaml) throws IOException {
+    Path file = directory.resolve("suite.yml");
+    Files.writeString(file, yaml);
+    return reader.loadTestCases(file.toString());
+  }
+}
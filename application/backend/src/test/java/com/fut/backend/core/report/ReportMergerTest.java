@@ -0,0 +1,124 @@
+package com.fut.backend.core.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fut.backend.core.history.RunHistory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportMergerTest {
+
+  @TempDir
+  Path directory;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void mergesCompleteShards() throws IOException {
+    String first = report("first.json", 1, 2, "ids", "durations", "Patient-001", "Patient-002");
+    String second = report("second.jsonl", 2, 2, "ids", "durations", "Patient-003");
+
+    merger().merge(List.of(first, second));
+
+    JsonNode merged = merged();
+    assertEquals(List.of("Patient-001", "Patient-002", "Patient-003"), testIds(merged));
+    assertEquals(3, merged.path("total_tests").asInt());
+    assertEquals(1, merged.path("failed").asInt());
+    assertEquals("[]", merged.path("merge").path("missing_shards").toString());
+    assertEquals("[1,2]", merged.path("merge").path("shards").toString());
+  }
+
+  @Test
+  void reportsMissingShards() throws IOException {
+    String first = report("first.json", 1, 3, "ids", "durations", "Patient-001");
+    String third = report("third.json", 3, 3, "ids", "durations", "Patient-003");
+
+    IllegalStateException error = assertThrows(IllegalStateException.class,
+        () -> merger().merge(List.of(first, third)));
+
+    assertTrue(error.getMessage().contains("shards ausentes [2]"), error.getMessage());
+    assertEquals("[2]", merged().path("merge").path("missing_shards").toString());
+  }
+
+  @Test
+  void reportsDuplicateTestIdsAndShards() throws IOException {
+    String first = report("first.json", 1, 2, "ids", "durations", "Patient-001", "Patient-002");
+    String again = report("again.json", 1, 2, "ids", "durations", "Patient-002");
+    String second = report("second.json", 2, 2, "ids", "durations", "Patient-003");
+
+    IllegalStateException error = assertThrows(IllegalStateException.class,
+        () -> merger().merge(List.of(first, again, second)));
+
+    assertTrue(error.getMessage().contains("shards repetidos [1]"), error.getMessage());
+    assertTrue(error.getMessage().contains("1 test_id(s) duplicado(s)"), error.getMessage());
+    JsonNode merged = merged();
+    assertEquals(List.of("Patient-001", "Patient-002", "Patient-003"), testIds(merged));
+    assertEquals("[\"Patient-002\"]", merged.path("merge").path("duplicate_test_ids").toString());
+  }
+
+  @Test
+  void reportsFingerprintMismatches() throws IOException {
+    String first = report("first.json", 1, 2, "ids-a", "durations-a", "Patient-001");
+    String second = report("second.json", 2, 2, "ids-b", "durations-b", "Patient-002");
+
+    IllegalStateException error = assertThrows(IllegalStateException.class,
+        () -> merger().merge(List.of(first, second)));
+
+    assertTrue(error.getMessage().contains("conjuntos de testes diferentes"), error.getMessage());
+    assertTrue(error.getMessage().contains("históricos de duração diferentes"), error.getMessage());
+  }
+
+  @Test
+  void rejectsInputThatWouldBeOverwritten() throws IOException {
+    Files.createDirectories(directory.resolve("reports"));
+    String output = report("reports/test-report.json", 1, 1, "ids", "durations", "Patient-001");
+
+    assertThrows(IllegalArgumentException.class, () -> merger().merge(List.of(output)));
+  }
+
+  private ReportMerger merger() {
+    return new ReportMerger(new ReportGenerator(directory.resolve("reports").toString(), "json", false, 1000,
+        new TestDurationHistory(directory.resolve("durations.json").toString(), 5000),
+        new RunHistory(false, directory.resolve("history").toString(), 256)));
+  }
+
+  private JsonNode merged() throws IOException {
+    return objectMapper.readTree(directory.resolve("reports").resolve("test-report.json").toFile());
+  }
+
+  private static List<String> testIds(JsonNode report) {
+    List<String> testIds = new ArrayList<>();
+    report.path("tests").forEach(test -> testIds.add(test.path("test_id").asText()));
+    return testIds;
+  }
+
+  private String report(String name, int index, int count, String testIdsFingerprint, String durationsFingerprint,
+      String... testIds) throws IOException {
+    List<String> tests = new ArrayList<>();
+    for (String testId : testIds) {
+      boolean failed = testId.equals("Patient-002");
+      tests.add("{\"test_id\": \"" + testId + "\", \"status\": \"" + (failed ? "failure" : "success")
+          + "\", \"discrepancies\": [" + (failed ? "\"Missing error: dom-6\"" : "")
+          + "], \"validation_time_ms\": 100, \"comparison_time_ms\": 2}");
+    }
+    String shard = "{\"index\": " + index + ", \"count\": " + count + ", \"strategy\": \"duration\", "
+        + "\"test_ids_fingerprint\": \"" + testIdsFingerprint + "\", \"durations_fingerprint\": \""
+        + durationsFingerprint + "\"}";
+    String content = name.endsWith(".jsonl")
+        ? String.join("\n", tests) + "\n{\"summary\": {\"total_time_ms\": 500, \"shard\": " + shard + "}}\n"
+        : "{\"tests\": [" + String.join(", ", tests) + "], \"total_time_ms\": 500, \"shard\": " + shard + "}";
+    Path file = directory.resolve(name);
+    Files.writeString(file, content);
+    return file.toString();
+  }
+}
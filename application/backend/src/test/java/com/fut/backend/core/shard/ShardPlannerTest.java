@@ -0,0 +1,122 @@
+package com.fut.backend.core.shard;
+
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.core.reader.TestCaseReader;
+import com.fut.backend.core.report.TestDurationHistory;
+import com.fut.backend.domain.TestCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardPlannerTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void splitsByHashWhenNoDurationIsKnown() throws IOException {
+    List<String> testIds = IntStream.rangeClosed(1, 40).mapToObj(i -> String.format("Patient-%03d", i)).toList();
+    Path suite = suite(testIds);
+
+    Set<String> seen = new HashSet<>();
+    for (int index = 1; index <= 3; index++) {
+      ShardSelection selection = planner("{}").plan(List.of(suite.toString()), new Shard(index, 3), testCase -> true);
+      List<String> selected = selected(selection, testIds);
+
+      assertEquals("hash", selection.strategy());
+      assertNull(selection.durationsFingerprint());
+      for (String testId : selected) {
+        assertEquals(index, ShardPlanner.bucket(testId, 3), testId);
+        assertTrue(seen.add(testId), "teste em mais de um shard: " + testId);
+      }
+    }
+    assertEquals(Set.copyOf(testIds), seen);
+  }
+
+  @Test
+  void balancesShardsByEstimatedDuration() throws IOException {
+    List<String> testIds = List.of("A", "B", "C", "D", "E", "F");
+    Path suite = suite(testIds);
+    String durations = "{\"A\": 10, \"B\": 8, \"C\": 6, \"D\": 4, \"E\": 2, \"F\": 2}";
+
+    ShardSelection first = planner(durations).plan(List.of(suite.toString()), new Shard(1, 2), testCase -> true);
+    ShardSelection second = planner(durations).plan(List.of(suite.toString()), new Shard(2, 2), testCase -> true);
+
+    assertEquals("duration", first.strategy());
+    assertEquals(List.of("A", "D", "E"), selected(first, testIds));
+    assertEquals(List.of("B", "C", "F"), selected(second, testIds));
+    assertEquals(first.testIdsFingerprint(), second.testIdsFingerprint());
+    assertEquals(first.durationsFingerprint(), second.durationsFingerprint());
+  }
+
+  @Test
+  void usesUnknownTestsDefaultEstimateAndAppliesFilter() throws IOException {
+    List<String> testIds = List.of("A", "B", "C", "D");
+    Path suite = suite(testIds);
+
+    ShardSelection first = planner("{\"A\": 1}").plan(List.of(suite.toString()), new Shard(1, 2),
+        testCase -> !testCase.getId().equals("D"));
+    ShardSelection second = planner("{\"A\": 1}").plan(List.of(suite.toString()), new Shard(2, 2),
+        testCase -> !testCase.getId().equals("D"));
+
+    assertEquals(List.of("A", "B"), selected(first, testIds));
+    assertEquals(List.of("C"), selected(second, testIds));
+  }
+
+  @Test
+  void fingerprintsChangeWithTestsAndDurations() throws IOException {
+    List<String> testIds = List.of("A", "B", "C");
+    Path suite = suite(testIds);
+    ShardSelection base = planner("{\"A\": 10}").plan(List.of(suite.toString()), new Shard(1, 2), testCase -> true);
+
+    ShardSelection otherDurations = planner("{\"A\": 20}").plan(List.of(suite.toString()), new Shard(1, 2),
+        testCase -> true);
+    ShardSelection otherTests = planner("{\"A\": 10}").plan(List.of(suite.toString()), new Shard(1, 2),
+        testCase -> !testCase.getId().equals("C"));
+
+    assertEquals(base.testIdsFingerprint(), otherDurations.testIdsFingerprint());
+    assertNotEquals(base.durationsFingerprint(), otherDurations.durationsFingerprint());
+    assertNotEquals(base.testIdsFingerprint(), otherTests.testIdsFingerprint());
+  }
+
+  private ShardPlanner planner(String durations) throws IOException {
+    Path file = Files.createTempFile(directory, "durations-", ".json");
+    Files.writeString(file, durations);
+    return new ShardPlanner(new TestCaseReader(new SuiteArchives()), new TestDurationHistory(file.toString(), 5));
+  }
+
+  private Path suite(List<String> testIds) throws IOException {
+    StringBuilder yaml = new StringBuilder();
+    for (String testId : testIds) {
+      yaml.append("- test_id: ").append(testId).append('\n');
+    }
+    Path file = directory.resolve("suite.yml");
+    Files.writeString(file, yaml);
+    return file;
+  }
+
+  private static List<String> selected(ShardSelection selection, List<String> testIds) {
+    List<String> selected = new ArrayList<>();
+    for (String testId : testIds) {
+      TestCase testCase = new TestCase();
+      testCase.setId(testId);
+      if (selection.filter().test(testCase)) {
+        selected.add(testId);
+      }
+    }
+    return selected;
+  }
+}
@@ -0,0 +1,191 @@
+package com.fut.backend.core.validator;
+
+import com.fut.backend.core.metrics.PipelineMetrics;
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.domain.TestCase;
+import com.fut.backend.domain.ValidationContext;
+import com.fut.backend.domain.ValidationIssue;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpValidatorBackendTest {
+
+  private static final String OUTCOME = """
+      {"resourceType": "OperationOutcome", "issue": [{"severity": "error", "code": "invariant",
+        "diagnostics": "dom-6 failed", "expression": ["Patient.text"]}]}
+      """;
+
+  @TempDir
+  Path directory;
+
+  private HttpServer server;
+  private ExecutorService executor;
+  private volatile HttpHandler handler;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    executor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> handler.handle(exchange));
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  @Test
+  void readsOperationOutcomeFromOutcomeStatuses() throws IOException {
+    for (int status : List.of(200, 412, 422)) {
+      handler = exchange -> respond(exchange, status, OUTCOME);
+
+      List<List<ValidationIssue>> outputs = backend(4, 5000).validate(List.of(testCase("Patient")), deadline());
+
+      ValidationIssue issue = outputs.get(0).get(0);
+      assertEquals(ValidationIssue.Severity.ERROR, issue.getSeverity(), "HTTP " + status);
+      assertEquals("dom-6 failed", issue.getMessage());
+      assertEquals("Patient.text", issue.getLocation());
+    }
+  }
+
+  @Test
+  void rejectsStatusWithoutOperationOutcome() throws IOException {
+    handler = exchange -> respond(exchange, 500, "{\"error\": \"boom\"}");
+    HttpValidatorBackend backend = backend(4, 5000);
+
+    IllegalStateException error = assertThrows(IllegalStateException.class,
+        () -> backend.validate(List.of(testCase("Patient")), deadline()));
+
+    assertTrue(error.getMessage().contains("HTTP 500"), error.getMessage());
+    assertEquals(1L, backend.getStatistics().get("failures"));
+  }
+
+  @Test
+  void timesOutSlowRequests() throws IOException {
+    handler = exchange -> {
+      sleep(2000);
+      respond(exchange, 200, OUTCOME);
+    };
+    HttpValidatorBackend backend = backend(4, 200);
+
+    IllegalStateException error = assertThrows(IllegalStateException.class,
+        () -> backend.validate(List.of(testCase("Patient")), deadline()));
+
+    assertTrue(error.getMessage().startsWith("Timeout na validação do teste"), error.getMessage());
+    assertEquals(1L, backend.getStatistics().get("timeouts"));
+  }
+
+  @Test
+  void resolvesResourceTypeAndProfileParameters() throws IOException {
+    List<String> targets = new ArrayList<>();
+    List<String> bodies = new ArrayList<>();
+    handler = exchange -> {
+      synchronized (targets) {
+        targets.add(exchange.getRequestURI().getRawPath() + "?" + exchange.getRequestURI().getRawQuery());
+        bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+      }
+      respond(exchange, 200, OUTCOME);
+    };
+    TestCase testCase = testCase("Observation");
+    testCase.setContext(new ValidationContext(List.of(),
+        List.of("http://example.org/StructureDefinition/vital-signs", "br-core"), List.of()));
+
+    backend(4, 5000).validate(List.of(testCase), deadline());
+
+    assertEquals(List.of("/fhir/Observation/$validate?profile=http%3A%2F%2Fexample.org%2FStructureDefinition"
+        + "%2Fvital-signs&profile=br-core"), targets);
+    assertEquals(Files.readString(Path.of(testCase.getInstancePath())), bodies.get(0));
+  }
+
+  @Test
+  void holdsInFlightPermitUntilResponseBodyIsRead() throws IOException {
+    AtomicInteger active = new AtomicInteger();
+    AtomicInteger peak = new AtomicInteger();
+    handler = exchange -> {
+      peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+      exchange.getRequestBody().readAllBytes();
+      exchange.getResponseHeaders().set("Content-Type", "application/fhir+json");
+      exchange.sendResponseHeaders(200, 0);
+      OutputStream body = exchange.getResponseBody();
+      body.flush();
+      sleep(150);
+      active.decrementAndGet();
+      body.write(OUTCOME.getBytes(StandardCharsets.UTF_8));
+      body.close();
+    };
+    HttpValidatorBackend backend = backend(2, 5000);
+    List<TestCase> testCases = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      testCases.add(testCase("Patient"));
+    }
+
+    List<List<ValidationIssue>> outputs = backend.validate(testCases, deadline());
+
+    assertEquals(6, outputs.size());
+    assertEquals(2, backend.getStatistics().get("peak_in_flight"));
+    assertTrue(peak.get() <= 2, "servidor recebeu " + peak.get() + " requisições simultâneas");
+    assertEquals(6L, backend.getStatistics().get("requests"));
+  }
+
+  private HttpValidatorBackend backend(int maxInFlight, long timeoutMs) {
+    String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/fhir/{resourceType}/$validate";
+    return new HttpValidatorBackend(new PipelineMetrics(directory.resolve("metrics.prom").toString()),
+        new SuiteArchives(), url, maxInFlight, timeoutMs, 1000);
+  }
+
+  private TestCase testCase(String resourceType) throws IOException {
+    Path instance = Files.createTempFile(directory, resourceType, ".json");
+    Files.writeString(instance, "{\"resourceType\": \"" + resourceType + "\", \"id\": \"example\"}");
+    TestCase testCase = new TestCase();
+    testCase.setId(instance.getFileName().toString());
+    testCase.setInstancePath(instance.toString());
+    return testCase;
+  }
+
+  private static long deadline() {
+    return System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    exchange.getRequestBody().readAllBytes();
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/fhir+json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(bytes);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
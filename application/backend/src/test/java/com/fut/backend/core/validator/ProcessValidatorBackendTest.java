@@ -0,0 +1,85 @@
+package com.fut.backend.core.validator;
+
+import com.fut.backend.domain.ValidationIssue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProcessValidatorBackendTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void matchesOutcomesByNormalizedAbsolutePath() {
+    String patient = path("a/patient.json");
+    String otherPatient = path("b/patient.json");
+    String suffixed = path("a/my-patient.json");
+    List<ValidationIssue> first = issues("first");
+    List<ValidationIssue> second = issues("second");
+    List<ValidationIssue> third = issues("third");
+
+    Map<String, List<ValidationIssue>> issuesByPath = ProcessValidatorBackend.splitOutcomes(List.of(
+        new OperationOutcomeParser.Outcome(directory.resolve("b/./x/../patient.json").toString(), second),
+        new OperationOutcomeParser.Outcome(suffixed, third),
+        new OperationOutcomeParser.Outcome(patient, first)), List.of(patient, otherPatient, suffixed));
+
+    assertSame(first, issuesByPath.get(patient));
+    assertSame(second, issuesByPath.get(otherPatient));
+    assertSame(third, issuesByPath.get(suffixed));
+  }
+
+  @Test
+  void acceptsSingleOutcomeWithoutFile() {
+    String patient = path("patient.json");
+    List<ValidationIssue> issues = issues("single");
+
+    Map<String, List<ValidationIssue>> issuesByPath = ProcessValidatorBackend.splitOutcomes(
+        List.of(new OperationOutcomeParser.Outcome(null, issues)), List.of(patient));
+
+    assertEquals(Map.of(patient, issues), issuesByPath);
+  }
+
+  @Test
+  void rejectsOutcomesThatDoNotIdentifyOneInstance() {
+    String patient = path("a/patient.json");
+    String otherPatient = path("b/patient.json");
+    List<String> paths = List.of(patient, otherPatient);
+
+    assertRejected("duplicado", List.of(outcome(patient), outcome(patient), outcome(otherPatient)), paths);
+    assertRejected("não enviada", List.of(outcome(patient), outcome("patient.json")), paths);
+    assertRejected("não enviada", List.of(outcome(patient), outcome(path("c/b/patient.json"))), paths);
+    assertRejected("sem arquivo", List.of(outcome(patient), outcome(null)), paths);
+    assertRejected("sem OperationOutcome", List.of(outcome(patient)), paths);
+  }
+
+  private static void assertRejected(String reason, List<OperationOutcomeParser.Outcome> outcomes,
+      List<String> paths) {
+    IllegalStateException error = assertThrows(IllegalStateException.class,
+        () -> ProcessValidatorBackend.splitOutcomes(outcomes, paths));
+    assertTrue(error.getMessage().contains(reason), error.getMessage());
+  }
+
+  private String path(String relative) {
+    return directory.resolve(relative).toAbsolutePath().normalize().toString();
+  }
+
+  private static OperationOutcomeParser.Outcome outcome(String file) {
+    return new OperationOutcomeParser.Outcome(file, issues(file));
+  }
+
+  private static List<ValidationIssue> issues(String message) {
+    ValidationIssue issue = new ValidationIssue();
+    issue.setSeverity(ValidationIssue.Severity.ERROR);
+    issue.setMessage(message);
+    return List.of(issue);
+  }
+}
@@ -0,0 +1,76 @@
+package com.fut.backend.core.validator;
+
+import com.fut.backend.core.metrics.PipelineMetrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatorAdmissionTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void evictsIdleWorkerInsteadOfBlocking() throws Exception {
+    ValidatorAdmission admission = admission(0);
+    ValidatorAdmission.Permit idleWorker = admission.tryReserveMemory();
+    assertNotNull(idleWorker);
+    assertNull(admission.tryReserveMemory());
+    AtomicInteger evictions = new AtomicInteger();
+    admission.onMemoryShortage(() -> {
+      evictions.incrementAndGet();
+      idleWorker.close();
+      return true;
+    });
+
+    try (ValidatorAdmission.Permit permit = CompletableFuture.supplyAsync(() -> admission.admit("Patient-001"))
+        .get(5, TimeUnit.SECONDS)) {
+      assertNotNull(permit);
+    }
+    assertEquals(1, evictions.get());
+  }
+
+  @Test
+  void waitsForMemoryReleasedAfterShortage() throws Exception {
+    ValidatorAdmission admission = admission(0);
+    ValidatorAdmission.Permit busyWorker = admission.tryReserveMemory();
+    AtomicInteger evictions = new AtomicInteger();
+    admission.onMemoryShortage(() -> evictions.incrementAndGet() < 0);
+
+    CompletableFuture<ValidatorAdmission.Permit> waiting =
+        CompletableFuture.supplyAsync(() -> admission.admit("Patient-001"));
+    Thread.sleep(300);
+    assertFalse(waiting.isDone());
+    busyWorker.close();
+
+    try (ValidatorAdmission.Permit permit = waiting.get(5, TimeUnit.SECONDS)) {
+      assertNotNull(permit);
+    }
+    assertTrue(evictions.get() > 1, "reclaimer consultado " + evictions.get() + " vez(es)");
+  }
+
+  @Test
+  void rejectsAfterQueueTimeoutWhenNothingCanBeEvicted() {
+    ValidatorAdmission admission = admission(200);
+    ValidatorAdmission.Permit busyWorker = admission.tryReserveMemory();
+
+    assertThrows(IllegalStateException.class, () -> admission.admit("Patient-001"));
+    busyWorker.close();
+  }
+
+  private ValidatorAdmission admission(long queueTimeoutMs) {
+    return new ValidatorAdmission(new PipelineMetrics(directory.resolve("metrics.prom").toString()), 100, "", 150,
+        0, 0, 1, queueTimeoutMs);
+  }
+}
@@ -0,0 +1,55 @@
+package com.fut.benchmarks;
+
+import com.fut.backend.core.comparator.ResultComparator;
+import com.fut.backend.domain.ExpectedResult;
+import com.fut.backend.domain.ValidationIssue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsPrepend = "--enable-preview")
+public class ComparisonBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int issues;
+
+  private final ResultComparator resultComparator = new ResultComparator("error");
+  private final ResultComparator strictComparator = new ResultComparator("error,warning,information");
+  private List<ValidationIssue> validationIssues;
+  private ExpectedResult matchingExpectation;
+  private ExpectedResult emptyExpectation;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    validationIssues = SyntheticSuite.issues(issues);
+    matchingExpectation = SyntheticSuite.expectedResult(issues);
+    emptyExpectation = SyntheticSuite.expectedResult(0);
+  }
+
+  @Benchmark
+  public List<String> compareMatching() {
+    return resultComparator.compare(validationIssues, matchingExpectation);
+  }
+
+  @Benchmark
+  public List<String> compareUnexpected() {
+    return strictComparator.compare(validationIssues, emptyExpectation);
+  }
+}
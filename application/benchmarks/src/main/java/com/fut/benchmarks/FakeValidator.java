@@ -0,0 +1,144 @@
+package com.fut.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+public final class FakeValidator {
+
+  public static final String CONFIG_FILE = "fake-validator.properties";
+  private static final Set<String> VALUE_FLAGS = Set.of("-version", "-ig", "-profile", "-output", "-tx", "-defn",
+      "-sct", "-language", "-txLog");
+
+  private FakeValidator() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    Properties config = loadConfig();
+    long latencyMs = Long.parseLong(config.getProperty("latency.ms", "0"));
+    int issues = Integer.parseInt(config.getProperty("issues", "0"));
+
+    List<String> instances = new ArrayList<>();
+    String output = null;
+    for (int i = 0; i < args.length; i++) {
+      if (args[i].equals("-output") && i + 1 < args.length) {
+        output = args[++i];
+      } else if (VALUE_FLAGS.contains(args[i])) {
+        i++;
+      } else if (!args[i].startsWith("-")) {
+        instances.add(args[i]);
+      }
+    }
+
+    if (latencyMs > 0) {
+      Thread.sleep(latencyMs);
+    }
+    System.out.println("FHIR Validation tool (fake) - " + instances.size() + " instance(s)");
+    if (output != null) {
+      Files.writeString(Paths.get(output), outcome(instances, issues), StandardCharsets.UTF_8);
+    }
+  }
+
+  public static String severity(int index) {
+    return switch (index % 3) {
+      case 0 -> "error";
+      case 1 -> "warning";
+      default -> "information";
+    };
+  }
+
+  public static String message(int index) {
+    return "Synthetic issue " + index + " for element Patient.extension[" + index + "]";
+  }
+
+  public static String outcome(List<String> instances, int issues) {
+    if (instances.size() == 1) {
+      return operationOutcome(instances.get(0), issues);
+    }
+
+    StringBuilder bundle = new StringBuilder("{\"resourceType\":\"Bundle\",\"type\":\"collection\",\"entry\":[");
+    for (int i = 0; i < instances.size(); i++) {
+      if (i > 0) {
+        bundle.append(',');
+      }
+      bundle.append("{\"resource\":").append(operationOutcome(instances.get(i), issues)).append('}');
+    }
+    return bundle.append("]}").toString();
+  }
+
+  public static Path writeJar(Path target) throws IOException {
+    Manifest manifest = new Manifest();
+    manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+    manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, FakeValidator.class.getName());
+
+    String classFile = FakeValidator.class.getName().replace('.', '/') + ".class";
+    Files.createDirectories(target.toAbsolutePath().getParent());
+    try (OutputStream file = Files.newOutputStream(target);
+        JarOutputStream jar = new JarOutputStream(file, manifest);
+        InputStream bytes = FakeValidator.class.getClassLoader().getResourceAsStream(classFile)) {
+      if (bytes == null) {
+        throw new IOException("Classe do validador falso não encontrada: " + classFile);
+      }
+      jar.putNextEntry(new JarEntry(classFile));
+      bytes.transferTo(jar);
+      jar.closeEntry();
+    }
+    return target;
+  }
+
+  public static void writeConfig(Path jar, long latencyMs, int issues) throws IOException {
+    Files.writeString(jar.toAbsolutePath().getParent().resolve(CONFIG_FILE),
+        "latency.ms=" + latencyMs + "\nissues=" + issues + "\n", StandardCharsets.UTF_8);
+  }
+
+  private static String operationOutcome(String instance, int issues) {
+    StringBuilder outcome = new StringBuilder("{\"resourceType\":\"OperationOutcome\",\"extension\":[{\"url\":")
+        .append("\"http://hl7.org/fhir/StructureDefinition/operationoutcome-file\",\"valueString\":")
+        .append(quote(instance)).append("}],\"issue\":[");
+    for (int i = 0; i < issues; i++) {
+      if (i > 0) {
+        outcome.append(',');
+      }
+      outcome.append("{\"extension\":[")
+          .append("{\"url\":\"http://hl7.org/fhir/StructureDefinition/operationoutcome-issue-line\",")
+          .append("\"valueInteger\":").append(i + 1).append("},")
+          .append("{\"url\":\"http://hl7.org/fhir/StructureDefinition/operationoutcome-issue-col\",")
+          .append("\"valueInteger\":1},")
+          .append("{\"url\":\"http://hl7.org/fhir/StructureDefinition/operationoutcome-message-id\",")
+          .append("\"valueCode\":\"Synthetic_").append(i).append("\"}],")
+          .append("\"severity\":\"").append(severity(i)).append("\",\"code\":\"processing\",")
+          .append("\"details\":{\"text\":").append(quote(message(i))).append("},")
+          .append("\"expression\":[\"Patient.extension[").append(i).append("]\"]}");
+    }
+    return outcome.append("]}").toString();
+  }
+
+  private static String quote(String text) {
+    return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+
+  private static Properties loadConfig() throws IOException, URISyntaxException {
+    Properties config = new Properties();
+    Path location = Paths.get(FakeValidator.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    Path configFile = (Files.isDirectory(location) ? location : location.getParent()).resolve(CONFIG_FILE);
+    if (Files.exists(configFile)) {
+      try (InputStream input = Files.newInputStream(configFile)) {
+        config.load(input);
+      }
+    }
+    return config;
+  }
+}
@@ -0,0 +1,83 @@
+package com.fut.benchmarks;
+
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.core.reader.TestCaseReader;
+import com.fut.backend.domain.TestCase;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsPrepend = "--enable-preview")
+public class ModelHeapBenchmark {
+
+  @Param({"10000", "100000"})
+  private int testCases;
+
+  @Param({"0", "10"})
+  private int issuesPerCase;
+
+  private Path directory;
+  private String suite;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Heap {
+    public long bytesPerTestCase;
+    public long releasedBytesPerTestCase;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("fut-bench-heap-");
+    suite = SyntheticSuite.writeSuite(directory, testCases, issuesPerCase).toString();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    SyntheticSuite.delete(directory);
+  }
+
+  @Benchmark
+  public List<TestCase> retainSuite(Heap heap) {
+    TestCaseReader testCaseReader = new TestCaseReader(new SuiteArchives());
+    List<TestCase> retained = new ArrayList<>(testCases);
+    long before = usedHeap();
+    testCaseReader.readTestCases(suite, retained::add);
+    heap.bytesPerTestCase = (usedHeap() - before) / retained.size();
+
+    retained.forEach(TestCase::release);
+    heap.releasedBytesPerTestCase = (usedHeap() - before) / retained.size();
+    return retained;
+  }
+
+  private static long usedHeap() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+}
@@ -0,0 +1,106 @@
+package com.fut.benchmarks;
+
+import com.fut.backend.FutApplication;
+import com.fut.backend.core.TestManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsPrepend = "--enable-preview")
+public class PipelineBenchmark {
+
+  @Param({"200"})
+  private int testCases;
+
+  @Param({"10"})
+  private int issuesPerCase;
+
+  @Param({"0", "50"})
+  private long validatorLatencyMs;
+
+  @Param({"1", "10"})
+  private int batchSize;
+
+  @Param({"process", "http"})
+  private String backend;
+
+  private Path directory;
+  private List<String> testFiles;
+  private ConfigurableApplicationContext context;
+  private StubValidatorServer server;
+  private TestManager testManager;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("fut-bench-pipeline-");
+    testFiles = List.of(SyntheticSuite.writeSuite(directory, testCases, issuesPerCase).toString());
+    Path validatorJar = FakeValidator.writeJar(directory.resolve("validator").resolve("validator_cli.jar"));
+    FakeValidator.writeConfig(validatorJar, validatorLatencyMs, issuesPerCase);
+
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("fut.validator.jar", validatorJar.toString());
+    properties.put("fut.validator.batch.size", batchSize);
+    properties.put("fut.cache.enabled", false);
+    properties.put("fut.packages.directory", directory.resolve("packages").toString());
+    properties.put("fut.packages.offline", true);
+    properties.put("fut.report.directory", directory.resolve("reports").toString());
+    properties.put("fut.metrics.prometheus-file", directory.resolve("reports").resolve("metrics.prom").toString());
+    properties.put("fut.scheduling.history-file", directory.resolve("durations.json").toString());
+    properties.put("fut.validator.backend", backend);
+    if (backend.equals("http")) {
+      server = StubValidatorServer.start(validatorLatencyMs, issuesPerCase);
+      properties.put("fut.validator.http.url", server.url());
+    }
+
+    context = new SpringApplicationBuilder(FutApplication.class)
+        .web(WebApplicationType.NONE)
+        .bannerMode(Banner.Mode.OFF)
+        .logStartupInfo(false)
+        .properties(properties)
+        .run();
+    testManager = context.getBean(TestManager.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    if (context != null) {
+      context.close();
+    }
+    if (server != null) {
+      server.close();
+    }
+    SyntheticSuite.delete(directory);
+  }
+
+  @Benchmark
+  public void executeTests() {
+    testManager.executeTests(testFiles);
+  }
+}
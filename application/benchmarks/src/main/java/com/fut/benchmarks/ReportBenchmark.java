@@ -0,0 +1,72 @@
+package com.fut.benchmarks;
+
+import com.fut.backend.core.history.RunHistory;
+import com.fut.backend.core.report.ReportGenerator;
+import com.fut.backend.core.report.ReportSink;
+import com.fut.backend.core.report.TestDurationHistory;
+import com.fut.backend.domain.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsPrepend = "--enable-preview")
+public class ReportBenchmark {
+
+  @Param({"1000", "50000"})
+  private int results;
+
+  @Param({"json", "jsonl"})
+  private String format;
+
+  @Param({"false", "true"})
+  private boolean html;
+
+  private List<TestResult> testResults;
+  private Path directory;
+  private ReportGenerator reportGenerator;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    testResults = SyntheticSuite.results(results, 5);
+    directory = Files.createTempDirectory("fut-bench-report-");
+    reportGenerator = new ReportGenerator(directory.toString(), format, html, 1000,
+        new TestDurationHistory(directory.resolve("durations.json").toString(), 5000),
+        new RunHistory(false, directory.resolve("history").toString(), 256));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    SyntheticSuite.delete(directory);
+  }
+
+  @Benchmark
+  public void writeReport() {
+    ReportSink reportSink = reportGenerator.startReport();
+    for (TestResult result : testResults) {
+      reportSink.accept(result);
+    }
+    reportSink.close(Map.of());
+  }
+}
@@ -0,0 +1,54 @@
+package com.fut.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class ResultComparison {
+
+  private ResultComparison() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Uso: ResultComparison <base.json> <atual.json>");
+      System.exit(1);
+    }
+
+    Map<String, JsonNode> base = read(args[0]);
+    Map<String, JsonNode> current = read(args[1]);
+
+    System.out.printf(Locale.ROOT, "%-90s %14s %14s %9s%n", "benchmark", "base", "atual", "variação");
+    for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+      JsonNode before = base.get(entry.getKey());
+      double after = entry.getValue().path("score").asDouble();
+      String unit = entry.getValue().path("scoreUnit").asText();
+      if (before == null) {
+        System.out.printf(Locale.ROOT, "%-90s %14s %14.3f %9s  %s%n", entry.getKey(), "-", after, "novo", unit);
+        continue;
+      }
+      double previous = before.path("score").asDouble();
+      double change = previous == 0 ? 0 : (after - previous) / previous * 100;
+      System.out.printf(Locale.ROOT, "%-90s %14.3f %14.3f %+8.1f%%  %s%n", entry.getKey(), previous, after, change,
+          unit);
+    }
+  }
+
+  private static Map<String, JsonNode> read(String file) throws IOException {
+    Map<String, JsonNode> scores = new TreeMap<>();
+    for (JsonNode result : new ObjectMapper().readTree(Paths.get(file).toFile())) {
+      Map<String, String> params = new LinkedHashMap<>();
+      result.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+      String key = result.path("benchmark").asText().replace("com.fut.benchmarks.", "")
+          + (params.isEmpty() ? "" : " " + params);
+      scores.put(key, result.path("primaryMetric"));
+    }
+    return scores;
+  }
+}
@@ -0,0 +1,88 @@
+package com.fut.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class StubValidatorServer implements AutoCloseable {
+
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final long latencyMs;
+  private final int issues;
+  private final AtomicLong requests = new AtomicLong();
+
+  private StubValidatorServer(int port, long latencyMs, int issues) throws IOException {
+    this.latencyMs = latencyMs;
+    this.issues = issues;
+    this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    server.createContext("/", this::handle);
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  public static StubValidatorServer start(long latencyMs, int issues) throws IOException {
+    return new StubValidatorServer(0, latencyMs, issues);
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 1) {
+      System.err.println("Uso: StubValidatorServer <porta> [latência-ms] [issues]");
+      System.exit(1);
+    }
+    StubValidatorServer server = new StubValidatorServer(Integer.parseInt(args[0]),
+        args.length > 1 ? Long.parseLong(args[1]) : 0, args.length > 2 ? Integer.parseInt(args[2]) : 10);
+    System.out.println("Servidor de validação falso em: " + server.url());
+    Thread.currentThread().join();
+  }
+
+  public String url() {
+    return "http://localhost:" + server.getAddress().getPort() + "/fhir/{resourceType}/$validate";
+  }
+
+  public long getRequests() {
+    return requests.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!exchange.getRequestMethod().equals("POST") || !exchange.getRequestURI().getPath().endsWith("$validate")) {
+        exchange.sendResponseHeaders(404, -1);
+        return;
+      }
+      try (InputStream body = exchange.getRequestBody()) {
+        body.transferTo(OutputStream.nullOutputStream());
+      }
+      requests.incrementAndGet();
+      if (latencyMs > 0) {
+        Thread.sleep(latencyMs);
+      }
+
+      byte[] outcome = FakeValidator.outcome(List.of(exchange.getRequestURI().getPath()), issues)
+          .getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/fhir+json");
+      exchange.sendResponseHeaders(issues > 0 ? 412 : 200, outcome.length);
+      try (OutputStream response = exchange.getResponseBody()) {
+        response.write(outcome);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.fut.benchmarks;
+
+import com.fut.backend.domain.ExpectedResult;
+import com.fut.backend.domain.TestResult;
+import com.fut.backend.domain.ValidationIssue;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+public final class SyntheticSuite {
+
+  private SyntheticSuite() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Uso: SyntheticSuite <diretório> <casos> [issues-por-caso]");
+      System.exit(1);
+    }
+    Path directory = Paths.get(args[0]);
+    int testCases = Integer.parseInt(args[1]);
+    int issues = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+    Path suite = writeSuite(directory, testCases, issues);
+    Files.writeString(directory.resolve("outcome.json"),
+        FakeValidator.outcome(List.of(directory.resolve("instances/case-0.json").toString()), issues));
+    System.out.println("Suíte gerada: " + suite);
+  }
+
+  public static Path writeSuite(Path directory, int testCases, int issuesPerCase) throws IOException {
+    Path instances = directory.resolve("instances");
+    Files.createDirectories(instances);
+    Path suite = directory.resolve("suite.yml");
+
+    try (BufferedWriter writer = Files.newBufferedWriter(suite, StandardCharsets.UTF_8)) {
+      for (int i = 0; i < testCases; i++) {
+        String id = "case-" + i;
+        Files.writeString(instances.resolve(id + ".json"), instance(id), StandardCharsets.UTF_8);
+
+        writer.write("---\n");
+        writer.write("test_id: " + id + "\n");
+        writer.write("description: Caso sintético " + i + "\n");
+        writer.write("instance_path: instances/" + id + ".json\n");
+        writer.write("context:\n");
+        writer.write("  profiles:\n");
+        writer.write("    - http://hl7.org/fhir/StructureDefinition/Patient\n");
+        writer.write("expected_results:\n");
+        writer.write("  status: " + (issuesPerCase > 0 ? "failure" : "success") + "\n");
+        ExpectedResult expected = expectedResult(issuesPerCase);
+        writeList(writer, "errors", expected.getErrors());
+        writeList(writer, "warnings", expected.getWarnings());
+        writeList(writer, "informations", expected.getInformations());
+        writer.write("  invariants:\n");
+        writer.write("    - expression: \"name.where(use = 'official').exists()\"\n");
+        writer.write("      expected: true\n");
+      }
+    }
+    return suite;
+  }
+
+  public static List<ValidationIssue> issues(int count) {
+    List<ValidationIssue> issues = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ValidationIssue issue = new ValidationIssue();
+      issue.setSeverity(ValidationIssue.Severity.valueOf(FakeValidator.severity(i).toUpperCase(Locale.ROOT)));
+      issue.setLocation("Patient.extension[" + i + "]");
+      issue.setLine(i + 1);
+      issue.setColumn(1);
+      issue.setMessageId("Synthetic_" + i);
+      issue.setMessage(FakeValidator.message(i));
+      issues.add(issue);
+    }
+    return issues;
+  }
+
+  public static ExpectedResult expectedResult(int issuesPerCase) {
+    List<String> errors = new ArrayList<>();
+    List<String> warnings = new ArrayList<>();
+    List<String> informations = new ArrayList<>();
+
+    for (int i = 0; i < issuesPerCase; i++) {
+      List<String> target = switch (FakeValidator.severity(i)) {
+        case "error" -> errors;
+        case "warning" -> warnings;
+        default -> informations;
+      };
+      target.add(switch (i % 4) {
+        case 1 -> "glob:Synthetic issue " + i + " for *";
+        case 2 -> "regex:issue " + i + " for element";
+        case 3 -> "id:Synthetic_" + i;
+        default -> FakeValidator.message(i);
+      });
+    }
+
+    return new ExpectedResult(issuesPerCase > 0 ? "failure" : "success", List.copyOf(errors),
+        List.copyOf(warnings), List.copyOf(informations), List.of());
+  }
+
+  public static List<TestResult> results(int count, int discrepanciesPerFailure) {
+    List<TestResult> results = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      TestResult result = new TestResult();
+      result.setTestId("case-" + i);
+      List<String> discrepancies = new ArrayList<>();
+      if (i % 10 == 0) {
+        for (int d = 0; d < discrepanciesPerFailure; d++) {
+          discrepancies.add("Missing error: " + FakeValidator.message(d));
+        }
+      }
+      result.setDiscrepancies(discrepancies);
+      result.setValidationTimeMs(100 + i % 50);
+      result.setComparisonTimeMs(i % 3);
+      results.add(result);
+    }
+    return results;
+  }
+
+  public static void delete(Path directory) throws IOException {
+    if (directory == null || !Files.exists(directory)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  private static void writeList(BufferedWriter writer, String field, List<String> values) throws IOException {
+    if (values.isEmpty()) {
+      writer.write("  " + field + ": []\n");
+      return;
+    }
+    writer.write("  " + field + ":\n");
+    for (String value : values) {
+      writer.write("    - '" + value.replace("'", "''") + "'\n");
+    }
+  }
+
+  private static String instance(String id) {
+    return """
+        {
+          "resourceType": "Patient",
+          "id": "%s",
+          "active": true,
+          "name": [{ "use": "official", "family": "Silva", "given": ["Ana"] }],
+          "gender": "female",
+          "birthDate": "1990-01-01"
+        }
+        """.formatted(id);
+  }
+}
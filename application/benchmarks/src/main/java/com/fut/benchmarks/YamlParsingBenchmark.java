@@ -0,0 +1,58 @@
+package com.fut.benchmarks;
+
+import com.fut.backend.core.reader.SuiteArchives;
+import com.fut.backend.core.reader.TestCaseReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsPrepend = "--enable-preview")
+public class YamlParsingBenchmark {
+
+  @Param({"1000", "10000"})
+  private int testCases;
+
+  @Param({"10"})
+  private int issuesPerCase;
+
+  private final TestCaseReader testCaseReader = new TestCaseReader(new SuiteArchives());
+  private Path directory;
+  private String suite;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("fut-bench-yaml-");
+    suite = SyntheticSuite.writeSuite(directory, testCases, issuesPerCase).toString();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    SyntheticSuite.delete(directory);
+  }
+
+  @Benchmark
+  public void readSuite(Blackhole blackhole) {
+    testCaseReader.readTestCases(suite, blackhole::consume);
+  }
+}